@@ -0,0 +1,88 @@
+package com.markosindustries.parquito.encoding;
+
+import com.clearspring.analytics.util.Varint;
+import java.io.DataInput;
+import java.io.IOException;
+
+/**
+ * The RLE/Bit-Packing Hybrid decoder as it was before {@link RLEIntEncoding} decoded straight from
+ * the page's buffer - reading the runs a byte at a time through a {@link DataInput}. Kept only as a
+ * baseline for {@link RLEIntEncodingBenchmark}.
+ */
+class ByteAtATimeRLEIntDecoder {
+  private static final int HEADER_FLAG_BIT_PACKED = 1;
+
+  static int[] decode(final int expectedValues, final int bitWidth, final DataInput dataInput)
+      throws IOException {
+    final var values = new int[expectedValues];
+    for (int index = 0; index < expectedValues; ) {
+      index += decodeNextRun(values, index, bitWidth, dataInput);
+    }
+    return values;
+  }
+
+  private static int decodeNextRun(
+      final int[] values, final int offset, final int bitWidth, final DataInput dataInput)
+      throws IOException {
+    final var header = Varint.readUnsignedVarInt(dataInput);
+    if ((header & HEADER_FLAG_BIT_PACKED) == HEADER_FLAG_BIT_PACKED) {
+      return decodeBitPackedRun(values, offset, (header >>> 1) << 3, bitWidth, dataInput);
+    } else {
+      return decodeRepeatedRun(values, offset, header >>> 1, bitWidth, dataInput);
+    }
+  }
+
+  private static int decodeBitPackedRun(
+      final int[] values,
+      final int offset,
+      final int runLength,
+      final int bitWidth,
+      final DataInput dataInput)
+      throws IOException {
+    final var expectedValues = Math.min(values.length - offset, runLength);
+    final long mask = Maths.longMaskLowerBits(bitWidth);
+    long buffer = 0;
+    int bitsAvailable = 0;
+    for (int i = 0; i < expectedValues; i++) {
+      while (bitsAvailable < bitWidth) {
+        buffer |= ((long) dataInput.readUnsignedByte()) << bitsAvailable;
+        bitsAvailable += 8;
+      }
+      int next = (int) (buffer & mask);
+      buffer >>>= bitWidth;
+      bitsAvailable -= bitWidth;
+
+      values[offset + i] = next;
+    }
+
+    // The encoding demands runLength values, even if we don't need that many
+    for (int wastedBits = bitWidth * (runLength - expectedValues);
+        wastedBits > 7;
+        wastedBits -= 8) {
+      dataInput.readUnsignedByte();
+    }
+
+    return expectedValues;
+  }
+
+  private static int decodeRepeatedRun(
+      final int[] values,
+      final int offset,
+      final int runLength,
+      final int bitWidth,
+      final DataInput dataInput)
+      throws IOException {
+    final var expectedValues = Math.min(values.length - offset, runLength);
+
+    int repeatedValue = 0;
+    for (int shift = 0; shift < bitWidth; shift += 8) {
+      repeatedValue |= (dataInput.readUnsignedByte() << shift);
+    }
+
+    for (int i = 0; i < expectedValues; i++) {
+      values[offset + i] = repeatedValue;
+    }
+
+    return expectedValues;
+  }
+}
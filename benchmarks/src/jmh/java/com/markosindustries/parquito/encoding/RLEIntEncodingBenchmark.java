@@ -0,0 +1,100 @@
+package com.markosindustries.parquito.encoding;
+
+import com.markosindustries.parquito.ByteBufferInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decodes a page of RLE/Bit-Packing Hybrid runs with {@link RLEIntEncoding}, against the byte at a
+ * time decoder it replaced ({@link ByteAtATimeRLEIntDecoder}). The runs are either all bit-packed,
+ * or a mix of bit-packed and repeated runs - like the levels of a column with some nulls.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RLEIntEncodingBenchmark {
+  private static final int VALUES = 64 * 1024;
+
+  @Param({"1", "2", "3", "8", "12", "20", "32"})
+  public int bitWidth;
+
+  @Param({"bitPacked", "mixed"})
+  public String runs;
+
+  private byte[] encoded;
+
+  @Setup
+  public void encode() {
+    final var random = new SplittableRandom(bitWidth);
+    final var mask = Maths.longMaskLowerBits(bitWidth);
+    final var output = new ByteArrayOutputStream();
+    for (int values = 0; values < VALUES; ) {
+      if (runs.equals("mixed") && random.nextBoolean()) {
+        final var runLength = 1 + random.nextInt(64);
+        writeUnsignedVarInt(output, runLength << 1);
+        final var value = random.nextLong() & mask;
+        for (int shift = 0; shift < bitWidth; shift += 8) {
+          output.write((int) (value >>> shift));
+        }
+        values += runLength;
+      } else {
+        final var groups = 1 + random.nextInt(16);
+        writeUnsignedVarInt(output, groups << 1 | 1);
+        // Each group of 8 values fills exactly bitWidth bytes, so there's never anything left over
+        long bits = 0;
+        int bitCount = 0;
+        for (int index = 0; index < groups << 3; index++) {
+          bits |= (random.nextLong() & mask) << bitCount;
+          bitCount += bitWidth;
+          for (; bitCount >= 8; bitCount -= 8) {
+            output.write((int) bits);
+            bits >>>= 8;
+          }
+        }
+        values += groups << 3;
+      }
+    }
+    encoded = output.toByteArray();
+  }
+
+  private static void writeUnsignedVarInt(final ByteArrayOutputStream output, final int value) {
+    var remaining = value;
+    for (; (remaining & ~0x7F) != 0; remaining >>>= 7) {
+      output.write((remaining & 0x7F) | 0x80);
+    }
+    output.write(remaining);
+  }
+
+  @Benchmark
+  public int[] fromBuffer() throws IOException {
+    return new RLEIntEncoding(false)
+        .decode(VALUES, bitWidth, new ByteBufferInputStream(ByteBuffer.wrap(encoded)));
+  }
+
+  @Benchmark
+  public int[] byteAtATime() throws IOException {
+    return ByteAtATimeRLEIntDecoder.decode(
+        VALUES, bitWidth, new DataInputStream(new ByteArrayInputStream(encoded)));
+  }
+}
@@ -0,0 +1,123 @@
+package com.markosindustries.parquito;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Reads via an {@link AsynchronousFileChannel}, completing futures from the channel's completion
+ * handler - so outstanding reads don't each tie up a thread while they wait on the file system.
+ */
+public class AsynchronousFileByteRangeReader implements ByteRangeReader {
+  private final AsynchronousFileChannel fileChannel;
+  private final FileIdentity fileIdentity;
+
+  public AsynchronousFileByteRangeReader(final File file) throws IOException {
+    this(file.toPath());
+  }
+
+  public AsynchronousFileByteRangeReader(final Path path) throws IOException {
+    this.fileChannel = AsynchronousFileChannel.open(path, StandardOpenOption.READ);
+    this.fileIdentity = FileIdentity.of(path);
+  }
+
+  /**
+   * @param path the file to read
+   * @param completionExecutor where completion handlers (and so any non-async stages chained onto
+   *     the returned futures) will run
+   * @throws IOException if the file can't be opened
+   */
+  public AsynchronousFileByteRangeReader(final Path path, final ExecutorService completionExecutor)
+      throws IOException {
+    this.fileChannel =
+        AsynchronousFileChannel.open(path, Set.of(StandardOpenOption.READ), completionExecutor);
+    this.fileIdentity = FileIdentity.of(path);
+  }
+
+  @Override
+  public Optional<Object> getIdentity() {
+    return Optional.of(fileIdentity);
+  }
+
+  @Override
+  public long getTotalBytesAvailable() throws IOException {
+    return fileChannel.size();
+  }
+
+  @Override
+  public long readIntoBuffer(final long startByteOffset, final ByteBuffer buffer)
+      throws IOException {
+    try {
+      return fileChannel.read(buffer, startByteOffset).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } catch (ExecutionException e) {
+      throw new IOException(e.getCause());
+    }
+  }
+
+  @Override
+  public CompletableFuture<ByteBuffer> readUntilFull(
+      final long startByteOffset, final ByteBuffer buffer) {
+    final var result = new CompletableFuture<ByteBuffer>();
+    if (!buffer.hasRemaining()) {
+      result.complete(buffer);
+      return result;
+    }
+    try {
+      fileChannel.read(buffer, startByteOffset, startByteOffset, new FillBuffer(buffer, result));
+    } catch (RuntimeException e) {
+      result.completeExceptionally(new ParquetIOException(e));
+    }
+    return result;
+  }
+
+  private final class FillBuffer implements CompletionHandler<Integer, Long> {
+    private final ByteBuffer buffer;
+    private final CompletableFuture<ByteBuffer> result;
+
+    private FillBuffer(final ByteBuffer buffer, final CompletableFuture<ByteBuffer> result) {
+      this.buffer = buffer;
+      this.result = result;
+    }
+
+    @Override
+    public void completed(final Integer bytesRead, final Long position) {
+      if (!buffer.hasRemaining()) {
+        result.complete(buffer);
+      } else if (bytesRead < 0) {
+        result.completeExceptionally(
+            new ParquetIOException(
+                new EOFException("Not enough bytes could be read to fill the buffer")));
+      } else {
+        final var nextPosition = position + bytesRead;
+        try {
+          fileChannel.read(buffer, nextPosition, nextPosition, this);
+        } catch (RuntimeException e) {
+          result.completeExceptionally(new ParquetIOException(e));
+        }
+      }
+    }
+
+    @Override
+    public void failed(final Throwable throwable, final Long position) {
+      result.completeExceptionally(new ParquetIOException(throwable));
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    fileChannel.close();
+  }
+}
@@ -11,6 +11,17 @@ public class ByteBufferInputStream extends InputStream {
     this.byteBuffer = byteBuffer;
   }
 
+  /**
+   * @return the stream itself if it's backed by a buffer, otherwise a stream over the rest of its
+   *     bytes - so decoders can work on a buffer, whatever kind of stream a page was read from
+   */
+  public static ByteBufferInputStream from(final InputStream inputStream) throws IOException {
+    if (inputStream instanceof ByteBufferInputStream byteBufferInputStream) {
+      return byteBufferInputStream;
+    }
+    return new ByteBufferInputStream(ByteBuffer.wrap(inputStream.readAllBytes()));
+  }
+
   public ByteBuffer getByteBuffer() {
     return byteBuffer;
   }
@@ -1,10 +1,10 @@
 package com.markosindustries.parquito;
 
-import java.io.ByteArrayInputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 public interface ByteRangeReader extends AutoCloseable {
@@ -12,29 +12,40 @@ public interface ByteRangeReader extends AutoCloseable {
 
   long readIntoBuffer(long startByteOffset, ByteBuffer buffer) throws IOException;
 
+  /**
+   * @return something with sensible equals/hashCode which identifies the current contents of the
+   *     underlying file, allowing what's read from it to be cached across readers - or empty if
+   *     there's no such thing
+   */
+  default Optional<Object> getIdentity() {
+    return Optional.empty();
+  }
+
   default CompletableFuture<ByteBuffer> readUntilFull(long startByteOffset, ByteBuffer buffer) {
-    return CompletableFuture.supplyAsync(
-        () -> {
-          try {
-            long nextOffset = startByteOffset;
-            long lastBytesRead = 0;
-            while (buffer.remaining() > 0) {
-              lastBytesRead = readIntoBuffer(nextOffset, buffer);
-              if (lastBytesRead == -1) {
-                break;
-              }
-              nextOffset += lastBytesRead;
-            }
-
-            if (buffer.remaining() > 0) {
-              throw new EOFException("Not enough bytes could be read to fill the buffer");
-            }
-
-            return buffer;
-          } catch (IOException ioException) {
-            throw new ParquetIOException(ioException);
-          }
-        });
+    return CompletableFuture.supplyAsync(() -> readFully(startByteOffset, buffer));
+  }
+
+  /** Blocks until the buffer is full, for implementations to schedule however they see fit */
+  default ByteBuffer readFully(long startByteOffset, ByteBuffer buffer) {
+    try {
+      long nextOffset = startByteOffset;
+      long lastBytesRead = 0;
+      while (buffer.remaining() > 0) {
+        lastBytesRead = readIntoBuffer(nextOffset, buffer);
+        if (lastBytesRead == -1) {
+          break;
+        }
+        nextOffset += lastBytesRead;
+      }
+
+      if (buffer.remaining() > 0) {
+        throw new EOFException("Not enough bytes could be read to fill the buffer");
+      }
+
+      return buffer;
+    } catch (IOException ioException) {
+      throw new ParquetIOException(ioException);
+    }
   }
 
   default CompletableFuture<ByteBuffer> readAsBuffer(long startByteOffset, int bytesToRetrieve) {
@@ -48,7 +59,6 @@ public interface ByteRangeReader extends AutoCloseable {
 
   default CompletableFuture<InputStream> readAsInputStream(
       long startByteOffset, int bytesToRetrieve) {
-    return readAsBuffer(startByteOffset, bytesToRetrieve)
-        .thenApply(buffer -> new ByteArrayInputStream(buffer.array(), 0, bytesToRetrieve));
+    return readAsBuffer(startByteOffset, bytesToRetrieve).thenApply(ByteBufferInputStream::new);
   }
 }
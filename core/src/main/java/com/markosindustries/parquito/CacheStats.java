@@ -0,0 +1,3 @@
+package com.markosindustries.parquito;
+
+public record CacheStats(long hits, long misses, long evictions, int entries, long weight) {}
@@ -0,0 +1,145 @@
+package com.markosindustries.parquito;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the ranges requested via {@link #readAsBuffer(long, int)} over a short window, then
+ * merges any which are separated by at most {@code maxGapBytes} into a single read from the
+ * underlying {@link ByteRangeReader}. Each request is completed with a slice of the merged buffer.
+ *
+ * <p>Useful where each request carries a high fixed cost (eg: object stores), at the expense of
+ * reading the (small) gaps between ranges.
+ */
+public class CoalescingByteRangeReader implements ByteRangeReader {
+  public static final Duration DEFAULT_WINDOW = Duration.ofMillis(1);
+  public static final int DEFAULT_MAX_GAP_BYTES = 64 * 1024;
+  public static final int DEFAULT_MAX_MERGED_BYTES = 64 * 1024 * 1024;
+
+  private final ByteRangeReader delegate;
+  private final Executor flushExecutor;
+  private final int maxGapBytes;
+  private final int maxMergedBytes;
+  private List<PendingRead> pendingReads = new ArrayList<>();
+
+  private record PendingRead(
+      long startByteOffset, int bytesToRetrieve, CompletableFuture<ByteBuffer> result) {
+    long endByteOffset() {
+      return startByteOffset + bytesToRetrieve;
+    }
+  }
+
+  public CoalescingByteRangeReader(final ByteRangeReader delegate) {
+    this(delegate, DEFAULT_WINDOW, DEFAULT_MAX_GAP_BYTES, DEFAULT_MAX_MERGED_BYTES);
+  }
+
+  public CoalescingByteRangeReader(
+      final ByteRangeReader delegate,
+      final Duration window,
+      final int maxGapBytes,
+      final int maxMergedBytes) {
+    this.delegate = delegate;
+    this.flushExecutor = CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS);
+    this.maxGapBytes = maxGapBytes;
+    this.maxMergedBytes = maxMergedBytes;
+  }
+
+  @Override
+  public Optional<Object> getIdentity() {
+    return delegate.getIdentity();
+  }
+
+  @Override
+  public long getTotalBytesAvailable() throws IOException {
+    return delegate.getTotalBytesAvailable();
+  }
+
+  @Override
+  public long readIntoBuffer(final long startByteOffset, final ByteBuffer buffer)
+      throws IOException {
+    return delegate.readIntoBuffer(startByteOffset, buffer);
+  }
+
+  @Override
+  public CompletableFuture<ByteBuffer> readUntilFull(
+      final long startByteOffset, final ByteBuffer buffer) {
+    return readAsBuffer(startByteOffset, buffer.remaining()).thenApply(buffer::put);
+  }
+
+  @Override
+  public CompletableFuture<ByteBuffer> readAsBuffer(
+      final long startByteOffset, final int bytesToRetrieve) {
+    final var pendingRead =
+        new PendingRead(startByteOffset, bytesToRetrieve, new CompletableFuture<>());
+    final boolean isFirstInWindow;
+    synchronized (this) {
+      isFirstInWindow = pendingReads.isEmpty();
+      pendingReads.add(pendingRead);
+    }
+    if (isFirstInWindow) {
+      flushExecutor.execute(this::flush);
+    }
+    return pendingRead.result();
+  }
+
+  private void flush() {
+    final List<PendingRead> reads;
+    synchronized (this) {
+      reads = pendingReads;
+      pendingReads = new ArrayList<>();
+    }
+    reads.sort(Comparator.comparingLong(PendingRead::startByteOffset));
+
+    var merged = new ArrayList<PendingRead>();
+    long mergedStart = reads.get(0).startByteOffset();
+    long mergedEnd = reads.get(0).endByteOffset();
+    for (final var read : reads) {
+      final var newEnd = Math.max(mergedEnd, read.endByteOffset());
+      if (!merged.isEmpty()
+          && (read.startByteOffset() - mergedEnd > maxGapBytes
+              || newEnd - mergedStart > maxMergedBytes)) {
+        readMerged(mergedStart, mergedEnd, merged);
+        merged = new ArrayList<>();
+        mergedStart = read.startByteOffset();
+        mergedEnd = read.endByteOffset();
+      } else {
+        mergedEnd = newEnd;
+      }
+      merged.add(read);
+    }
+    readMerged(mergedStart, mergedEnd, merged);
+  }
+
+  private void readMerged(
+      final long mergedStart, final long mergedEnd, final List<PendingRead> reads) {
+    delegate
+        .readAsBuffer(mergedStart, (int) (mergedEnd - mergedStart))
+        .whenComplete(
+            (mergedBuffer, throwable) -> {
+              for (final var read : reads) {
+                if (throwable != null) {
+                  read.result().completeExceptionally(throwable);
+                } else {
+                  read.result()
+                      .complete(
+                          mergedBuffer.slice(
+                              (int) (read.startByteOffset() - mergedStart),
+                              read.bytesToRetrieve()));
+                }
+              }
+            });
+  }
+
+  @Override
+  public void close() throws Exception {
+    delegate.close();
+  }
+}
@@ -1,20 +1,30 @@
 package com.markosindustries.parquito;
 
 import com.markosindustries.parquito.bloomfilter.BloomFilter;
+import com.markosindustries.parquito.bloomfilter.BloomFilterHashFunction;
 import com.markosindustries.parquito.page.DataPage;
 import com.markosindustries.parquito.page.DictionaryPage;
+import com.markosindustries.parquito.page.SkippedDataPage;
 import com.markosindustries.parquito.types.ColumnType;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import org.apache.parquet.format.BloomFilterHeader;
+import org.apache.parquet.format.Encoding;
 import org.apache.parquet.format.PageHeader;
+import org.apache.parquet.format.PageType;
 import org.apache.parquet.format.RowGroup;
 import org.apache.parquet.format.SortingColumn;
 import org.apache.parquet.format.Util;
@@ -26,6 +36,14 @@ public class ColumnChunkReader<ReadAs> {
   private final CompletableFuture<DictionaryPage<ReadAs>> dictionaryPage;
   private final CompletableFuture<BloomFilter> bloomFilter;
   private final long dataPageCompressedBytes;
+  private final Map<ParquetPredicate<ReadAs>, long[]> matchingDictionaryIds =
+      new ConcurrentHashMap<>();
+
+  /** Finds the reader for a column, given its full path in the schema */
+  @FunctionalInterface
+  public interface Lookup {
+    Optional<ColumnChunkReader<?>> forPath(String[] path);
+  }
 
   private ColumnChunkReader(
       final org.apache.parquet.format.ColumnChunk header,
@@ -44,6 +62,14 @@ public class ColumnChunkReader<ReadAs> {
       final org.apache.parquet.format.ColumnChunk columnChunkHeader,
       final ColumnType<ReadAs> type,
       final ByteRangeReader byteRangeReader) {
+    return create(columnChunkHeader, type, byteRangeReader, DictionaryPageCache.shared());
+  }
+
+  public static <ReadAs> ColumnChunkReader<ReadAs> create(
+      final org.apache.parquet.format.ColumnChunk columnChunkHeader,
+      final ColumnType<ReadAs> type,
+      final ByteRangeReader byteRangeReader,
+      final DictionaryPageCache dictionaryPageCache) {
     // Writers attribute the first DataPage as the file_offset, not the first Page - and we want the
     // first page, which is the dictionary if it has one
     final var dictionarySize =
@@ -81,21 +107,32 @@ public class ColumnChunkReader<ReadAs> {
             bloomFilterFuture,
             columnChunkHeader.meta_data.total_compressed_size - dictionarySize);
     if (columnChunkHeader.meta_data.isSetDictionary_page_offset()) {
+      final Supplier<CompletableFuture<DictionaryPage<ReadAs>>> readDictionaryPage =
+          () ->
+              byteRangeReader
+                  .readAsBuffer(
+                      columnChunkHeader.meta_data.dictionary_page_offset, (int) dictionarySize)
+                  .thenApply(
+                      dictionaryBuffer -> {
+                        try {
+                          final var dictionaryStream = new ByteBufferInputStream(dictionaryBuffer);
+                          final var dictionaryPageHeader = Util.readPageHeader(dictionaryStream);
+                          return new DictionaryPage<ReadAs>(
+                              dictionaryPageHeader,
+                              columnChunk,
+                              dictionaryStream.readAsBufferView(
+                                  dictionaryPageHeader.compressed_page_size));
+                        } catch (IOException e) {
+                          throw new ParquetIOException(e);
+                        }
+                      });
       byteRangeReader
-          .readAsBuffer(columnChunkHeader.meta_data.dictionary_page_offset, (int) dictionarySize)
-          .thenApply(
-              dictionaryBuffer -> {
-                try {
-                  final var dictionaryStream = new ByteBufferInputStream(dictionaryBuffer);
-                  final var dictionaryPageHeader = Util.readPageHeader(dictionaryStream);
-                  return new DictionaryPage<ReadAs>(
-                      dictionaryPageHeader,
-                      columnChunk,
-                      dictionaryStream.readAsBufferView(dictionaryPageHeader.compressed_page_size));
-                } catch (IOException e) {
-                  throw new ParquetIOException(e);
-                }
-              })
+          .getIdentity()
+          .map(
+              fileIdentity ->
+                  dictionaryPageCache.get(
+                      fileIdentity, columnChunkHeader, type, readDictionaryPage))
+          .orElseGet(readDictionaryPage)
           .whenComplete(
               (dictionaryPage, throwable) -> {
                 if (throwable != null) {
@@ -155,12 +192,38 @@ public class ColumnChunkReader<ReadAs> {
     if (hasBloomFilter() && !bloomFilterMightContain(value)) {
       return false;
     }
-    if (hasDictionary() && !dictionaryContains(value)) {
+    if (isFullyDictionaryEncoded() && !dictionaryContains(value)) {
       return false;
     }
     return containsNonNulls();
   }
 
+  /**
+   * Checks a set of values against the chunk's statistics, then its dictionary (if every data page
+   * is dictionary encoded, so the dictionary holds every value) or else its bloom filter. Doesn't
+   * block - the future completes once the dictionary or bloom filter has been read.
+   *
+   * @return false if none of the values can be in this column chunk
+   */
+  public CompletableFuture<Boolean> mightContainAny(final ValueSet<ReadAs> values) {
+    final var statistics = ColumnStatistics.from(header, columnType);
+    if (values.isEmpty()
+        || statistics.allNull()
+        || (statistics.hasRange()
+            && !values.anyWithin(statistics.lowest(), statistics.highest()))) {
+      return CompletableFuture.completedFuture(false);
+    }
+    if (isFullyDictionaryEncoded()) {
+      return dictionaryPage.thenApply(page -> page.containsAny(values));
+    }
+    if (hasBloomFilter()
+        && BloomFilterHashFunction.canHash(columnType.parquetType().getReadAsClass())) {
+      return bloomFilter.thenApply(
+          loadedBloomFilter -> values.anyMatch(loadedBloomFilter::mightContain));
+    }
+    return CompletableFuture.completedFuture(true);
+  }
+
   public boolean hasRangeStats() {
     return header.meta_data.statistics.min_value != null
         && header.meta_data.statistics.max_value != null;
@@ -190,41 +253,73 @@ public class ColumnChunkReader<ReadAs> {
     return header.meta_data.isSetDictionary_page_offset();
   }
 
+  /**
+   * @return true if the writer recorded that every data page is dictionary encoded - otherwise the
+   *     writer may have fallen back to another encoding part way through the chunk, and the
+   *     dictionary won't hold every value
+   */
+  public boolean isFullyDictionaryEncoded() {
+    if (!hasDictionary() || !header.meta_data.isSetEncoding_stats()) {
+      return false;
+    }
+    return header.meta_data.encoding_stats.stream()
+        .filter(
+            encodingStats ->
+                encodingStats.page_type == PageType.DATA_PAGE
+                    || encodingStats.page_type == PageType.DATA_PAGE_V2)
+        .allMatch(
+            encodingStats ->
+                encodingStats.encoding == Encoding.PLAIN_DICTIONARY
+                    || encodingStats.encoding == Encoding.RLE_DICTIONARY);
+  }
+
   private boolean bloomFilterMightContain(final ReadAs value) {
+    if (!BloomFilterHashFunction.canHash(columnType.parquetType().getReadAsClass())) {
+      return true;
+    }
     final var bloomFilter = getBloomFilter();
     return bloomFilter.mightContain(value);
   }
 
   private boolean dictionaryContains(final ReadAs value) {
-    final var dictionaryPage = getDictionaryPage();
-    final var dictionaryPageValues = dictionaryPage.getValues();
-    for (int i = 0; i < dictionaryPage.getNonNullValues(); i++) {
-      if (dictionaryPageValues.get(i).equals(value)) {
-        return true;
-      }
-    }
+    return getDictionaryPage().contains(value);
+  }
 
-    return false;
+  /**
+   * Evaluates the predicate against the dictionary once per column chunk (per predicate), rather
+   * than once per page.
+   *
+   * @return a bitset over the dictionary's indices, of the values which match - sized to hold every
+   *     index, so it can be probed without bounds checks
+   */
+  public long[] getMatchingDictionaryIds(final ParquetPredicate<ReadAs> predicate) {
+    return matchingDictionaryIds.computeIfAbsent(
+        predicate,
+        unused -> {
+          final var dictionaryPage = getDictionaryPage();
+          return Arrays.copyOf(
+              predicate.matchDictionary(dictionaryPage).toLongArray(),
+              (dictionaryPage.getTotalValues() + 63) >>> 6);
+        });
   }
 
   public Set<ReadAs> getValuesInDictionary() {
     if (!hasDictionary()) {
       return Collections.emptySet();
     }
-    return dictionaryPage
-        .thenApply(
-            page -> {
-              final var values = page.getValues();
-              return IntStream.range(0, page.getNonNullValues())
-                  .mapToObj(values::get)
-                  .collect(Collectors.toUnmodifiableSet());
-            })
-        .join();
+    return getDictionaryPage().valueSet();
   }
 
+  /**
+   * @return the column chunk's pages, once they (and the dictionary, if there is one) have been
+   *     read
+   */
   public CompletableFuture<Iterator<DataPage<ReadAs>>> readPages(ByteRangeReader byteRangeReader) {
-    return byteRangeReader
-        .readAsBuffer(header.file_offset, (int) dataPageCompressedBytes)
+    final var chunkData =
+        byteRangeReader.readAsBuffer(header.file_offset, (int) dataPageCompressedBytes);
+    return (hasDictionary()
+            ? chunkData.thenCombine(dictionaryPage, (chunkDataBuffer, unused) -> chunkDataBuffer)
+            : chunkData)
         .thenApply(
             chunkDataBuffer -> {
               return new Iterator<DataPage<ReadAs>>() {
@@ -254,6 +349,123 @@ public class ColumnChunkReader<ReadAs> {
             });
   }
 
+  /**
+   * Like {@link #readPages(ByteRangeReader)}, but reads the chunk a window of bytes at a time as
+   * the pages are iterated, rather than holding the whole chunk in memory at once.
+   *
+   * @param byteRangeReader where to read from
+   * @param windowBytes how many bytes to read at a time - pages larger than this are read whole
+   * @param readAheadWindows how many windows to keep in flight ahead of the one being decoded
+   * @return the column chunk's pages, once the dictionary (if there is one) has been read
+   */
+  public CompletableFuture<Iterator<DataPage<ReadAs>>> streamPages(
+      final ByteRangeReader byteRangeReader, final int windowBytes, final int readAheadWindows) {
+    return streamPageIterator(byteRangeReader, windowBytes, readAheadWindows)
+        .thenApply(pages -> pages);
+  }
+
+  /** Like {@link #streamPages}, but keeping the iterator's type - so its reads can be cancelled */
+  CompletableFuture<StreamingPageIterator<ReadAs>> streamPageIterator(
+      final ByteRangeReader byteRangeReader, final int windowBytes, final int readAheadWindows) {
+    final var pages =
+        new StreamingPageIterator<>(
+            this,
+            byteRangeReader,
+            header.file_offset,
+            dataPageCompressedBytes,
+            header.meta_data.num_values,
+            windowBytes,
+            readAheadWindows);
+    return hasDictionary()
+        ? dictionaryPage.thenApply(unused -> pages)
+        : CompletableFuture.completedFuture(pages);
+  }
+
+  /**
+   * Reads only the pages holding selected rows, using the column chunk's offset index to find them
+   * - falling back to reading every page if there isn't one. Pages which aren't read are returned
+   * as {@link SkippedDataPage}s, so the rows still line up with other columns.
+   *
+   * @param byteRangeReader where to read from
+   * @param selectedRows which rows of the row group are wanted
+   * @param rowGroupRows how many rows the row group holds
+   * @return the column chunk's pages, once they have been read
+   */
+  public CompletableFuture<Iterator<DataPage<ReadAs>>> readPages(
+      final ByteRangeReader byteRangeReader,
+      final RowRanges selectedRows,
+      final long rowGroupRows) {
+    if (!PageIndex.hasOffsetIndex(header)) {
+      return readPages(byteRangeReader);
+    }
+    return PageIndex.readOffsetIndex(header, byteRangeReader)
+        .thenCompose(
+            offsetIndex -> {
+              final var pageIndex = new PageIndex(offsetIndex, null, rowGroupRows);
+              final var pageCount = pageIndex.pageCount();
+              final var pageLocations = offsetIndex.page_locations;
+
+              // Adjacent selected pages are read together
+              final var pageReads = new ArrayList<CompletableFuture<ByteBuffer>>(pageCount);
+              for (int page = 0; page < pageCount; ) {
+                if (!selectedRows.overlaps(
+                    pageIndex.firstRowIndex(page), pageIndex.endRowIndex(page))) {
+                  pageReads.add(null);
+                  page++;
+                  continue;
+                }
+                final var firstPage = page;
+                var readEnd = pageLocations.get(page).offset;
+                do {
+                  readEnd += pageLocations.get(page).compressed_page_size;
+                  page++;
+                } while (page < pageCount
+                    && pageLocations.get(page).offset == readEnd
+                    && selectedRows.overlaps(
+                        pageIndex.firstRowIndex(page), pageIndex.endRowIndex(page)));
+                final var readStart = pageLocations.get(firstPage).offset;
+                final var read =
+                    byteRangeReader.readAsBuffer(readStart, Math.toIntExact(readEnd - readStart));
+                for (int readPage = firstPage; readPage < page; readPage++) {
+                  final var pageStart =
+                      Math.toIntExact(pageLocations.get(readPage).offset - readStart);
+                  final var pageSize = pageLocations.get(readPage).compressed_page_size;
+                  pageReads.add(read.thenApply(buffer -> buffer.slice(pageStart, pageSize)));
+                }
+              }
+
+              final var allRead =
+                  CompletableFuture.allOf(
+                      pageReads.stream()
+                          .filter(Objects::nonNull)
+                          .toArray(CompletableFuture[]::new));
+              return (hasDictionary() ? allRead.thenCombine(dictionaryPage, (a, b) -> a) : allRead)
+                  .thenApply(
+                      unused ->
+                          IntStream.range(0, pageCount)
+                              .mapToObj(
+                                  page -> {
+                                    final var pageRead = pageReads.get(page);
+                                    if (pageRead == null) {
+                                      return new SkippedDataPage<ReadAs>(
+                                          Math.toIntExact(
+                                              pageIndex.endRowIndex(page)
+                                                  - pageIndex.firstRowIndex(page)));
+                                    }
+                                    final var pageStream =
+                                        new ByteBufferInputStream(pageRead.join());
+                                    final var pageHeader =
+                                        ColumnChunkReader.readPageHeader(pageStream);
+                                    return DataPage.create(
+                                        ColumnChunkReader.this,
+                                        pageHeader,
+                                        pageStream.readAsBufferView(
+                                            pageHeader.compressed_page_size));
+                                  })
+                              .iterator());
+            });
+  }
+
   static PageHeader readPageHeader(InputStream inputStream) {
     try {
       return Util.readPageHeader(inputStream);
@@ -87,4 +87,23 @@ public final class ColumnSpecs {
   public static ColumnSpec union(ColumnSpec... columnSpecs) {
     return new Union(columnSpecs);
   }
+
+  private record PredicateColumns(ParquetPredicate<?> predicate) implements ColumnSpec {
+    @Override
+    public boolean includesChild(final String child) {
+      return predicate.includesChild(child);
+    }
+
+    @Override
+    public ColumnSpec forChild(final String child) {
+      return new PredicateColumns(predicate.forChild(child));
+    }
+  }
+
+  /**
+   * @return a spec for the columns the predicate reads
+   */
+  public static ColumnSpec predicateColumns(final ParquetPredicate<?> predicate) {
+    return new PredicateColumns(predicate);
+  }
 }
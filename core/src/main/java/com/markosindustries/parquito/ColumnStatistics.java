@@ -0,0 +1,81 @@
+package com.markosindustries.parquito;
+
+import com.markosindustries.parquito.types.ColumnType;
+import java.util.Optional;
+import java.util.OptionalLong;
+import org.apache.parquet.format.ColumnChunk;
+import org.apache.parquet.format.Statistics;
+
+/**
+ * The statistics writers record for a column chunk (or page).
+ *
+ * @param columnType the column's type, which gives the order min and max are compared in
+ * @param min the smallest non-null value, or null if unknown
+ * @param max the largest non-null value, or null if unknown
+ * @param nullCount how many entries are null (or empty lists), if known
+ * @param allNull true if we know every entry is null - in which case no predicate can match
+ */
+public record ColumnStatistics<ReadAs>(
+    ColumnType<ReadAs> columnType,
+    ReadAs min,
+    ReadAs max,
+    OptionalLong nullCount,
+    boolean allNull) {
+
+  /** Finds the statistics for a column, given its full path in the schema */
+  @FunctionalInterface
+  public interface Lookup {
+    Optional<ColumnStatistics<?>> forPath(String[] path);
+  }
+
+  public static <ReadAs> ColumnStatistics<ReadAs> from(
+      final ColumnChunk columnChunkHeader, final ColumnType<ReadAs> columnType) {
+    return from(
+        columnChunkHeader.meta_data.statistics, columnChunkHeader.meta_data.num_values, columnType);
+  }
+
+  public static <ReadAs> ColumnStatistics<ReadAs> from(
+      final Statistics statistics, final long valueCount, final ColumnType<ReadAs> columnType) {
+    if (statistics == null) {
+      return new ColumnStatistics<>(columnType, null, null, OptionalLong.empty(), false);
+    }
+    // We only trust min_value/max_value - the deprecated min/max were written with signed
+    // comparison regardless of the column's logical type
+    final var parquetType = columnType.parquetType();
+    return new ColumnStatistics<>(
+        columnType,
+        statistics.isSetMin_value() ? parquetType.readFromByteBuffer(statistics.min_value) : null,
+        statistics.isSetMax_value() ? parquetType.readFromByteBuffer(statistics.max_value) : null,
+        statistics.isSetNull_count()
+            ? OptionalLong.of(statistics.null_count)
+            : OptionalLong.empty(),
+        statistics.isSetNull_count() && statistics.null_count == valueCount);
+  }
+
+  public boolean hasRange() {
+    return min != null && max != null;
+  }
+
+  /**
+   * @return true if we know no entries are null, so every row has at least one value to match
+   */
+  public boolean noNulls() {
+    return nullCount.isPresent() && nullCount.getAsLong() == 0;
+  }
+
+  /**
+   * @return whichever of min and max comes first in the column's sort order (which may be
+   *     descending)
+   */
+  public ReadAs lowest() {
+    return columnType.compare(min, max) <= 0 ? min : max;
+  }
+
+  /**
+   * @return whichever of min and max comes last in the column's sort order (which may be
+   *     descending)
+   */
+  public ReadAs highest() {
+    return columnType.compare(min, max) <= 0 ? max : min;
+  }
+}
@@ -0,0 +1,81 @@
+package com.markosindustries.parquito;
+
+import com.markosindustries.parquito.page.DictionaryPage;
+import com.markosindustries.parquito.types.ColumnType;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.apache.parquet.format.ColumnChunk;
+
+/**
+ * Caches decoded {@link DictionaryPage}s, so that concurrent readers of the same column chunks
+ * don't each read, decompress and decode the same dictionaries. Entries are weighed by the
+ * uncompressed size of their page, and evicted least-recently-used first.
+ *
+ * <p>Only {@link ByteRangeReader}s which provide an {@link ByteRangeReader#getIdentity() identity}
+ * can be cached.
+ */
+public class DictionaryPageCache {
+  public static final int DEFAULT_MAXIMUM_ENTRIES = 16 * 1024;
+  public static final long DEFAULT_MAXIMUM_DICTIONARY_BYTES = 256L * 1024 * 1024;
+
+  private static final class SharedHolder {
+    private static final DictionaryPageCache SHARED = new DictionaryPageCache();
+  }
+
+  /**
+   * The dictionary page offset is unique to a column chunk within a file, so it stands in for the
+   * row group. We include the type we decode as, since the same bytes could be read differently.
+   */
+  private record Key(
+      Object fileIdentity,
+      long dictionaryPageOffset,
+      List<String> pathInSchema,
+      Class<?> parquetTypeClass) {}
+
+  private final WeightedLruCache<Key, DictionaryPage<?>> cache;
+
+  public DictionaryPageCache() {
+    this(DEFAULT_MAXIMUM_ENTRIES, DEFAULT_MAXIMUM_DICTIONARY_BYTES);
+  }
+
+  public DictionaryPageCache(final int maximumEntries, final long maximumDictionaryBytes) {
+    this.cache =
+        new WeightedLruCache<>(
+            maximumEntries,
+            maximumDictionaryBytes,
+            dictionaryPage -> dictionaryPage.getPageHeader().uncompressed_page_size);
+  }
+
+  /**
+   * @return the process-wide cache, which {@link ColumnChunkReader} uses unless told otherwise
+   */
+  public static DictionaryPageCache shared() {
+    return SharedHolder.SHARED;
+  }
+
+  @SuppressWarnings("unchecked")
+  <ReadAs> CompletableFuture<DictionaryPage<ReadAs>> get(
+      final Object fileIdentity,
+      final ColumnChunk columnChunkHeader,
+      final ColumnType<ReadAs> columnType,
+      final Supplier<CompletableFuture<DictionaryPage<ReadAs>>> loader) {
+    final var key =
+        new Key(
+            fileIdentity,
+            columnChunkHeader.meta_data.dictionary_page_offset,
+            List.copyOf(columnChunkHeader.meta_data.path_in_schema),
+            columnType.parquetType().getClass());
+    return cache
+        .get(key, unused -> loader.get().thenApply(dictionaryPage -> dictionaryPage))
+        .thenApply(dictionaryPage -> (DictionaryPage<ReadAs>) dictionaryPage);
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  public CacheStats getStats() {
+    return cache.stats();
+  }
+}
@@ -4,12 +4,15 @@ import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.util.Optional;
 
 public class FileByteRangeReader implements ByteRangeReader {
   private final File file;
+  private final FileIdentity fileIdentity;
 
-  public FileByteRangeReader(File file) {
+  public FileByteRangeReader(File file) throws IOException {
     this.file = file;
+    this.fileIdentity = FileIdentity.of(file.toPath());
   }
 
   @Override
@@ -19,6 +22,11 @@ public class FileByteRangeReader implements ByteRangeReader {
     }
   }
 
+  @Override
+  public Optional<Object> getIdentity() {
+    return Optional.of(fileIdentity);
+  }
+
   @Override
   public long readIntoBuffer(long startByteOffset, ByteBuffer buffer) throws IOException {
     try (final var fileAccess = new RandomAccessFile(file, "r")) {
@@ -0,0 +1,63 @@
+package com.markosindustries.parquito;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Keeps a single {@link FileChannel} open for its lifetime, and uses positional reads (which don't
+ * move the channel's position, so can safely run concurrently). Reads are run on the given
+ * executor, which defaults to {@link IOExecutors#shared()}.
+ */
+public class FileChannelByteRangeReader implements ByteRangeReader {
+  private final FileChannel fileChannel;
+  private final Executor executor;
+  private final FileIdentity fileIdentity;
+
+  public FileChannelByteRangeReader(final File file) throws IOException {
+    this(file.toPath());
+  }
+
+  public FileChannelByteRangeReader(final Path path) throws IOException {
+    this(path, IOExecutors.shared());
+  }
+
+  public FileChannelByteRangeReader(final Path path, final Executor executor) throws IOException {
+    this.fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+    this.executor = executor;
+    this.fileIdentity = FileIdentity.of(path);
+  }
+
+  @Override
+  public Optional<Object> getIdentity() {
+    return Optional.of(fileIdentity);
+  }
+
+  @Override
+  public long getTotalBytesAvailable() throws IOException {
+    return fileChannel.size();
+  }
+
+  @Override
+  public long readIntoBuffer(final long startByteOffset, final ByteBuffer buffer)
+      throws IOException {
+    return fileChannel.read(buffer, startByteOffset);
+  }
+
+  @Override
+  public CompletableFuture<ByteBuffer> readUntilFull(
+      final long startByteOffset, final ByteBuffer buffer) {
+    return CompletableFuture.supplyAsync(() -> readFully(startByteOffset, buffer), executor);
+  }
+
+  @Override
+  public void close() throws IOException {
+    fileChannel.close();
+  }
+}
@@ -0,0 +1,19 @@
+package com.markosindustries.parquito;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Identifies a particular version of a file, so that anything cached about it is discarded if the
+ * file is replaced or rewritten.
+ */
+public record FileIdentity(Path path, long length, FileTime lastModified) {
+  public static FileIdentity of(final Path path) throws IOException {
+    final var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+    return new FileIdentity(
+        path.toAbsolutePath().normalize(), attributes.size(), attributes.lastModifiedTime());
+  }
+}
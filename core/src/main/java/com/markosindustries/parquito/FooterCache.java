@@ -0,0 +1,73 @@
+package com.markosindustries.parquito;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import org.apache.parquet.format.Util;
+
+/**
+ * Caches parsed footers (and the schema built from them) for files which are opened repeatedly.
+ * Entries are weighed by the serialized size of their footer, and evicted least-recently-used
+ * first.
+ */
+public class FooterCache {
+  public static final int DEFAULT_MAXIMUM_ENTRIES = 1024;
+  public static final long DEFAULT_MAXIMUM_FOOTER_BYTES = 256L * 1024 * 1024;
+
+  private final WeightedLruCache<Object, ParquetFileReader> cache;
+
+  public FooterCache() {
+    this(DEFAULT_MAXIMUM_ENTRIES, DEFAULT_MAXIMUM_FOOTER_BYTES);
+  }
+
+  public FooterCache(final int maximumEntries, final long maximumFooterBytes) {
+    this.cache =
+        new WeightedLruCache<>(maximumEntries, maximumFooterBytes, FooterCache::footerBytes);
+  }
+
+  /**
+   * Keyed by the file's {@link FileIdentity}, so a file which has been modified since it was cached
+   * will be read again.
+   */
+  public CompletableFuture<ParquetFileReader> get(
+      final Path path, final ByteRangeReader byteRangeReader) {
+    try {
+      return get(FileIdentity.of(path), byteRangeReader);
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(new ParquetIOException(e));
+    }
+  }
+
+  /**
+   * @param key anything with sensible equals/hashCode which identifies the file's current contents
+   * @param byteRangeReader used to read the footer if it isn't already cached
+   * @return the file's footer and schema
+   */
+  public CompletableFuture<ParquetFileReader> get(
+      final Object key, final ByteRangeReader byteRangeReader) {
+    return cache.get(key, unused -> ParquetFileReader.read(byteRangeReader));
+  }
+
+  public void invalidate(final Object key) {
+    cache.invalidate(key);
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  public CacheStats getStats() {
+    return cache.stats();
+  }
+
+  private static long footerBytes(final ParquetFileReader parquetFileReader) {
+    final var countingOutputStream = new ByteCountingOutputStream(OutputStream.nullOutputStream());
+    try {
+      Util.writeFileMetaData(parquetFileReader.getFooter(), countingOutputStream);
+    } catch (IOException e) {
+      throw new ParquetIOException(e);
+    }
+    return countingOutputStream.getBytesWritten();
+  }
+}
@@ -0,0 +1,53 @@
+package com.markosindustries.parquito;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors for blocking I/O, so that reads don't compete with decoding work on the common
+ * ForkJoinPool.
+ */
+public final class IOExecutors {
+  private IOExecutors() {}
+
+  private static final class Shared {
+    private static final ExecutorService INSTANCE =
+        fixedThreadPool(Math.max(4, 2 * Runtime.getRuntime().availableProcessors()));
+  }
+
+  /**
+   * @return a process-wide pool of daemon threads, sized to twice the available processors (but at
+   *     least 4)
+   */
+  public static ExecutorService shared() {
+    return Shared.INSTANCE;
+  }
+
+  public static ExecutorService fixedThreadPool(final int threads) {
+    return Executors.newFixedThreadPool(threads, daemonThreads("parquito-io-"));
+  }
+
+  /**
+   * @return a virtual thread per task executor where the runtime supports it (Java 21+), otherwise
+   *     the {@link #shared()} pool
+   */
+  public static ExecutorService virtualThreadsIfAvailable() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return shared();
+    }
+  }
+
+  private static ThreadFactory daemonThreads(final String namePrefix) {
+    final var threadCount = new AtomicInteger();
+    return runnable -> {
+      final var thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
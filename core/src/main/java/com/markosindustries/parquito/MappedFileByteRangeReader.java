@@ -0,0 +1,136 @@
+package com.markosindustries.parquito;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Keeps a single {@link FileChannel} open for its lifetime and memory maps the file in windows of
+ * (at most) {@link #DEFAULT_WINDOW_BYTES}, which are mapped lazily on first access. Reads which
+ * fall within a single window are served as zero-copy slices of the mapping. Mappings (and slices
+ * of them) remain valid after {@link #close()}, and are released when garbage collected.
+ */
+public class MappedFileByteRangeReader implements ByteRangeReader {
+  public static final long DEFAULT_WINDOW_BYTES = 1L << 30;
+
+  private final FileChannel fileChannel;
+  private final long totalBytes;
+  private final long windowBytes;
+  private final MappedByteBuffer[] windows;
+  private final FileIdentity fileIdentity;
+
+  public MappedFileByteRangeReader(final File file) throws IOException {
+    this(file.toPath());
+  }
+
+  public MappedFileByteRangeReader(final Path path) throws IOException {
+    this(path, DEFAULT_WINDOW_BYTES);
+  }
+
+  public MappedFileByteRangeReader(final Path path, final long windowBytes) throws IOException {
+    if (windowBytes <= 0 || windowBytes > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          "Mapped windows must be between 1 and " + Integer.MAX_VALUE + " bytes");
+    }
+    this.fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+    this.totalBytes = fileChannel.size();
+    this.windowBytes = windowBytes;
+    this.fileIdentity = FileIdentity.of(path);
+    this.windows = new MappedByteBuffer[(int) ((totalBytes + windowBytes - 1) / windowBytes)];
+  }
+
+  @Override
+  public Optional<Object> getIdentity() {
+    return Optional.of(fileIdentity);
+  }
+
+  @Override
+  public long getTotalBytesAvailable() {
+    return totalBytes;
+  }
+
+  @Override
+  public long readIntoBuffer(final long startByteOffset, final ByteBuffer buffer)
+      throws IOException {
+    if (startByteOffset >= totalBytes) {
+      return -1;
+    }
+    final var bytesToRead = (int) Math.min(buffer.remaining(), totalBytes - startByteOffset);
+    var offset = startByteOffset;
+    var remaining = bytesToRead;
+    while (remaining > 0) {
+      final var window = window((int) (offset / windowBytes));
+      final var positionInWindow = (int) (offset % windowBytes);
+      final var bytesFromWindow = Math.min(remaining, window.limit() - positionInWindow);
+      buffer.put(window.slice(positionInWindow, bytesFromWindow));
+      offset += bytesFromWindow;
+      remaining -= bytesFromWindow;
+    }
+    return bytesToRead;
+  }
+
+  @Override
+  public CompletableFuture<ByteBuffer> readUntilFull(
+      final long startByteOffset, final ByteBuffer buffer) {
+    try {
+      if (startByteOffset + buffer.remaining() > totalBytes) {
+        throw new EOFException("Not enough bytes could be read to fill the buffer");
+      }
+      readIntoBuffer(startByteOffset, buffer);
+      return CompletableFuture.completedFuture(buffer);
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(new ParquetIOException(e));
+    }
+  }
+
+  @Override
+  public CompletableFuture<ByteBuffer> readAsBuffer(
+      final long startByteOffset, final int bytesToRetrieve) {
+    try {
+      if (startByteOffset + bytesToRetrieve > totalBytes) {
+        throw new EOFException(
+            "Can't read " + bytesToRetrieve + " bytes from offset " + startByteOffset);
+      }
+      if (bytesToRetrieve == 0) {
+        return CompletableFuture.completedFuture(ByteBuffer.allocate(0));
+      }
+      final var windowIndex = (int) (startByteOffset / windowBytes);
+      final var positionInWindow = (int) (startByteOffset % windowBytes);
+      final var window = window(windowIndex);
+      if (positionInWindow + bytesToRetrieve <= window.limit()) {
+        return CompletableFuture.completedFuture(window.slice(positionInWindow, bytesToRetrieve));
+      }
+
+      // Spans more than one window, so we have to copy
+      final var buffer = ByteBuffer.allocate(bytesToRetrieve);
+      readIntoBuffer(startByteOffset, buffer);
+      return CompletableFuture.completedFuture(buffer.flip());
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(new ParquetIOException(e));
+    }
+  }
+
+  private synchronized MappedByteBuffer window(final int windowIndex) throws IOException {
+    if (windows[windowIndex] == null) {
+      final var windowStart = windowIndex * windowBytes;
+      windows[windowIndex] =
+          fileChannel.map(
+              FileChannel.MapMode.READ_ONLY,
+              windowStart,
+              Math.min(windowBytes, totalBytes - windowStart));
+    }
+    return windows[windowIndex];
+  }
+
+  @Override
+  public void close() throws IOException {
+    fileChannel.close();
+  }
+}
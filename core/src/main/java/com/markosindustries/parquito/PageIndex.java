@@ -0,0 +1,137 @@
+package com.markosindustries.parquito;
+
+import com.markosindustries.parquito.types.ColumnType;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import org.apache.parquet.format.ColumnChunk;
+import org.apache.parquet.format.ColumnIndex;
+import org.apache.parquet.format.OffsetIndex;
+import org.apache.parquet.format.Util;
+
+/**
+ * A column chunk's page index - where each of its data pages is and which rows it holds ({@link
+ * OffsetIndex}) along with, optionally, statistics for each page ({@link ColumnIndex}). Writers
+ * store these outside the column chunk, so they're only read when needed.
+ *
+ * @param offsetIndex page locations
+ * @param columnIndex per-page statistics, or null if the writer didn't record them
+ * @param rowGroupRows how many rows are in the row group, which is where the last page ends
+ */
+public record PageIndex(OffsetIndex offsetIndex, ColumnIndex columnIndex, long rowGroupRows) {
+  public static boolean hasOffsetIndex(final ColumnChunk columnChunkHeader) {
+    return columnChunkHeader.isSetOffset_index_offset()
+        && columnChunkHeader.isSetOffset_index_length();
+  }
+
+  public static boolean hasColumnIndex(final ColumnChunk columnChunkHeader) {
+    return columnChunkHeader.isSetColumn_index_offset()
+        && columnChunkHeader.isSetColumn_index_length();
+  }
+
+  /**
+   * @return the column chunk's page index, or empty if it doesn't have an offset index
+   */
+  public static CompletableFuture<Optional<PageIndex>> read(
+      final ColumnChunk columnChunkHeader,
+      final long rowGroupRows,
+      final ByteRangeReader byteRangeReader) {
+    if (!hasOffsetIndex(columnChunkHeader)) {
+      return CompletableFuture.completedFuture(Optional.empty());
+    }
+    final var offsetIndex = readOffsetIndex(columnChunkHeader, byteRangeReader);
+    final var columnIndex =
+        hasColumnIndex(columnChunkHeader)
+            ? readColumnIndex(columnChunkHeader, byteRangeReader)
+            : CompletableFuture.<ColumnIndex>completedFuture(null);
+    return offsetIndex.thenCombine(
+        columnIndex,
+        (readOffsetIndex, readColumnIndex) ->
+            Optional.of(new PageIndex(readOffsetIndex, readColumnIndex, rowGroupRows)));
+  }
+
+  public static CompletableFuture<OffsetIndex> readOffsetIndex(
+      final ColumnChunk columnChunkHeader, final ByteRangeReader byteRangeReader) {
+    return byteRangeReader
+        .readAsInputStream(
+            columnChunkHeader.offset_index_offset, columnChunkHeader.offset_index_length)
+        .thenApply(
+            inputStream -> {
+              try (inputStream) {
+                return Util.readOffsetIndex(inputStream);
+              } catch (IOException e) {
+                throw new ParquetIOException(e);
+              }
+            });
+  }
+
+  public static CompletableFuture<ColumnIndex> readColumnIndex(
+      final ColumnChunk columnChunkHeader, final ByteRangeReader byteRangeReader) {
+    return byteRangeReader
+        .readAsInputStream(
+            columnChunkHeader.column_index_offset, columnChunkHeader.column_index_length)
+        .thenApply(
+            inputStream -> {
+              try (inputStream) {
+                return Util.readColumnIndex(inputStream);
+              } catch (IOException e) {
+                throw new ParquetIOException(e);
+              }
+            });
+  }
+
+  public int pageCount() {
+    return offsetIndex.page_locations.size();
+  }
+
+  public long firstRowIndex(final int page) {
+    return offsetIndex.page_locations.get(page).first_row_index;
+  }
+
+  public long endRowIndex(final int page) {
+    return page + 1 < pageCount() ? firstRowIndex(page + 1) : rowGroupRows;
+  }
+
+  /**
+   * @return the page holding the given row
+   */
+  public int pageForRow(final long row) {
+    int low = 0;
+    int high = pageCount() - 1;
+    while (low < high) {
+      final var mid = (low + high + 1) >>> 1;
+      if (firstRowIndex(mid) <= row) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * @return the page's statistics, or empty if the writer didn't record a column index
+   */
+  public <ReadAs> Optional<ColumnStatistics<ReadAs>> statistics(
+      final int page, final ColumnType<ReadAs> columnType) {
+    if (columnIndex == null) {
+      return Optional.empty();
+    }
+    final var nullCount =
+        columnIndex.isSetNull_counts()
+            ? OptionalLong.of(columnIndex.null_counts.get(page))
+            : OptionalLong.empty();
+    if (columnIndex.null_pages.get(page)) {
+      return Optional.of(new ColumnStatistics<>(columnType, null, null, nullCount, true));
+    }
+    final var parquetType = columnType.parquetType();
+    return Optional.of(
+        new ColumnStatistics<>(
+            columnType,
+            parquetType.readFromByteBuffer(columnIndex.min_values.get(page)),
+            parquetType.readFromByteBuffer(columnIndex.max_values.get(page)),
+            nullCount,
+            false));
+  }
+}
@@ -1,5 +1,12 @@
 package com.markosindustries.parquito;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.apache.parquet.format.FileMetaData;
 
 public class ParquetFileReader {
@@ -10,4 +17,63 @@ public class ParquetFileReader {
     this.footer = footer;
     this.schemaRoot = ParquetSchemaNode.from(footer.schema);
   }
+
+  public static CompletableFuture<ParquetFileReader> read(ByteRangeReader byteRangeReader) {
+    return ParquetFooter.read(byteRangeReader).thenApply(ParquetFileReader::new);
+  }
+
+  public FileMetaData getFooter() {
+    return footer;
+  }
+
+  public ParquetSchemaNode.Root getSchemaRoot() {
+    return schemaRoot;
+  }
+
+  /**
+   * Decodes up to {@code parallelism} row groups at a time on the common ForkJoinPool, returning
+   * rows in file order.
+   */
+  public <Value> Stream<Value> scan(
+      final RowReadSpec<?, Value, ?> rowReadSpec,
+      final ByteRangeReader byteRangeReader,
+      final int parallelism) {
+    return scan(rowReadSpec, byteRangeReader, ForkJoinPool.commonPool(), parallelism, true);
+  }
+
+  /**
+   * Reads every row group in the file which the footer's statistics say might contain matching
+   * rows, decoding them concurrently. Each row group is held in memory once decoded, until its rows
+   * have been consumed - so {@code maxInFlightRowGroups} bounds memory use as well as parallelism.
+   * Closing the stream cancels any outstanding row groups.
+   *
+   * @param rowReadSpec what to read
+   * @param byteRangeReader where to read it from
+   * @param executor where to decode row groups
+   * @param maxInFlightRowGroups how many row groups can be decoding (or decoded but not yet
+   *     consumed) at once
+   * @param preserveOrder true to return rows in file order, false to return each row group's rows
+   *     as soon as it's decoded
+   * @return every row in the file
+   */
+  public <Value> Stream<Value> scan(
+      final RowReadSpec<?, Value, ?> rowReadSpec,
+      final ByteRangeReader byteRangeReader,
+      final Executor executor,
+      final int maxInFlightRowGroups,
+      final boolean preserveOrder) {
+    final var scanner =
+        new RowGroupScanner<>(
+            rowReadSpec,
+            byteRangeReader,
+            schemaRoot,
+            new RowGroupPruner(schemaRoot, rowReadSpec.predicate()).prune(footer.row_groups),
+            executor,
+            maxInFlightRowGroups,
+            preserveOrder);
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(scanner, preserveOrder ? Spliterator.ORDERED : 0),
+            false)
+        .onClose(scanner::close);
+  }
 }
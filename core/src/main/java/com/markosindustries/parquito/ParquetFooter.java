@@ -17,34 +17,119 @@ public class ParquetFooter {
   private static final byte[] PARQUET_ENCRYPTED_MAGIC_BYTES =
       "PARE".getBytes(StandardCharsets.US_ASCII);
 
+  public static final int DEFAULT_SPECULATIVE_TAIL_BYTES = 64 * 1024;
+  private static final int FOOTER_SIZE_AND_MAGIC_BYTES = 8;
+
+  /**
+   * The footer, along with the bytes which were read from the end of the file to find it.
+   *
+   * @param metaData the parsed footer
+   * @param offset where in the file the tail bytes begin
+   * @param bytes the last bytes of the file, which will include (some of) the footer, and may
+   *     include the column chunks which precede it
+   */
+  public record Tail(FileMetaData metaData, long offset, ByteBuffer bytes) {
+    /**
+     * @param byteRangeReader the reader the tail was read with
+     * @return a reader which serves any ranges already contained in the tail without further I/O
+     */
+    public ByteRangeReader prefetched(ByteRangeReader byteRangeReader) {
+      return new PrefetchedByteRangeReader(byteRangeReader, offset, bytes);
+    }
+  }
+
   public static CompletableFuture<FileMetaData> read(ByteRangeReader byteRangeReader) {
     try {
       final long totalBytesAvailable = byteRangeReader.getTotalBytesAvailable();
-      final var footerSizeAndMagicBufferOffset = totalBytesAvailable - 8;
-      final var footerSizeAndMagicBuffer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+      final var footerSizeAndMagicBufferOffset = totalBytesAvailable - FOOTER_SIZE_AND_MAGIC_BYTES;
+      final var footerSizeAndMagicBuffer = ByteBuffer.allocate(FOOTER_SIZE_AND_MAGIC_BYTES);
       return byteRangeReader
           .readUntilFull(footerSizeAndMagicBufferOffset, footerSizeAndMagicBuffer)
           .thenCompose(
               unused -> {
-                footerSizeAndMagicBuffer.flip();
-                final var footerSize = footerSizeAndMagicBuffer.getInt();
-                final var magic = new byte[4];
-                footerSizeAndMagicBuffer.get(magic);
-                final var footerIsEncrypted = isFooterEncrypted(magic);
+                final var footerSize = readFooterSize(footerSizeAndMagicBuffer.flip());
+                return byteRangeReader
+                    .readAsInputStream(footerSizeAndMagicBufferOffset - footerSize, footerSize)
+                    .thenApply(ParquetFooter::readFileMetaData);
+              });
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
 
-                if (footerIsEncrypted) {
-                  throw new RuntimeException("Encrypted reading is not currently implemented");
+  /**
+   * Speculatively reads the last {@code speculativeTailBytes} of the file in one request, which
+   * saves a round trip whenever the footer fits within them.
+   */
+  public static CompletableFuture<FileMetaData> read(
+      ByteRangeReader byteRangeReader, int speculativeTailBytes) {
+    return readTail(byteRangeReader, speculativeTailBytes).thenApply(Tail::metaData);
+  }
+
+  /**
+   * Speculatively reads the last {@code speculativeTailBytes} of the file in one request, and only
+   * makes a second request if the footer turns out to be larger than that.
+   */
+  public static CompletableFuture<Tail> readTail(
+      ByteRangeReader byteRangeReader, int speculativeTailBytes) {
+    try {
+      final long totalBytesAvailable = byteRangeReader.getTotalBytesAvailable();
+      final var tailBytes =
+          (int)
+              Math.min(
+                  totalBytesAvailable, Math.max(FOOTER_SIZE_AND_MAGIC_BYTES, speculativeTailBytes));
+      final var tailOffset = totalBytesAvailable - tailBytes;
+      return byteRangeReader
+          .readAsBuffer(tailOffset, tailBytes)
+          .thenCompose(
+              tail -> {
+                final var footerSize =
+                    readFooterSize(
+                        tail.slice(
+                            tailBytes - FOOTER_SIZE_AND_MAGIC_BYTES, FOOTER_SIZE_AND_MAGIC_BYTES));
+                final var footerOffset =
+                    totalBytesAvailable - FOOTER_SIZE_AND_MAGIC_BYTES - footerSize;
+                if (footerOffset >= tailOffset) {
+                  final var footer = tail.slice((int) (footerOffset - tailOffset), footerSize);
+                  return CompletableFuture.completedFuture(
+                      new Tail(
+                          readFileMetaData(new ByteBufferInputStream(footer)), tailOffset, tail));
                 }
 
+                // The footer is bigger than our guess - so we fetch the start of it
+                final var bytesMissing = (int) (tailOffset - footerOffset);
                 return byteRangeReader
-                    .readAsInputStream(footerSizeAndMagicBufferOffset - footerSize, footerSize)
-                    .thenApply(ParquetFooter::readFileMetaData);
+                    .readAsBuffer(footerOffset, bytesMissing)
+                    .thenApply(
+                        footerStart -> {
+                          final var footer =
+                              ByteBuffer.allocate(footerSize)
+                                  .put(footerStart)
+                                  .put(tail.slice(0, footerSize - bytesMissing))
+                                  .flip();
+                          return new Tail(
+                              readFileMetaData(new ByteBufferInputStream(footer)),
+                              tailOffset,
+                              tail);
+                        });
               });
     } catch (IOException e) {
       return CompletableFuture.failedFuture(e);
     }
   }
 
+  private static int readFooterSize(ByteBuffer footerSizeAndMagicBuffer) {
+    final var footerSize = footerSizeAndMagicBuffer.order(ByteOrder.LITTLE_ENDIAN).getInt();
+    final var magic = new byte[4];
+    footerSizeAndMagicBuffer.get(magic);
+    final var footerIsEncrypted = isFooterEncrypted(magic);
+
+    if (footerIsEncrypted) {
+      throw new RuntimeException("Encrypted reading is not currently implemented");
+    }
+    return footerSize;
+  }
+
   public static CompletableFuture<Void> write(FileMetaData metaData, OutputStream outputStream)
       throws IOException {
     return CompletableFuture.runAsync(
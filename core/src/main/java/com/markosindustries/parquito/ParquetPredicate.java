@@ -2,10 +2,19 @@ package com.markosindustries.parquito;
 
 import static com.markosindustries.parquito.ParquetPredicates.all;
 
+import com.markosindustries.parquito.kernels.Comparison;
+import com.markosindustries.parquito.kernels.Kernels;
+import com.markosindustries.parquito.page.DictionaryPage;
 import com.markosindustries.parquito.types.ColumnType;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -18,6 +27,21 @@ public interface ParquetPredicate<ReadAs> {
 
   ParquetPredicate<?> forChild(final String child);
 
+  /**
+   * @return true if the predicate needs the column at this path to be read
+   */
+  default boolean includesPath(final List<String> path) {
+    ParquetPredicate<?> currentPredicate = this;
+    for (final String child : path) {
+      if (currentPredicate.includesChild(child)) {
+        currentPredicate = currentPredicate.forChild(child);
+      } else {
+        return false;
+      }
+    }
+    return true;
+  }
+
   default boolean objectMatches(final Object value) {
     //noinspection unchecked
     return valueMatches((ReadAs) value);
@@ -27,6 +51,84 @@ public interface ParquetPredicate<ReadAs> {
 
   boolean branchMatches(final Function<String, Boolean> childMatchesNextRow);
 
+  /**
+   * @return the indices of the dictionary's values which match - by default, by testing every value
+   */
+  default BitSet matchDictionary(final DictionaryPage<ReadAs> dictionary) {
+    final var values = dictionary.getValues();
+    final var matches = new BitSet(dictionary.getTotalValues());
+    for (int dictionaryId = 0; dictionaryId < dictionary.getTotalValues(); dictionaryId++) {
+      if (valueMatches(values.get(dictionaryId))) {
+        matches.set(dictionaryId);
+      }
+    }
+    return matches;
+  }
+
+  /**
+   * Evaluates the predicate against a page of physical values all at once - for predicates which
+   * are a plain comparison against a constant, which {@link Kernels} can make a vector at a time.
+   *
+   * @return a bitmap of which of the values match, 64 to each word - or null if the predicate can't
+   *     be evaluated this way
+   */
+  default long[] selectLongs(final long[] values) {
+    return null;
+  }
+
+  /** Like {@link #selectLongs}, for int values */
+  default long[] selectInts(final int[] values) {
+    return null;
+  }
+
+  /**
+   * Like {@link #selectLongs}, for a view of a page's values - which are only copied out into an
+   * array if the predicate can be evaluated this way
+   */
+  default long[] selectLongs(final LongBuffer values) {
+    return null;
+  }
+
+  /** Like {@link #selectLongs(LongBuffer)}, for int values */
+  default long[] selectInts(final IntBuffer values) {
+    return null;
+  }
+
+  /**
+   * Evaluates the predicate against column statistics rather than values, so that row groups (or
+   * pages) can be skipped without reading them. Only meaningful for a predicate over whole rows -
+   * not one returned by {@link #forChild}.
+   */
+  default StatisticsMatch matchStatistics(final ColumnStatistics.Lookup statistics) {
+    return StatisticsMatch.MAYBE;
+  }
+
+  /**
+   * Probes the dictionaries and bloom filters of the columns the predicate needs exact values from,
+   * to find whether a row group can be skipped without reading its data pages. Like {@link
+   * #matchStatistics}, only meaningful for a predicate over whole rows.
+   *
+   * @return NONE if no rows can match, once any dictionaries or bloom filters needed have been read
+   */
+  default CompletableFuture<StatisticsMatch> matchColumnChunks(
+      final ColumnChunkReader.Lookup columnChunks) {
+    return CompletableFuture.completedFuture(StatisticsMatch.MAYBE);
+  }
+
+  private static CompletableFuture<StatisticsMatch> combineMatches(
+      final ParquetPredicate<?>[] predicates,
+      final ColumnChunkReader.Lookup columnChunks,
+      final StatisticsMatch identity,
+      final BinaryOperator<StatisticsMatch> combine) {
+    final var matches =
+        Arrays.stream(predicates)
+            .map(predicate -> predicate.matchColumnChunks(columnChunks))
+            .toList();
+    return CompletableFuture.allOf(matches.toArray(CompletableFuture[]::new))
+        .thenApply(
+            unused -> matches.stream().map(CompletableFuture::join).reduce(identity, combine));
+  }
+
   class All<ReadAs> implements ParquetPredicate<ReadAs> {
     @Override
     public Set<String> includedChildren() {
@@ -52,6 +154,24 @@ public interface ParquetPredicate<ReadAs> {
     public boolean branchMatches(final Function<String, Boolean> childMatchesNextRow) {
       return true;
     }
+
+    @Override
+    public BitSet matchDictionary(final DictionaryPage<ReadAs> dictionary) {
+      final var matches = new BitSet(dictionary.getTotalValues());
+      matches.set(0, dictionary.getTotalValues());
+      return matches;
+    }
+
+    @Override
+    public StatisticsMatch matchStatistics(final ColumnStatistics.Lookup statistics) {
+      return StatisticsMatch.ALL;
+    }
+
+    @Override
+    public CompletableFuture<StatisticsMatch> matchColumnChunks(
+        final ColumnChunkReader.Lookup columnChunks) {
+      return CompletableFuture.completedFuture(StatisticsMatch.ALL);
+    }
   }
 
   class Union implements ParquetPredicate<Object> {
@@ -103,6 +223,38 @@ public interface ParquetPredicate<ReadAs> {
       }
       return includedChildren.isEmpty();
     }
+
+    @Override
+    public BitSet matchDictionary(final DictionaryPage<Object> dictionary) {
+      final var matches = new BitSet(dictionary.getTotalValues());
+      for (final ParquetPredicate<?> predicate : predicates) {
+        @SuppressWarnings("unchecked")
+        final var typedPredicate = (ParquetPredicate<Object>) predicate;
+        matches.or(typedPredicate.matchDictionary(dictionary));
+      }
+      return matches;
+    }
+
+    @Override
+    public StatisticsMatch matchStatistics(final ColumnStatistics.Lookup statistics) {
+      if (predicates.length == 0) {
+        return StatisticsMatch.ALL;
+      }
+      var match = StatisticsMatch.NONE;
+      for (final ParquetPredicate<?> predicate : predicates) {
+        match = match.or(predicate.matchStatistics(statistics));
+      }
+      return match;
+    }
+
+    @Override
+    public CompletableFuture<StatisticsMatch> matchColumnChunks(
+        final ColumnChunkReader.Lookup columnChunks) {
+      if (predicates.length == 0) {
+        return CompletableFuture.completedFuture(StatisticsMatch.ALL);
+      }
+      return combineMatches(predicates, columnChunks, StatisticsMatch.NONE, StatisticsMatch::or);
+    }
   }
 
   class Intersection implements ParquetPredicate<Object> {
@@ -154,6 +306,33 @@ public interface ParquetPredicate<ReadAs> {
       }
       return true;
     }
+
+    @Override
+    public BitSet matchDictionary(final DictionaryPage<Object> dictionary) {
+      final var matches = new BitSet(dictionary.getTotalValues());
+      matches.set(0, dictionary.getTotalValues());
+      for (final ParquetPredicate<?> predicate : predicates) {
+        @SuppressWarnings("unchecked")
+        final var typedPredicate = (ParquetPredicate<Object>) predicate;
+        matches.and(typedPredicate.matchDictionary(dictionary));
+      }
+      return matches;
+    }
+
+    @Override
+    public StatisticsMatch matchStatistics(final ColumnStatistics.Lookup statistics) {
+      var match = StatisticsMatch.ALL;
+      for (final ParquetPredicate<?> predicate : predicates) {
+        match = match.and(predicate.matchStatistics(statistics));
+      }
+      return match;
+    }
+
+    @Override
+    public CompletableFuture<StatisticsMatch> matchColumnChunks(
+        final ColumnChunkReader.Lookup columnChunks) {
+      return combineMatches(predicates, columnChunks, StatisticsMatch.ALL, StatisticsMatch::and);
+    }
   }
 
   abstract class Leaf<ReadAs, L extends Leaf<ReadAs, L>> implements ParquetPredicate<ReadAs> {
@@ -204,6 +383,63 @@ public interface ParquetPredicate<ReadAs> {
       return columnType.compare(value, comparator);
     }
 
+    /**
+     * @return how {@link #valueMatches} compares values against the comparator, if it's that simple
+     *     - or null if it isn't
+     */
+    protected Comparison comparison() {
+      return null;
+    }
+
+    /**
+     * @return whether the kernels can compare values against a comparator of the given class
+     */
+    private boolean selectable(final Class<?> constantClass) {
+      return comparison() != null
+          && constantClass.isInstance(comparator)
+          && columnType.comparesAsSignedPrimitives();
+    }
+
+    @Override
+    public long[] selectLongs(final long[] values) {
+      if (!selectable(Long.class)) {
+        return null;
+      }
+      final var selection = new long[(values.length + 63) >>> 6];
+      Kernels.get().select(values, values.length, comparison(), (Long) comparator, selection);
+      return selection;
+    }
+
+    @Override
+    public long[] selectInts(final int[] values) {
+      if (!selectable(Integer.class)) {
+        return null;
+      }
+      final var selection = new long[(values.length + 63) >>> 6];
+      Kernels.get().select(values, values.length, comparison(), (Integer) comparator, selection);
+      return selection;
+    }
+
+    @Override
+    public long[] selectLongs(final LongBuffer values) {
+      if (!selectable(Long.class)) {
+        return null;
+      }
+      final var array = new long[values.limit()];
+      values.get(0, array);
+      return selectLongs(array);
+    }
+
+    @Override
+    public long[] selectInts(final IntBuffer values) {
+      if (!selectable(Integer.class)) {
+        return null;
+      }
+      final var array = new int[values.limit()];
+      values.get(0, array);
+      return selectInts(array);
+    }
+
     @Override
     public boolean branchMatches(final Function<String, Boolean> childMatchesNextRow) {
       if (path.length > offset) {
@@ -211,6 +447,80 @@ public interface ParquetPredicate<ReadAs> {
       }
       return true;
     }
+
+    @Override
+    public StatisticsMatch matchStatistics(final ColumnStatistics.Lookup statistics) {
+      return statistics
+          .forPath(path)
+          .map(
+              columnStatistics -> {
+                @SuppressWarnings("unchecked")
+                final var typedStatistics = (ColumnStatistics<ReadAs>) columnStatistics;
+                return matchColumnStatistics(typedStatistics);
+              })
+          .orElse(StatisticsMatch.MAYBE);
+    }
+
+    private StatisticsMatch matchColumnStatistics(final ColumnStatistics<ReadAs> statistics) {
+      if (statistics.allNull()) {
+        // Nulls never match
+        return StatisticsMatch.NONE;
+      }
+      if (!statistics.hasRange()) {
+        return StatisticsMatch.MAYBE;
+      }
+      return matchRange(
+          compare(statistics.lowest()), compare(statistics.highest()), statistics.noNulls());
+    }
+
+    /**
+     * @param lowestComparison {@link #compare} of the lowest value in the column's sort order
+     * @param highestComparison {@link #compare} of the highest value in the column's sort order
+     * @param noNulls whether every entry has a value
+     * @return whether no, some or all values in that range match
+     */
+    protected abstract StatisticsMatch matchRange(
+        int lowestComparison, int highestComparison, boolean noNulls);
+
+    /**
+     * Probes the column chunk's dictionary or bloom filter for the comparator - which is only
+     * worthwhile for predicates which need an exact value.
+     */
+    protected CompletableFuture<StatisticsMatch> matchComparatorPresence(
+        final ColumnChunkReader.Lookup columnChunks) {
+      return columnChunks
+          .forPath(path)
+          .map(
+              columnChunkReader -> {
+                @SuppressWarnings("unchecked")
+                final var typedReader = (ColumnChunkReader<ReadAs>) columnChunkReader;
+                return typedReader
+                    .mightContainAny(ValueSet.of(columnType, List.of(comparator)))
+                    .thenApply(
+                        mightContain ->
+                            mightContain ? StatisticsMatch.MAYBE : StatisticsMatch.NONE);
+              })
+          .orElse(CompletableFuture.completedFuture(StatisticsMatch.MAYBE));
+    }
+
+    /**
+     * Binary searches the dictionary's sorted values for the comparator.
+     *
+     * @param orEqual whether to find the first value equal to the comparator, rather than the first
+     *     greater
+     */
+    protected int firstSortedPosition(
+        final DictionaryPage<ReadAs> dictionary, final boolean orEqual) {
+      return dictionary.firstSortedPosition(this::compare, orEqual);
+    }
+
+    protected static StatisticsMatch rangeMatch(
+        final boolean noneMatch, final boolean allMatch, final boolean noNulls) {
+      if (noneMatch) {
+        return StatisticsMatch.NONE;
+      }
+      return allMatch && noNulls ? StatisticsMatch.ALL : StatisticsMatch.MAYBE;
+    }
   }
 
   class Equals<ReadAs> extends Leaf<ReadAs, Equals<ReadAs>> {
@@ -223,6 +533,139 @@ public interface ParquetPredicate<ReadAs> {
     public boolean valueMatches(final ReadAs value) {
       return compare(value) == 0;
     }
+
+    @Override
+    protected Comparison comparison() {
+      return Comparison.EQUAL;
+    }
+
+    @Override
+    protected StatisticsMatch matchRange(
+        final int lowestComparison, final int highestComparison, final boolean noNulls) {
+      return rangeMatch(
+          lowestComparison > 0 || highestComparison < 0,
+          lowestComparison == 0 && highestComparison == 0,
+          noNulls);
+    }
+
+    @Override
+    public BitSet matchDictionary(final DictionaryPage<ReadAs> dictionary) {
+      return dictionary.dictionaryIdsInSortedPositions(
+          firstSortedPosition(dictionary, true), firstSortedPosition(dictionary, false));
+    }
+
+    @Override
+    public CompletableFuture<StatisticsMatch> matchColumnChunks(
+        final ColumnChunkReader.Lookup columnChunks) {
+      return matchComparatorPresence(columnChunks);
+    }
+  }
+
+  /** Matches values which are in a set, probing the set in constant time. */
+  class In<ReadAs> implements ParquetPredicate<ReadAs> {
+    private final ValueSet<ReadAs> values;
+    private final String[] path;
+    private final int offset;
+    private final Set<String> includedChildren;
+
+    public In(final ValueSet<ReadAs> values, String[] path, int offset) {
+      this.values = values;
+      this.path = path;
+      this.offset = offset;
+      this.includedChildren =
+          path.length > offset ? Collections.singleton(path[offset]) : Collections.emptySet();
+    }
+
+    @Override
+    public Set<String> includedChildren() {
+      return includedChildren;
+    }
+
+    @Override
+    public ParquetPredicate<?> forChild(final String child) {
+      if (!includesChild(child)) {
+        return all();
+      }
+      return new In<>(values, path, offset + 1);
+    }
+
+    @Override
+    public boolean valueMatches(final ReadAs value) {
+      return values.contains(value);
+    }
+
+    @Override
+    public BitSet matchDictionary(final DictionaryPage<ReadAs> dictionary) {
+      if (values.size() >= dictionary.getTotalValues()) {
+        return ParquetPredicate.super.matchDictionary(dictionary);
+      }
+      final var matches = new BitSet(dictionary.getTotalValues());
+      values.forEach(
+          value -> {
+            final var dictionaryId = dictionary.indexOf(value);
+            if (dictionaryId >= 0) {
+              matches.set(dictionaryId);
+            }
+          });
+      return matches;
+    }
+
+    @Override
+    public boolean branchMatches(final Function<String, Boolean> childMatchesNextRow) {
+      if (path.length > offset) {
+        return childMatchesNextRow.apply(path[offset]);
+      }
+      return true;
+    }
+
+    @Override
+    public StatisticsMatch matchStatistics(final ColumnStatistics.Lookup statistics) {
+      return statistics
+          .forPath(path)
+          .map(
+              columnStatistics -> {
+                @SuppressWarnings("unchecked")
+                final var typedStatistics = (ColumnStatistics<ReadAs>) columnStatistics;
+                return matchColumnStatistics(typedStatistics);
+              })
+          .orElse(StatisticsMatch.MAYBE);
+    }
+
+    private StatisticsMatch matchColumnStatistics(final ColumnStatistics<ReadAs> statistics) {
+      if (values.isEmpty() || statistics.allNull()) {
+        return StatisticsMatch.NONE;
+      }
+      if (!statistics.hasRange()) {
+        return StatisticsMatch.MAYBE;
+      }
+      final var lowest = statistics.lowest();
+      final var highest = statistics.highest();
+      if (!values.anyWithin(lowest, highest)) {
+        return StatisticsMatch.NONE;
+      }
+      final var singleValue = statistics.columnType().compare(lowest, highest) == 0;
+      return singleValue && statistics.noNulls() && values.contains(lowest)
+          ? StatisticsMatch.ALL
+          : StatisticsMatch.MAYBE;
+    }
+
+    @Override
+    public CompletableFuture<StatisticsMatch> matchColumnChunks(
+        final ColumnChunkReader.Lookup columnChunks) {
+      return columnChunks
+          .forPath(path)
+          .map(
+              columnChunkReader -> {
+                @SuppressWarnings("unchecked")
+                final var typedReader = (ColumnChunkReader<ReadAs>) columnChunkReader;
+                return typedReader
+                    .mightContainAny(values)
+                    .thenApply(
+                        mightContain ->
+                            mightContain ? StatisticsMatch.MAYBE : StatisticsMatch.NONE);
+              })
+          .orElse(CompletableFuture.completedFuture(StatisticsMatch.MAYBE));
+    }
   }
 
   class GreaterThan<ReadAs> extends Leaf<ReadAs, GreaterThan<ReadAs>> {
@@ -235,6 +678,23 @@ public interface ParquetPredicate<ReadAs> {
     public boolean valueMatches(final ReadAs value) {
       return compare(value) > 0;
     }
+
+    @Override
+    protected Comparison comparison() {
+      return Comparison.GREATER_THAN;
+    }
+
+    @Override
+    protected StatisticsMatch matchRange(
+        final int lowestComparison, final int highestComparison, final boolean noNulls) {
+      return rangeMatch(highestComparison <= 0, lowestComparison > 0, noNulls);
+    }
+
+    @Override
+    public BitSet matchDictionary(final DictionaryPage<ReadAs> dictionary) {
+      return dictionary.dictionaryIdsInSortedPositions(
+          firstSortedPosition(dictionary, false), dictionary.getTotalValues());
+    }
   }
 
   class GreaterThanOrEqual<ReadAs> extends Leaf<ReadAs, GreaterThanOrEqual<ReadAs>> {
@@ -247,6 +707,23 @@ public interface ParquetPredicate<ReadAs> {
     public boolean valueMatches(final ReadAs value) {
       return compare(value) >= 0;
     }
+
+    @Override
+    protected Comparison comparison() {
+      return Comparison.GREATER_THAN_OR_EQUAL;
+    }
+
+    @Override
+    protected StatisticsMatch matchRange(
+        final int lowestComparison, final int highestComparison, final boolean noNulls) {
+      return rangeMatch(highestComparison < 0, lowestComparison >= 0, noNulls);
+    }
+
+    @Override
+    public BitSet matchDictionary(final DictionaryPage<ReadAs> dictionary) {
+      return dictionary.dictionaryIdsInSortedPositions(
+          firstSortedPosition(dictionary, true), dictionary.getTotalValues());
+    }
   }
 
   class LessThan<ReadAs> extends Leaf<ReadAs, LessThan<ReadAs>> {
@@ -259,6 +736,22 @@ public interface ParquetPredicate<ReadAs> {
     public boolean valueMatches(final ReadAs value) {
       return compare(value) < 0;
     }
+
+    @Override
+    protected Comparison comparison() {
+      return Comparison.LESS_THAN;
+    }
+
+    @Override
+    protected StatisticsMatch matchRange(
+        final int lowestComparison, final int highestComparison, final boolean noNulls) {
+      return rangeMatch(lowestComparison >= 0, highestComparison < 0, noNulls);
+    }
+
+    @Override
+    public BitSet matchDictionary(final DictionaryPage<ReadAs> dictionary) {
+      return dictionary.dictionaryIdsInSortedPositions(0, firstSortedPosition(dictionary, true));
+    }
   }
 
   class LessThanOrEqual<ReadAs> extends Leaf<ReadAs, LessThanOrEqual<ReadAs>> {
@@ -271,5 +764,21 @@ public interface ParquetPredicate<ReadAs> {
     public boolean valueMatches(final ReadAs value) {
       return compare(value) <= 0;
     }
+
+    @Override
+    protected Comparison comparison() {
+      return Comparison.LESS_THAN_OR_EQUAL;
+    }
+
+    @Override
+    protected StatisticsMatch matchRange(
+        final int lowestComparison, final int highestComparison, final boolean noNulls) {
+      return rangeMatch(lowestComparison > 0, highestComparison <= 0, noNulls);
+    }
+
+    @Override
+    public BitSet matchDictionary(final DictionaryPage<ReadAs> dictionary) {
+      return dictionary.dictionaryIdsInSortedPositions(0, firstSortedPosition(dictionary, false));
+    }
   }
 }
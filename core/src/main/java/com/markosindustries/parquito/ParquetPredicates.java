@@ -1,6 +1,7 @@
 package com.markosindustries.parquito;
 
 import com.markosindustries.parquito.types.ColumnType;
+import java.util.Collection;
 
 public class ParquetPredicates {
   static <ReadAs> ParquetPredicate.All<ReadAs> all() {
@@ -26,6 +27,23 @@ public class ParquetPredicates {
     return equals(comparator, columnType, schemaPath);
   }
 
+  /**
+   * Matches values in the collection - which is copied into a {@link ValueSet}, so that each value
+   * read is checked in constant time, and row groups can be skipped by probing their dictionaries
+   * or bloom filters for the whole set. Prefer this to a {@link #union} of {@link #equals}
+   * predicates.
+   */
+  public static <ReadAs> ParquetPredicate<ReadAs> in(
+      Collection<?> values, ColumnType<ReadAs> columnType, String... schemaPath) {
+    return new ParquetPredicate.In<>(ValueSet.of(columnType, values), schemaPath, 0);
+  }
+
+  public static ParquetPredicate<?> in(
+      RowGroupReader rowGroupReader, Collection<?> values, String... schemaPath) {
+    final var columnType = rowGroupReader.getColumnType(schemaPath).orElseThrow();
+    return in(values, columnType, schemaPath);
+  }
+
   public static <ReadAs> ParquetPredicate<ReadAs> greaterThan(
       Object comparator, ColumnType<ReadAs> columnType, String... schemaPath) {
     return new ParquetPredicate.GreaterThan<>((ReadAs) comparator, columnType, schemaPath, 0);
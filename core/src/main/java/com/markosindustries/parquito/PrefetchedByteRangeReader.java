@@ -0,0 +1,79 @@
+package com.markosindustries.parquito;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Serves reads which fall entirely within a range we've already fetched from memory, and passes
+ * everything else on to the underlying {@link ByteRangeReader}.
+ */
+public class PrefetchedByteRangeReader implements ByteRangeReader {
+  private final ByteRangeReader delegate;
+  private final long prefetchedOffset;
+  private final ByteBuffer prefetchedBytes;
+
+  public PrefetchedByteRangeReader(
+      final ByteRangeReader delegate,
+      final long prefetchedOffset,
+      final ByteBuffer prefetchedBytes) {
+    this.delegate = delegate;
+    this.prefetchedOffset = prefetchedOffset;
+    this.prefetchedBytes = prefetchedBytes;
+  }
+
+  private boolean isPrefetched(final long startByteOffset, final int bytes) {
+    return startByteOffset >= prefetchedOffset
+        && startByteOffset + bytes <= prefetchedOffset + prefetchedBytes.limit();
+  }
+
+  private ByteBuffer prefetched(final long startByteOffset, final int bytes) {
+    return prefetchedBytes.slice((int) (startByteOffset - prefetchedOffset), bytes);
+  }
+
+  @Override
+  public Optional<Object> getIdentity() {
+    return delegate.getIdentity();
+  }
+
+  @Override
+  public long getTotalBytesAvailable() throws IOException {
+    return delegate.getTotalBytesAvailable();
+  }
+
+  @Override
+  public long readIntoBuffer(final long startByteOffset, final ByteBuffer buffer)
+      throws IOException {
+    if (isPrefetched(startByteOffset, buffer.remaining())) {
+      final var bytes = buffer.remaining();
+      buffer.put(prefetched(startByteOffset, bytes));
+      return bytes;
+    }
+    return delegate.readIntoBuffer(startByteOffset, buffer);
+  }
+
+  @Override
+  public CompletableFuture<ByteBuffer> readUntilFull(
+      final long startByteOffset, final ByteBuffer buffer) {
+    if (isPrefetched(startByteOffset, buffer.remaining())) {
+      return CompletableFuture.completedFuture(
+          buffer.put(prefetched(startByteOffset, buffer.remaining())));
+    }
+    return delegate.readUntilFull(startByteOffset, buffer);
+  }
+
+  @Override
+  public CompletableFuture<ByteBuffer> readAsBuffer(
+      final long startByteOffset, final int bytesToRetrieve) {
+    if (isPrefetched(startByteOffset, bytesToRetrieve)) {
+      return CompletableFuture.completedFuture(prefetched(startByteOffset, bytesToRetrieve));
+    }
+    return delegate.readAsBuffer(startByteOffset, bytesToRetrieve);
+  }
+
+  @Override
+  public void close() throws Exception {
+    delegate.close();
+  }
+}
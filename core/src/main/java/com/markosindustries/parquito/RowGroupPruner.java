@@ -0,0 +1,25 @@
+package com.markosindustries.parquito;
+
+import java.util.List;
+import org.apache.parquet.format.RowGroup;
+
+/**
+ * Evaluates a predicate against the column statistics in the footer, so that row groups which can't
+ * contain any matching rows are skipped without reading any of their pages.
+ */
+public record RowGroupPruner(ParquetSchemaNode.Root schemaRoot, ParquetPredicate<?> predicate) {
+  public StatisticsMatch match(final RowGroup rowGroup) {
+    return new RowGroupReader(rowGroup, schemaRoot).matchStatistics(predicate);
+  }
+
+  public boolean canSkip(final RowGroup rowGroup) {
+    return match(rowGroup) == StatisticsMatch.NONE;
+  }
+
+  /**
+   * @return the row groups which might contain matching rows, in their original order
+   */
+  public List<RowGroup> prune(final List<RowGroup> rowGroups) {
+    return rowGroups.stream().filter(rowGroup -> !canSkip(rowGroup)).toList();
+  }
+}
@@ -1,5 +1,7 @@
 package com.markosindustries.parquito;
 
+import com.markosindustries.parquito.batch.ColumnBatchReader;
+import com.markosindustries.parquito.page.DataPage;
 import com.markosindustries.parquito.rows.OptionalBranchIterator;
 import com.markosindustries.parquito.rows.OptionalValueIterator;
 import com.markosindustries.parquito.rows.ParquetFieldIterator;
@@ -7,9 +9,16 @@ import com.markosindustries.parquito.rows.RepeatedBranchIterator;
 import com.markosindustries.parquito.rows.RepeatedValueIterator;
 import com.markosindustries.parquito.rows.RowIterator;
 import com.markosindustries.parquito.types.ColumnType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.parquet.format.FieldRepetitionType;
@@ -18,48 +27,359 @@ import org.apache.parquet.format.SortingColumn;
 
 public record RowGroupReader(RowGroup rowGroupHeader, ParquetSchemaNode.Root schemaRoot) {
 
+  /**
+   * Blocks until the rows can be iterated. A row limit with a predicate the page index can't narrow
+   * down is the exception - the pages are streamed instead (see {@link #streamRows}) as the rows
+   * are iterated on this thread, so that reading stops once enough rows have matched.
+   */
   public <Repeated, Value> Iterator<Value> getRowIterator(
       final RowReadSpec<Repeated, Value, ?> rowReadSpec, final ByteRangeReader byteRangeReader) {
-    return new RowIterator<>(
-        new OptionalBranchIterator<>(
-            schemaRoot.getChildren().stream()
-                .filter(rowReadSpec::includesChild)
-                .collect(
-                    Collectors.toMap(
-                        child -> child,
-                        child -> {
-                          return iterateField(
-                              rowReadSpec.forChild(child),
-                              schemaRoot.getChild(child),
-                              byteRangeReader);
-                        })),
-            schemaRoot,
-            rowReadSpec));
+    return readRows(rowReadSpec, byteRangeReader, true).join();
+  }
+
+  /**
+   * Like {@link #getRowIterator}, but without blocking - the returned future completes once every
+   * page the rows need has been read, so iterating them won't wait on any I/O, and can be done on
+   * any thread.
+   */
+  public <Repeated, Value> CompletableFuture<Iterator<Value>> readRows(
+      final RowReadSpec<Repeated, Value, ?> rowReadSpec, final ByteRangeReader byteRangeReader) {
+    return readRows(rowReadSpec, byteRangeReader, false);
+  }
+
+  /**
+   * @param streamLimitedRows whether a row limit may be met by streaming the pages, when the rows
+   *     will be iterated on a thread which can block on I/O
+   */
+  private <Repeated, Value> CompletableFuture<Iterator<Value>> readRows(
+      final RowReadSpec<Repeated, Value, ?> rowReadSpec,
+      final ByteRangeReader byteRangeReader,
+      final boolean streamLimitedRows) {
+    if (rowReadSpec.rowLimit() == 0
+        || matchStatistics(rowReadSpec.predicate()) == StatisticsMatch.NONE) {
+      return CompletableFuture.completedFuture(Collections.emptyIterator());
+    }
+
+    // The readers which probe the predicate's dictionaries and bloom filters are kept, so their
+    // pages are read without fetching those again
+    final var columnChunkReaders = new HashMap<List<String>, ColumnChunkReader<?>>();
+    return matchColumnChunks(rowReadSpec.predicate(), byteRangeReader, columnChunkReaders)
+        .thenCompose(
+            columnChunkMatch ->
+                columnChunkMatch == StatisticsMatch.NONE
+                    ? CompletableFuture.completedFuture(RowRanges.none())
+                    : selectRows(rowReadSpec.predicate(), byteRangeReader))
+        .thenCompose(
+            selectedRows -> {
+              if (selectedRows.isEmpty()) {
+                return CompletableFuture.completedFuture(Collections.emptyIterator());
+              }
+
+              if (rowReadSpec.lateMaterialization()
+                  && !rowReadSpec.predicate().includedChildren().isEmpty()) {
+                return readRowsLate(rowReadSpec, byteRangeReader, columnChunkReaders, selectedRows);
+              }
+
+              final var everyRowMatches = rowReadSpec.predicate().includedChildren().isEmpty();
+              if (streamLimitedRows
+                  && rowReadSpec.hasRowLimit()
+                  && !everyRowMatches
+                  && selectedRows.rowCount() == rowGroupHeader.num_rows) {
+                // There's no telling which rows match until they're decoded, so stream the pages -
+                // and stop reading them once enough rows have matched
+                return streamRows(
+                    rowReadSpec,
+                    byteRangeReader,
+                    StreamingPageIterator.DEFAULT_WINDOW_BYTES,
+                    StreamingPageIterator.DEFAULT_READ_AHEAD_WINDOWS);
+              }
+              // Where every row matches, only the pages holding the first rows need reading
+              final var rowsToRead =
+                  rowReadSpec.hasRowLimit() && everyRowMatches
+                      ? selectedRows.first(rowReadSpec.rowLimit())
+                      : selectedRows;
+
+              // Issue the reads for every column up front, so they're in flight concurrently (and
+              // can be coalesced by the ByteRangeReader) before we block on any of them
+              final var leafPages =
+                  readLeafPages(rowReadSpec, byteRangeReader, columnChunkReaders, rowsToRead);
+              // Only the pages holding the rows to read were read, so only those rows are evaluated
+              return CompletableFuture.allOf(leafPages.values().toArray(CompletableFuture[]::new))
+                  .thenApply(
+                      unused ->
+                          new RowIterator<>(
+                              iterateRows(rowReadSpec, leafPages),
+                              rowsToRead,
+                              true,
+                              rowReadSpec.rowLimit()));
+            });
+  }
+
+  /**
+   * Like {@link #readRows}, but streams each column chunk's pages in windows of bytes as the rows
+   * are iterated, rather than reading whole chunks up front - bounding the memory a large row group
+   * needs. Iterating the rows may block on I/O. Any windows still in flight once the rows run out
+   * (such as at the row limit) are cancelled.
+   *
+   * @param windowBytes how many bytes of each column chunk to read at a time
+   * @param readAheadWindows how many windows of each column chunk to keep in flight ahead of the
+   *     one being decoded
+   */
+  public <Repeated, Value> CompletableFuture<Iterator<Value>> streamRows(
+      final RowReadSpec<Repeated, Value, ?> rowReadSpec,
+      final ByteRangeReader byteRangeReader,
+      final int windowBytes,
+      final int readAheadWindows) {
+    if (matchStatistics(rowReadSpec.predicate()) == StatisticsMatch.NONE) {
+      return CompletableFuture.completedFuture(Collections.emptyIterator());
+    }
+
+    final var leafPages = new HashMap<List<String>, CompletableFuture<?>>();
+    final var pageStreams = new ArrayList<CompletableFuture<? extends StreamingPageIterator<?>>>();
+    for (int columnChunkIndex = 0;
+        columnChunkIndex < rowGroupHeader.columns.size();
+        columnChunkIndex++) {
+      final var path = rowGroupHeader.columns.get(columnChunkIndex).meta_data.path_in_schema;
+      if (rowReadSpec.rowPredicateIncludesPath(path) || rowReadSpec.columnSpecIncludesPath(path)) {
+        final var pages =
+            ColumnChunkReader.create(
+                    rowGroupHeader, columnChunkIndex, schemaRoot.getChild(path), byteRangeReader)
+                .streamPageIterator(byteRangeReader, windowBytes, readAheadWindows);
+        leafPages.put(path, pages);
+        pageStreams.add(pages);
+      }
+    }
+    return CompletableFuture.allOf(leafPages.values().toArray(CompletableFuture[]::new))
+        .thenApply(
+            unused -> {
+              final var rows =
+                  new RowIterator<>(
+                      iterateRows(rowReadSpec, leafPages), null, rowReadSpec.rowLimit());
+              return new Iterator<Value>() {
+                @Override
+                public boolean hasNext() {
+                  if (rows.hasNext()) {
+                    return true;
+                  }
+                  for (final var pageStream : pageStreams) {
+                    pageStream.join().cancel();
+                  }
+                  return false;
+                }
+
+                @Override
+                public Value next() {
+                  return rows.next();
+                }
+              };
+            });
+  }
+
+  /**
+   * Reads only the predicate's columns, and evaluates the predicate against their selected rows to
+   * find exactly which rows match. Then reads only the pages of the projected columns which hold
+   * those rows, and assembles just those rows - without evaluating the predicate again.
+   */
+  private <Repeated, Value> CompletableFuture<Iterator<Value>> readRowsLate(
+      final RowReadSpec<Repeated, Value, ?> rowReadSpec,
+      final ByteRangeReader byteRangeReader,
+      final Map<List<String>, ColumnChunkReader<?>> columnChunkReaders,
+      final RowRanges selectedRows) {
+    final var predicateReadSpec =
+        new RowReadSpec<>(rowReadSpec.reader(), rowReadSpec.predicate(), ColumnSpecs.none());
+    final var predicateLeafPages =
+        readLeafPages(predicateReadSpec, byteRangeReader, columnChunkReaders, selectedRows);
+    return CompletableFuture.allOf(predicateLeafPages.values().toArray(CompletableFuture[]::new))
+        .thenCompose(
+            unused -> {
+              final var predicateIterator = iterateRows(predicateReadSpec, predicateLeafPages);
+              final var matchingRowsBuilder = new RowRanges.Builder();
+              long matches = 0;
+              long row = 0;
+              for (int range = 0;
+                  range < selectedRows.size() && matches < rowReadSpec.rowLimit();
+                  range++) {
+                // Only the pages holding selected rows were read, so the rest are skipped unseen
+                while (predicateIterator.hasNext() && row < selectedRows.start(range)) {
+                  final var rowsToSkip =
+                      (int) Math.min(Integer.MAX_VALUE, selectedRows.start(range) - row);
+                  predicateIterator.skipRows(rowsToSkip);
+                  row += rowsToSkip;
+                }
+                for (;
+                    predicateIterator.hasNext()
+                        && row < selectedRows.end(range)
+                        && matches < rowReadSpec.rowLimit();
+                    row++) {
+                  if (predicateIterator.nextRowMatches()) {
+                    matchingRowsBuilder.add(row, row + 1);
+                    matches++;
+                  }
+                  predicateIterator.skipNextRow();
+                }
+              }
+              final var matchingRows = matchingRowsBuilder.build();
+              if (matchingRows.isEmpty()) {
+                return CompletableFuture.completedFuture(Collections.emptyIterator());
+              }
+
+              // The predicate's columns are still included, as they would be if read eagerly
+              final var projectionReadSpec =
+                  new RowReadSpec<>(
+                      rowReadSpec.reader(),
+                      ParquetPredicates.all(),
+                      ColumnSpecs.union(
+                          rowReadSpec.columnSpec(),
+                          ColumnSpecs.predicateColumns(rowReadSpec.predicate())));
+              final var projectedLeafPages =
+                  readLeafPages(
+                      projectionReadSpec, byteRangeReader, columnChunkReaders, matchingRows);
+              return CompletableFuture.allOf(
+                      projectedLeafPages.values().toArray(CompletableFuture[]::new))
+                  .thenApply(
+                      unusedToo ->
+                          new RowIterator<>(
+                              iterateRows(projectionReadSpec, projectedLeafPages), matchingRows));
+            });
+  }
+
+  private <Repeated, Value> OptionalBranchIterator<Value> iterateRows(
+      final RowReadSpec<Repeated, Value, ?> rowReadSpec,
+      final Map<List<String>, CompletableFuture<?>> leafPages) {
+    return new OptionalBranchIterator<>(
+        schemaRoot.getChildren().stream()
+            .filter(rowReadSpec::includesChild)
+            .collect(
+                Collectors.toMap(
+                    child -> child,
+                    child -> {
+                      return iterateField(
+                          rowReadSpec.forChild(child), schemaRoot.getChild(child), leafPages);
+                    })),
+        schemaRoot,
+        rowReadSpec);
+  }
+
+  /**
+   * Uses the page indexes of the predicate's columns (where the writer recorded them) to find which
+   * rows might match, by evaluating the predicate against the statistics of each run of rows which
+   * falls within a single page of every such column.
+   *
+   * @return the rows which might match - all of them, if there are no page indexes to go on
+   */
+  public CompletableFuture<RowRanges> selectRows(
+      final ParquetPredicate<?> predicate, final ByteRangeReader byteRangeReader) {
+    final var allRows = RowRanges.all(rowGroupHeader.num_rows);
+    final var pageIndexes = new HashMap<List<String>, CompletableFuture<Optional<PageIndex>>>();
+    for (final var columnChunkHeader : rowGroupHeader.columns) {
+      final var path = columnChunkHeader.meta_data.path_in_schema;
+      if (predicate.includesPath(path) && PageIndex.hasColumnIndex(columnChunkHeader)) {
+        pageIndexes.put(
+            path, PageIndex.read(columnChunkHeader, rowGroupHeader.num_rows, byteRangeReader));
+      }
+    }
+    if (pageIndexes.isEmpty()) {
+      return CompletableFuture.completedFuture(allRows);
+    }
+
+    return CompletableFuture.allOf(pageIndexes.values().toArray(CompletableFuture[]::new))
+        .thenApply(
+            unused -> {
+              final var pageBoundaries = new TreeSet<Long>();
+              final var loadedPageIndexes = new HashMap<List<String>, PageIndex>();
+              final var columnTypes = new HashMap<List<String>, ColumnType<?>>();
+              pageIndexes.forEach(
+                  (path, pageIndex) ->
+                      pageIndex
+                          .join()
+                          .ifPresent(
+                              loadedPageIndex -> {
+                                loadedPageIndexes.put(path, loadedPageIndex);
+                                columnTypes.put(
+                                    path, getColumnType(path.toArray(String[]::new)).orElseThrow());
+                                for (int page = 0; page < loadedPageIndex.pageCount(); page++) {
+                                  pageBoundaries.add(loadedPageIndex.firstRowIndex(page));
+                                }
+                              }));
+              pageBoundaries.add(rowGroupHeader.num_rows);
+
+              final var columnStatistics = getColumnStatistics();
+              final var selectedRows = new RowRanges.Builder();
+              var segmentStart = 0L;
+              for (final long segmentEnd : pageBoundaries.tailSet(0L, false)) {
+                final var firstRow = segmentStart;
+                final ColumnStatistics.Lookup segmentStatistics =
+                    path -> {
+                      final var pageIndex = loadedPageIndexes.get(List.of(path));
+                      if (pageIndex == null) {
+                        return columnStatistics.forPath(path);
+                      }
+                      return pageIndex
+                          .statistics(
+                              pageIndex.pageForRow(firstRow), columnTypes.get(List.of(path)))
+                          .<ColumnStatistics<?>>map(statistics -> statistics);
+                    };
+                if (predicate.matchStatistics(segmentStatistics) != StatisticsMatch.NONE) {
+                  selectedRows.add(segmentStart, segmentEnd);
+                }
+                segmentStart = segmentEnd;
+              }
+              return selectedRows.build();
+            });
+  }
+
+  /**
+   * @param columnChunkReaders readers already created for this row group's columns, by path - any
+   *     other readers needed are created and added to them
+   */
+  private Map<List<String>, CompletableFuture<?>> readLeafPages(
+      final RowReadSpec<?, ?, ?> rowReadSpec,
+      final ByteRangeReader byteRangeReader,
+      final Map<List<String>, ColumnChunkReader<?>> columnChunkReaders,
+      final RowRanges selectedRows) {
+    final var allRowsSelected = selectedRows.rowCount() == rowGroupHeader.num_rows;
+    final var leafPages = new HashMap<List<String>, CompletableFuture<?>>();
+    for (int columnChunkIndex = 0;
+        columnChunkIndex < rowGroupHeader.columns.size();
+        columnChunkIndex++) {
+      final var path = rowGroupHeader.columns.get(columnChunkIndex).meta_data.path_in_schema;
+      if (rowReadSpec.rowPredicateIncludesPath(path) || rowReadSpec.columnSpecIncludesPath(path)) {
+        final var index = columnChunkIndex;
+        final var columnChunkReader =
+            columnChunkReaders.computeIfAbsent(
+                path,
+                unused ->
+                    ColumnChunkReader.create(
+                        rowGroupHeader, index, schemaRoot.getChild(path), byteRangeReader));
+        leafPages.put(
+            path,
+            allRowsSelected
+                ? columnChunkReader.readPages(byteRangeReader)
+                : columnChunkReader.readPages(
+                    byteRangeReader, selectedRows, rowGroupHeader.num_rows));
+      }
+    }
+    return leafPages;
   }
 
   private <ReadAs, Repeated, Value> ParquetFieldIterator<?> iterateField(
       final RowReadSpec<Repeated, Value, ReadAs> rowReadSpec,
       final ParquetSchemaNode parquetSchema,
-      final ByteRangeReader byteRangeReader) {
-    final var maybeColumnChunkReader =
-        getColumnChunkReaderForSchemaPath(byteRangeReader, parquetSchema, parquetSchema.getPath());
-    if (maybeColumnChunkReader.isPresent()) {
+      final Map<List<String>, CompletableFuture<?>> leafPages) {
+    final var maybeLeafPages = leafPages.get(List.of(parquetSchema.getPath()));
+    if (maybeLeafPages != null) {
+      //noinspection unchecked
       return iterateLeaf(
-          rowReadSpec,
-          parquetSchema,
-          (ColumnChunkReader<ReadAs>) maybeColumnChunkReader.get(),
-          byteRangeReader);
+          rowReadSpec, parquetSchema, (Iterator<DataPage<ReadAs>>) maybeLeafPages.join());
     } else {
-      return iterateBranch(rowReadSpec, parquetSchema, byteRangeReader);
+      return iterateBranch(rowReadSpec, parquetSchema, leafPages);
     }
   }
 
   private <ReadAs, Repeated, Value> ParquetFieldIterator<?> iterateLeaf(
       final RowReadSpec<Repeated, Value, ReadAs> rowReadSpec,
       final ParquetSchemaNode parquetSchema,
-      final ColumnChunkReader<ReadAs> columnChunkReader,
-      final ByteRangeReader byteRangeReader) {
-    final var dataPageIterator = columnChunkReader.readPages(byteRangeReader).join();
+      final Iterator<DataPage<ReadAs>> dataPageIterator) {
     return switch (parquetSchema.getRepetitionType()) {
       case REQUIRED, OPTIONAL -> {
         // Required can be nested within Optional/Repeated, so we always have to respect definition
@@ -75,7 +395,7 @@ public record RowGroupReader(RowGroup rowGroupHeader, ParquetSchemaNode.Root sch
   private <Repeated, Value> ParquetFieldIterator<?> iterateBranch(
       final RowReadSpec<Repeated, Value, ?> rowReadSpec,
       final ParquetSchemaNode parquetSchema,
-      final ByteRangeReader byteRangeReader) {
+      final Map<List<String>, CompletableFuture<?>> leafPages) {
     final var repetitionType =
         parquetSchema.getRepetitionType() != null
             ? parquetSchema.getRepetitionType()
@@ -92,7 +412,7 @@ public record RowGroupReader(RowGroup rowGroupHeader, ParquetSchemaNode.Root sch
                           return iterateField(
                               rowReadSpec.forChild(child),
                               parquetSchema.getChild(child),
-                              byteRangeReader);
+                              leafPages);
                         })),
             parquetSchema,
             rowReadSpec);
@@ -108,7 +428,7 @@ public record RowGroupReader(RowGroup rowGroupHeader, ParquetSchemaNode.Root sch
                           return iterateField(
                               rowReadSpec.forChild(child),
                               parquetSchema.getChild(child),
-                              byteRangeReader);
+                              leafPages);
                         })),
             parquetSchema,
             rowReadSpec);
@@ -116,6 +436,32 @@ public record RowGroupReader(RowGroup rowGroupHeader, ParquetSchemaNode.Root sch
     };
   }
 
+  /**
+   * Reads a single column in batches of {@link ColumnBatchReader#DEFAULT_BATCH_ROWS} rows, without
+   * assembling rows. The column's data is requested immediately, so readers for several columns can
+   * be created before consuming any of them.
+   */
+  public Optional<? extends ColumnBatchReader<?>> getColumnBatchReader(
+      final ByteRangeReader byteRangeReader, final String... schemaPath) {
+    return getColumnBatchReader(byteRangeReader, ColumnBatchReader.DEFAULT_BATCH_ROWS, schemaPath);
+  }
+
+  public Optional<? extends ColumnBatchReader<?>> getColumnBatchReader(
+      final ByteRangeReader byteRangeReader, final int batchRows, final String... schemaPath) {
+    return getColumnChunkReaderForSchemaPath(byteRangeReader, schemaPath)
+        .map(
+            columnChunkReader ->
+                createColumnBatchReader(columnChunkReader, byteRangeReader, batchRows));
+  }
+
+  private static <ReadAs> ColumnBatchReader<ReadAs> createColumnBatchReader(
+      final ColumnChunkReader<ReadAs> columnChunkReader,
+      final ByteRangeReader byteRangeReader,
+      final int batchRows) {
+    return new ColumnBatchReader<>(
+        columnChunkReader.readPages(byteRangeReader), columnChunkReader.getColumnType(), batchRows);
+  }
+
   public Optional<? extends ColumnChunkReader<?>> getColumnChunkReaderForSchemaPath(
       final ByteRangeReader byteRangeReader, final String... schemaPath) {
     return getColumnChunkReaderForSchemaPath(
@@ -157,6 +503,59 @@ public record RowGroupReader(RowGroup rowGroupHeader, ParquetSchemaNode.Root sch
     return matchingIndices.findAny();
   }
 
+  /**
+   * @return the statistics recorded in the footer for each of this row group's columns
+   */
+  public ColumnStatistics.Lookup getColumnStatistics() {
+    return schemaPath ->
+        getColumnChunkIndexForSchemaPath(schemaPath).stream()
+            .mapToObj(
+                columnChunkIndex ->
+                    ColumnStatistics.from(
+                        rowGroupHeader.columns.get(columnChunkIndex),
+                        getColumnType(schemaPath).orElseThrow()))
+            .<ColumnStatistics<?>>map(columnStatistics -> columnStatistics)
+            .findAny();
+  }
+
+  /**
+   * @return whether none, some or all of this row group's rows match, according to the footer's
+   *     statistics alone
+   */
+  public StatisticsMatch matchStatistics(final ParquetPredicate<?> predicate) {
+    return predicate.matchStatistics(getColumnStatistics());
+  }
+
+  /**
+   * Probes the dictionaries and bloom filters of the columns the predicate needs exact values from.
+   * Only those columns' readers are created, and only their dictionaries and bloom filters are
+   * read.
+   *
+   * @return NONE if no rows in this row group can match
+   */
+  public CompletableFuture<StatisticsMatch> matchColumnChunks(
+      final ParquetPredicate<?> predicate, final ByteRangeReader byteRangeReader) {
+    return matchColumnChunks(predicate, byteRangeReader, new HashMap<>());
+  }
+
+  /**
+   * @param columnChunkReaders the readers created so far, by path - which any readers the predicate
+   *     needs are taken from, or added to
+   */
+  private CompletableFuture<StatisticsMatch> matchColumnChunks(
+      final ParquetPredicate<?> predicate,
+      final ByteRangeReader byteRangeReader,
+      final Map<List<String>, ColumnChunkReader<?>> columnChunkReaders) {
+    return predicate.matchColumnChunks(
+        schemaPath ->
+            Optional.ofNullable(
+                columnChunkReaders.computeIfAbsent(
+                    List.of(schemaPath),
+                    path ->
+                        getColumnChunkReaderForSchemaPath(byteRangeReader, schemaPath)
+                            .orElse(null))));
+  }
+
   public Optional<? extends ColumnType<?>> getColumnType(final String... schemaPath) {
     return getColumnChunkIndexForSchemaPath(schemaPath).stream()
         .mapToObj(
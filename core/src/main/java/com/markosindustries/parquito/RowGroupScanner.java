@@ -0,0 +1,157 @@
+package com.markosindustries.parquito;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.apache.parquet.format.RowGroup;
+
+/**
+ * Decodes row groups on an executor, keeping at most a fixed number in flight (each is held in
+ * memory once decoded), and hands their rows back either in file order or in the order the row
+ * groups finish decoding. Once the read spec's row limit has been returned, any row groups still in
+ * flight are cancelled - and without a predicate, row groups beyond those holding the first rows
+ * are never scheduled at all.
+ */
+final class RowGroupScanner<Value> implements Iterator<Value>, AutoCloseable {
+  private final RowReadSpec<?, Value, ?> rowReadSpec;
+  private final ByteRangeReader byteRangeReader;
+  private final ParquetSchemaNode.Root schemaRoot;
+  private final Executor executor;
+  private final boolean preserveOrder;
+  private final Iterator<RowGroup> unscheduledRowGroups;
+
+  private final int maxInFlightRowGroups;
+
+  /** Every row group scheduled but not yet taken, in file order */
+  private final ArrayDeque<CompletableFuture<List<Value>>> inFlight = new ArrayDeque<>();
+
+  /** In completion order - only used when not preserving order */
+  private final LinkedBlockingQueue<CompletableFuture<List<Value>>> completed =
+      new LinkedBlockingQueue<>();
+
+  /** The rows of the row group taken from those in flight - which counts towards the maximum */
+  private Iterator<Value> rows = null;
+
+  private long rowsScheduled = 0;
+  private long rowsReturned = 0;
+
+  RowGroupScanner(
+      final RowReadSpec<?, Value, ?> rowReadSpec,
+      final ByteRangeReader byteRangeReader,
+      final ParquetSchemaNode.Root schemaRoot,
+      final List<RowGroup> rowGroups,
+      final Executor executor,
+      final int maxInFlightRowGroups,
+      final boolean preserveOrder) {
+    if (maxInFlightRowGroups <= 0) {
+      throw new IllegalArgumentException("At least one row group must be allowed in flight");
+    }
+    this.rowReadSpec = rowReadSpec;
+    this.byteRangeReader = byteRangeReader;
+    this.schemaRoot = schemaRoot;
+    this.executor = executor;
+    this.preserveOrder = preserveOrder;
+    this.maxInFlightRowGroups = maxInFlightRowGroups;
+    this.unscheduledRowGroups = rowGroups.iterator();
+    scheduleRowGroups();
+  }
+
+  private void scheduleRowGroups() {
+    final var held = rows == null ? 0 : 1;
+    while (inFlight.size() + held < maxInFlightRowGroups && scheduleNextRowGroup()) {}
+  }
+
+  private boolean scheduleNextRowGroup() {
+    // Without a predicate every row matches, so we know when enough rows have been scheduled
+    final var everyRowMatches = rowReadSpec.predicate().includedChildren().isEmpty();
+    if (!unscheduledRowGroups.hasNext()
+        || (everyRowMatches && rowsScheduled >= rowReadSpec.rowLimit())) {
+      return false;
+    }
+    final var rowGroup = unscheduledRowGroups.next();
+    final var rowLimit =
+        everyRowMatches ? rowReadSpec.rowLimit() - rowsScheduled : rowReadSpec.rowLimit();
+    rowsScheduled += rowGroup.num_rows;
+    // The reads are issued from here, and the rows decoded on the executor only once they've
+    // finished - so the executor's threads never block on I/O (which might need those same threads)
+    final CompletableFuture<List<Value>> decodedRows =
+        new RowGroupReader(rowGroup, schemaRoot)
+            .readRows(rowReadSpec.withRowLimit(rowLimit), byteRangeReader)
+            .thenApplyAsync(
+                rowIterator -> {
+                  final var decoded =
+                      new ArrayList<Value>(Math.toIntExact(Math.min(rowGroup.num_rows, rowLimit)));
+                  rowIterator.forEachRemaining(decoded::add);
+                  return decoded;
+                },
+                executor);
+    inFlight.addLast(decodedRows);
+    if (!preserveOrder) {
+      decodedRows.whenComplete((unused, throwable) -> completed.add(decodedRows));
+    }
+    return true;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (rowsReturned >= rowReadSpec.rowLimit()) {
+      // Nothing more is needed, so don't read any more
+      close();
+      return false;
+    }
+    while (rows == null || !rows.hasNext()) {
+      // Let go of the row group we've finished with before scheduling another in its place, so no
+      // more than the maximum are ever held at once
+      rows = null;
+      scheduleRowGroups();
+      if (inFlight.isEmpty()) {
+        return false;
+      }
+      final CompletableFuture<List<Value>> nextRowGroup;
+      if (preserveOrder) {
+        nextRowGroup = inFlight.removeFirst();
+      } else {
+        nextRowGroup = takeCompleted();
+        inFlight.remove(nextRowGroup);
+      }
+      rows = nextRowGroup.join().iterator();
+    }
+    return true;
+  }
+
+  private CompletableFuture<List<Value>> takeCompleted() {
+    try {
+      return completed.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted waiting for a row group to decode", e);
+    }
+  }
+
+  @Override
+  public Value next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    rowsReturned++;
+    return rows.next();
+  }
+
+  /** Stops scheduling row groups, and cancels any which are still in flight */
+  @Override
+  public void close() {
+    while (unscheduledRowGroups.hasNext()) {
+      unscheduledRowGroups.next();
+    }
+    inFlight.forEach(decodedRows -> decodedRows.cancel(false));
+    inFlight.clear();
+    completed.clear();
+    rows = Collections.emptyIterator();
+  }
+}
@@ -0,0 +1,197 @@
+package com.markosindustries.parquito;
+
+import java.util.Arrays;
+
+/**
+ * A sorted set of disjoint, non-adjacent {@code [start, end)} ranges of row indices within a row
+ * group.
+ */
+public final class RowRanges {
+  private static final RowRanges NONE = new RowRanges(new long[0], new long[0], 0);
+
+  private final long[] starts;
+  private final long[] ends;
+  private final int size;
+
+  private RowRanges(final long[] starts, final long[] ends, final int size) {
+    this.starts = starts;
+    this.ends = ends;
+    this.size = size;
+  }
+
+  public static RowRanges none() {
+    return NONE;
+  }
+
+  public static RowRanges all(final long rows) {
+    return of(0, rows);
+  }
+
+  public static RowRanges of(final long start, final long end) {
+    return new Builder().add(start, end).build();
+  }
+
+  /** Collects ranges in ascending order, merging any which touch or overlap */
+  public static final class Builder {
+    private long[] starts = new long[8];
+    private long[] ends = new long[8];
+    private int size = 0;
+
+    public Builder add(final long start, final long end) {
+      if (end <= start) {
+        return this;
+      }
+      if (size > 0 && start < starts[size - 1]) {
+        throw new IllegalArgumentException("Ranges must be added in ascending order");
+      }
+      if (size > 0 && start <= ends[size - 1]) {
+        ends[size - 1] = Math.max(ends[size - 1], end);
+        return this;
+      }
+      if (size == starts.length) {
+        starts = Arrays.copyOf(starts, size * 2);
+        ends = Arrays.copyOf(ends, size * 2);
+      }
+      starts[size] = start;
+      ends[size] = end;
+      size++;
+      return this;
+    }
+
+    public RowRanges build() {
+      return size == 0 ? NONE : new RowRanges(starts, ends, size);
+    }
+  }
+
+  public RowRanges union(final RowRanges other) {
+    final var builder = new Builder();
+    int left = 0;
+    int right = 0;
+    while (left < size || right < other.size) {
+      if (right == other.size || (left < size && starts[left] <= other.starts[right])) {
+        builder.add(starts[left], ends[left]);
+        left++;
+      } else {
+        builder.add(other.starts[right], other.ends[right]);
+        right++;
+      }
+    }
+    return builder.build();
+  }
+
+  public RowRanges intersection(final RowRanges other) {
+    final var builder = new Builder();
+    int left = 0;
+    int right = 0;
+    while (left < size && right < other.size) {
+      builder.add(
+          Math.max(starts[left], other.starts[right]), Math.min(ends[left], other.ends[right]));
+      if (ends[left] < other.ends[right]) {
+        left++;
+      } else {
+        right++;
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * @return only the first (lowest) {@code rows} rows of these ranges
+   */
+  public RowRanges first(final long rows) {
+    final var builder = new Builder();
+    var remaining = rows;
+    for (int range = 0; range < size && remaining > 0; range++) {
+      final var end = starts[range] + Math.min(remaining, ends[range] - starts[range]);
+      builder.add(starts[range], end);
+      remaining -= end - starts[range];
+    }
+    return builder.build();
+  }
+
+  /**
+   * @return true if any row in {@code [start, end)} is included
+   */
+  public boolean overlaps(final long start, final long end) {
+    // The first range which ends after start is the only one which might overlap
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      final var mid = (low + high) >>> 1;
+      if (ends[mid] <= start) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low < size && starts[low] < end;
+  }
+
+  public boolean contains(final long row) {
+    return overlaps(row, row + 1);
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * @return how many disjoint ranges there are
+   */
+  public int size() {
+    return size;
+  }
+
+  public long start(final int range) {
+    return starts[range];
+  }
+
+  public long end(final int range) {
+    return ends[range];
+  }
+
+  /**
+   * @return how many rows are included across all ranges
+   */
+  public long rowCount() {
+    long rows = 0;
+    for (int range = 0; range < size; range++) {
+      rows += ends[range] - starts[range];
+    }
+    return rows;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof RowRanges otherRowRanges) || size != otherRowRanges.size) {
+      return false;
+    }
+    return Arrays.equals(starts, 0, size, otherRowRanges.starts, 0, size)
+        && Arrays.equals(ends, 0, size, otherRowRanges.ends, 0, size);
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 1;
+    for (int range = 0; range < size; range++) {
+      hash = 31 * hash + Long.hashCode(starts[range]);
+      hash = 31 * hash + Long.hashCode(ends[range]);
+    }
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    final var builder = new StringBuilder("RowRanges{");
+    for (int range = 0; range < size; range++) {
+      if (range > 0) {
+        builder.append(", ");
+      }
+      builder.append('[').append(starts[range]).append(", ").append(ends[range]).append(')');
+    }
+    return builder.append('}').toString();
+  }
+}
@@ -2,8 +2,40 @@ package com.markosindustries.parquito;
 
 import java.util.List;
 
+/**
+ * @param lateMaterialization whether to evaluate the predicate against its own columns first, and
+ *     then read only the pages which hold matching rows - worthwhile when the predicate is
+ *     selective, but the pages of the predicate's columns which hold matches are read twice
+ * @param rowLimit the most rows to read - once this many have been read, no more pages (or row
+ *     groups) are fetched or decoded
+ */
 public record RowReadSpec<Repeated, Value, ReadAs>(
-    Reader<Repeated, Value> reader, ParquetPredicate<ReadAs> predicate, ColumnSpec columnSpec) {
+    Reader<Repeated, Value> reader,
+    ParquetPredicate<ReadAs> predicate,
+    ColumnSpec columnSpec,
+    boolean lateMaterialization,
+    long rowLimit) {
+  public static final long NO_ROW_LIMIT = Long.MAX_VALUE;
+
+  public RowReadSpec {
+    if (rowLimit < 0) {
+      throw new IllegalArgumentException("Row limit can't be negative");
+    }
+  }
+
+  public RowReadSpec(
+      Reader<Repeated, Value> reader,
+      ParquetPredicate<ReadAs> predicate,
+      ColumnSpec columnSpec,
+      boolean lateMaterialization) {
+    this(reader, predicate, columnSpec, lateMaterialization, NO_ROW_LIMIT);
+  }
+
+  public RowReadSpec(
+      Reader<Repeated, Value> reader, ParquetPredicate<ReadAs> predicate, ColumnSpec columnSpec) {
+    this(reader, predicate, columnSpec, false);
+  }
+
   public RowReadSpec(Reader<Repeated, Value> reader) {
     this(reader, ParquetPredicates.all(), ColumnSpecs.all());
   }
@@ -16,9 +48,25 @@ public record RowReadSpec<Repeated, Value, ReadAs>(
     this(reader, ParquetPredicates.all(), columnSpec);
   }
 
+  public RowReadSpec<Repeated, Value, ReadAs> withLateMaterialization() {
+    return new RowReadSpec<>(reader, predicate, columnSpec, true, rowLimit);
+  }
+
+  public RowReadSpec<Repeated, Value, ReadAs> withRowLimit(final long rowLimit) {
+    return new RowReadSpec<>(reader, predicate, columnSpec, lateMaterialization, rowLimit);
+  }
+
+  public boolean hasRowLimit() {
+    return rowLimit != NO_ROW_LIMIT;
+  }
+
   public RowReadSpec<?, ?, ?> forChild(final String child) {
     return new RowReadSpec<>(
-        reader.forChild(child), predicate.forChild(child), columnSpec.forChild(child));
+        reader.forChild(child),
+        predicate.forChild(child),
+        columnSpec.forChild(child),
+        lateMaterialization,
+        rowLimit);
   }
 
   public boolean includesChild(final String child) {
@@ -26,15 +74,7 @@ public record RowReadSpec<Repeated, Value, ReadAs>(
   }
 
   public boolean rowPredicateIncludesPath(final List<String> path) {
-    ParquetPredicate<?> currentPredicate = predicate;
-    for (final String child : path) {
-      if (currentPredicate.includesChild(child)) {
-        currentPredicate = currentPredicate.forChild(child);
-      } else {
-        return false;
-      }
-    }
-    return true;
+    return predicate.includesPath(path);
   }
 
   public boolean columnSpecIncludesPath(final List<String> path) {
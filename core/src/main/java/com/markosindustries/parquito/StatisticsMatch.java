@@ -0,0 +1,31 @@
+package com.markosindustries.parquito;
+
+/** What column statistics can tell us about whether rows match a {@link ParquetPredicate} */
+public enum StatisticsMatch {
+  /** No rows can match */
+  NONE,
+  /** Some rows might match - we'd have to read them to know */
+  MAYBE,
+  /** Every row matches */
+  ALL;
+
+  public StatisticsMatch and(final StatisticsMatch other) {
+    if (this == NONE || other == NONE) {
+      return NONE;
+    }
+    if (this == ALL && other == ALL) {
+      return ALL;
+    }
+    return MAYBE;
+  }
+
+  public StatisticsMatch or(final StatisticsMatch other) {
+    if (this == ALL || other == ALL) {
+      return ALL;
+    }
+    if (this == NONE && other == NONE) {
+      return NONE;
+    }
+    return MAYBE;
+  }
+}
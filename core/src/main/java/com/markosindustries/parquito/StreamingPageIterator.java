@@ -0,0 +1,151 @@
+package com.markosindustries.parquito;
+
+import com.markosindustries.parquito.page.DataPage;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import org.apache.parquet.format.PageHeader;
+
+/**
+ * Reads a column chunk's data pages in windows of bytes, rather than all at once - keeping a number
+ * of windows ahead of the current one in flight, so the next pages are (usually) already read by
+ * the time they're needed. Only the unread part of the current window, the windows in flight, and
+ * any page which is larger than a window are held at once, regardless of the chunk's size.
+ *
+ * <p>Blocks on I/O when a window isn't ready yet, so shouldn't be iterated on the thread pool doing
+ * the reads.
+ */
+final class StreamingPageIterator<ReadAs> implements Iterator<DataPage<ReadAs>> {
+  // Page headers are usually tiny, but can hold large statistics - we retry with more if this isn't
+  // enough, rather than stitching windows together for every header
+  private static final int PAGE_HEADER_BYTES = 256;
+  static final int DEFAULT_WINDOW_BYTES = 1024 * 1024;
+  static final int DEFAULT_READ_AHEAD_WINDOWS = 1;
+
+  private final ColumnChunkReader<ReadAs> columnChunkReader;
+  private final ByteRangeReader byteRangeReader;
+  private final int windowBytes;
+  private final int readAheadWindows;
+  private final long chunkEndOffset;
+  private final long chunkValues;
+  private final ArrayDeque<CompletableFuture<ByteBuffer>> windowsInFlight = new ArrayDeque<>();
+  private ByteBuffer window = ByteBuffer.allocate(0);
+  private long nextWindowOffset;
+  private long valuesFound = 0;
+  private boolean cancelled = false;
+
+  StreamingPageIterator(
+      final ColumnChunkReader<ReadAs> columnChunkReader,
+      final ByteRangeReader byteRangeReader,
+      final long chunkStartOffset,
+      final long chunkBytes,
+      final long chunkValues,
+      final int windowBytes,
+      final int readAheadWindows) {
+    if (windowBytes <= 0 || readAheadWindows < 0) {
+      throw new IllegalArgumentException(
+          "Windows must be at least a byte, and read ahead can't be negative");
+    }
+    this.columnChunkReader = columnChunkReader;
+    this.byteRangeReader = byteRangeReader;
+    this.windowBytes = windowBytes;
+    this.readAheadWindows = readAheadWindows;
+    this.chunkEndOffset = chunkStartOffset + chunkBytes;
+    this.chunkValues = chunkValues;
+    this.nextWindowOffset = chunkStartOffset;
+    requestWindows();
+  }
+
+  @Override
+  public boolean hasNext() {
+    return !cancelled && valuesFound < chunkValues;
+  }
+
+  /**
+   * Cancels the windows still in flight and requests no more, for when the rest of the pages aren't
+   * needed - after which there are no more pages
+   */
+  void cancel() {
+    cancelled = true;
+    for (final var windowInFlight : windowsInFlight) {
+      windowInFlight.cancel(false);
+    }
+    windowsInFlight.clear();
+    window = ByteBuffer.allocate(0);
+  }
+
+  @Override
+  public DataPage<ReadAs> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    final var pageHeader = readPageHeader();
+    ensureAvailable(pageHeader.compressed_page_size);
+    final var pageBuffer = window.slice(window.position(), pageHeader.compressed_page_size);
+    window.position(window.position() + pageHeader.compressed_page_size);
+    final var dataPage = DataPage.create(columnChunkReader, pageHeader, pageBuffer);
+    valuesFound += dataPage.getTotalValues();
+    return dataPage;
+  }
+
+  private PageHeader readPageHeader() {
+    var headerBytes = PAGE_HEADER_BYTES;
+    while (true) {
+      ensureAvailable(headerBytes);
+      final var headerStream = new ByteBufferInputStream(window.duplicate());
+      try {
+        final var pageHeader = ColumnChunkReader.readPageHeader(headerStream);
+        window.position(headerStream.getByteBuffer().position());
+        return pageHeader;
+      } catch (ParquetIOException e) {
+        if (windowsInFlight.isEmpty() && nextWindowOffset >= chunkEndOffset) {
+          // We already had the rest of the chunk, so more bytes wouldn't help
+          throw e;
+        }
+        headerBytes = Math.max(window.remaining() * 2, PAGE_HEADER_BYTES);
+      }
+    }
+  }
+
+  /** Makes sure the current window holds at least this many (unread) bytes, if the chunk does */
+  private void ensureAvailable(final int bytes) {
+    if (window.remaining() >= bytes) {
+      return;
+    }
+    final var parts = new ArrayList<ByteBuffer>();
+    parts.add(window);
+    long available = window.remaining();
+    while (available < bytes && !windowsInFlight.isEmpty()) {
+      final var nextWindow = windowsInFlight.removeFirst().join();
+      parts.add(nextWindow);
+      available += nextWindow.remaining();
+      requestWindows();
+    }
+    if (available < bytes && nextWindowOffset < chunkEndOffset) {
+      // Nothing in flight (or a page larger than the windows in flight) - read the rest directly
+      final var rest =
+          (int)
+              Math.min(Math.max(bytes - available, windowBytes), chunkEndOffset - nextWindowOffset);
+      parts.add(byteRangeReader.readAsBuffer(nextWindowOffset, rest).join());
+      available += rest;
+      nextWindowOffset += rest;
+      requestWindows();
+    }
+    final var combined = ByteBuffer.allocate((int) available);
+    for (final ByteBuffer part : parts) {
+      combined.put(part);
+    }
+    window = combined.flip();
+  }
+
+  private void requestWindows() {
+    while (windowsInFlight.size() < readAheadWindows && nextWindowOffset < chunkEndOffset) {
+      final var bytes = (int) Math.min(windowBytes, chunkEndOffset - nextWindowOffset);
+      windowsInFlight.addLast(byteRangeReader.readAsBuffer(nextWindowOffset, bytes));
+      nextWindowOffset += bytes;
+    }
+  }
+}
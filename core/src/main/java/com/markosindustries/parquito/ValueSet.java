@@ -0,0 +1,228 @@
+package com.markosindustries.parquito;
+
+import com.markosindustries.parquito.types.ColumnType;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of values for a column, which can be probed in constant time. Integer and Long
+ * values are held in open-addressed primitive tables rather than as boxed objects, and can be
+ * probed without boxing via {@link Ints#containsInt} and {@link Longs#containsLong}. The values are
+ * also kept in the column's sort order, so the set can be compared against a range of values (such
+ * as a column chunk's statistics).
+ */
+public abstract class ValueSet<ReadAs> {
+  private final ColumnType<ReadAs> columnType;
+  private final Object[] sortedValues;
+
+  private ValueSet(final ColumnType<ReadAs> columnType, final Object[] sortedValues) {
+    this.columnType = columnType;
+    this.sortedValues = sortedValues;
+  }
+
+  /**
+   * @param values the values to include - which must all be of the column's type
+   * @throws IllegalArgumentException if any of the values aren't of the column's type
+   */
+  @SuppressWarnings("unchecked")
+  public static <ReadAs> ValueSet<ReadAs> of(
+      final ColumnType<ReadAs> columnType, final Collection<?> values) {
+    final var readAsClass = columnType.parquetType().getReadAsClass();
+    for (final Object value : values) {
+      if (!readAsClass.isInstance(value)) {
+        throw new IllegalArgumentException(
+            "Can't match " + value + " against a column of " + readAsClass.getName());
+      }
+    }
+    final var sortedValues =
+        values.stream().map(readAsClass::cast).distinct().sorted(columnType::compare).toArray();
+    if (readAsClass == Integer.class) {
+      return (ValueSet<ReadAs>) new Ints((ColumnType<Integer>) columnType, sortedValues);
+    }
+    if (readAsClass == Long.class) {
+      return (ValueSet<ReadAs>) new Longs((ColumnType<Long>) columnType, sortedValues);
+    }
+    return new Hashed<>(columnType, sortedValues);
+  }
+
+  public abstract boolean contains(final ReadAs value);
+
+  public boolean containsObject(final Object value) {
+    final var readAsClass = columnType.parquetType().getReadAsClass();
+    return readAsClass.isInstance(value) && contains(readAsClass.cast(value));
+  }
+
+  public int size() {
+    return sortedValues.length;
+  }
+
+  public boolean isEmpty() {
+    return sortedValues.length == 0;
+  }
+
+  /**
+   * @return true if any of the values lie within the inclusive range, in the column's sort order
+   */
+  @SuppressWarnings("unchecked")
+  public boolean anyWithin(final ReadAs lowest, final ReadAs highest) {
+    var low = 0;
+    var high = sortedValues.length;
+    while (low < high) {
+      final var mid = (low + high) >>> 1;
+      if (columnType.compare((ReadAs) sortedValues[mid], lowest) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low < sortedValues.length
+        && columnType.compare((ReadAs) sortedValues[low], highest) <= 0;
+  }
+
+  @SuppressWarnings("unchecked")
+  public boolean anyMatch(final Predicate<? super ReadAs> predicate) {
+    for (final Object value : sortedValues) {
+      if (predicate.test((ReadAs) value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @SuppressWarnings("unchecked")
+  public void forEach(final Consumer<? super ReadAs> consumer) {
+    for (final Object value : sortedValues) {
+      consumer.accept((ReadAs) value);
+    }
+  }
+
+  /**
+   * @return true if the sets have any values in common - probing the larger set with the values of
+   *     the smaller one
+   */
+  public boolean intersects(final ValueSet<ReadAs> other) {
+    if (other.size() < size()) {
+      return other.anyMatch(this::contains);
+    }
+    return anyMatch(other::contains);
+  }
+
+  private static int tableSize(final int values) {
+    return Integer.highestOneBit(Math.max(2, values * 2 - 1)) << 1;
+  }
+
+  private static int mix(final long value) {
+    final var hash = value * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  public static final class Ints extends ValueSet<Integer> {
+    // Zero marks an empty slot, so whether the set contains zero is tracked separately
+    private final int[] table;
+    private final int mask;
+    private final boolean containsZero;
+
+    private Ints(final ColumnType<Integer> columnType, final Object[] sortedValues) {
+      super(columnType, sortedValues);
+      this.table = new int[tableSize(sortedValues.length)];
+      this.mask = table.length - 1;
+      var containsZero = false;
+      for (final Object boxed : sortedValues) {
+        final int value = (Integer) boxed;
+        if (value == 0) {
+          containsZero = true;
+          continue;
+        }
+        var slot = mix(value) & mask;
+        while (table[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        table[slot] = value;
+      }
+      this.containsZero = containsZero;
+    }
+
+    @Override
+    public boolean contains(final Integer value) {
+      return value != null && containsInt(value);
+    }
+
+    public boolean containsInt(final int value) {
+      if (value == 0) {
+        return containsZero;
+      }
+      var slot = mix(value) & mask;
+      while (table[slot] != 0) {
+        if (table[slot] == value) {
+          return true;
+        }
+        slot = (slot + 1) & mask;
+      }
+      return false;
+    }
+  }
+
+  public static final class Longs extends ValueSet<Long> {
+    // Zero marks an empty slot, so whether the set contains zero is tracked separately
+    private final long[] table;
+    private final int mask;
+    private final boolean containsZero;
+
+    private Longs(final ColumnType<Long> columnType, final Object[] sortedValues) {
+      super(columnType, sortedValues);
+      this.table = new long[tableSize(sortedValues.length)];
+      this.mask = table.length - 1;
+      var containsZero = false;
+      for (final Object boxed : sortedValues) {
+        final long value = (Long) boxed;
+        if (value == 0) {
+          containsZero = true;
+          continue;
+        }
+        var slot = mix(value) & mask;
+        while (table[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        table[slot] = value;
+      }
+      this.containsZero = containsZero;
+    }
+
+    @Override
+    public boolean contains(final Long value) {
+      return value != null && containsLong(value);
+    }
+
+    public boolean containsLong(final long value) {
+      if (value == 0) {
+        return containsZero;
+      }
+      var slot = mix(value) & mask;
+      while (table[slot] != 0) {
+        if (table[slot] == value) {
+          return true;
+        }
+        slot = (slot + 1) & mask;
+      }
+      return false;
+    }
+  }
+
+  private static final class Hashed<ReadAs> extends ValueSet<ReadAs> {
+    private final Set<Object> values;
+
+    private Hashed(final ColumnType<ReadAs> columnType, final Object[] sortedValues) {
+      super(columnType, sortedValues);
+      this.values = new HashSet<>(Arrays.asList(sortedValues));
+    }
+
+    @Override
+    public boolean contains(final ReadAs value) {
+      return values.contains(value);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package com.markosindustries.parquito;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A least-recently-used cache bounded by both entry count and total weight. Values are cached as
+ * futures, so concurrent requests for the same key share a single load - and failed loads are
+ * removed rather than cached. Entries are weighed once their load completes, and one which can't be
+ * weighed fails like a failed load.
+ */
+final class WeightedLruCache<K, V> {
+  private final int maximumEntries;
+  private final long maximumWeight;
+  private final ToLongFunction<V> weigher;
+  private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long totalWeight = 0;
+  private long hits = 0;
+  private long misses = 0;
+  private long evictions = 0;
+
+  private static final class Entry<V> {
+    private final CompletableFuture<V> value = new CompletableFuture<>();
+    private long weight = 0;
+  }
+
+  WeightedLruCache(
+      final int maximumEntries, final long maximumWeight, final ToLongFunction<V> weigher) {
+    this.maximumEntries = maximumEntries;
+    this.maximumWeight = maximumWeight;
+    this.weigher = weigher;
+  }
+
+  CompletableFuture<V> get(final K key, final Function<K, CompletableFuture<V>> loader) {
+    final var entry = new Entry<V>();
+    synchronized (this) {
+      final var existing = entries.get(key);
+      if (existing != null) {
+        hits++;
+        return existing.value;
+      }
+      misses++;
+      entries.put(key, entry);
+      evictIfNecessary();
+    }
+
+    CompletableFuture<V> loading;
+    try {
+      loading = loader.apply(key);
+    } catch (RuntimeException e) {
+      loading = CompletableFuture.failedFuture(e);
+    }
+    loading.whenComplete(
+        (value, throwable) -> {
+          if (throwable != null) {
+            fail(key, entry, throwable);
+            return;
+          }
+          final long weight;
+          try {
+            weight = weigher.applyAsLong(value);
+          } catch (RuntimeException e) {
+            fail(key, entry, e);
+            return;
+          }
+          synchronized (this) {
+            if (entries.get(key) == entry) {
+              entry.weight = weight;
+              totalWeight += weight;
+              evictIfNecessary();
+            }
+          }
+          entry.value.complete(value);
+        });
+    return entry.value;
+  }
+
+  /** Removes the entry, so the key is loaded again next time - rather than caching the failure */
+  private void fail(final K key, final Entry<V> entry, final Throwable throwable) {
+    synchronized (this) {
+      entries.remove(key, entry);
+    }
+    entry.value.completeExceptionally(throwable);
+  }
+
+  synchronized void invalidate(final K key) {
+    final var removed = entries.remove(key);
+    if (removed != null) {
+      totalWeight -= removed.weight;
+    }
+  }
+
+  synchronized void invalidateAll() {
+    entries.clear();
+    totalWeight = 0;
+  }
+
+  synchronized CacheStats stats() {
+    return new CacheStats(hits, misses, evictions, entries.size(), totalWeight);
+  }
+
+  private void evictIfNecessary() {
+    final var iterator = entries.values().iterator();
+    while ((entries.size() > maximumEntries || totalWeight > maximumWeight) && iterator.hasNext()) {
+      final var eldest = iterator.next();
+      iterator.remove();
+      totalWeight -= eldest.weight;
+      evictions++;
+    }
+  }
+}
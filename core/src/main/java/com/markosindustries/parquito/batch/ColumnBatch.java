@@ -0,0 +1,127 @@
+package com.markosindustries.parquito.batch;
+
+import com.markosindustries.parquito.page.Values;
+import com.markosindustries.parquito.types.ColumnType;
+
+/**
+ * A batch of entries from one column, covering a whole number of rows. There's one entry per
+ * repetition/definition level pair, so for non-repeated columns an entry is a row.
+ *
+ * <p>Values are stored densely by entry in whichever of the arrays suits the column's physical type
+ * - {@link #ints()}, {@link #longs()}, {@link #floats()}, {@link #doubles()}, {@link #booleans()}
+ * or, for everything else, {@link #objects()}. Entries which are null (i.e. not defined at the
+ * column's maximum definition level) are left as zero/null, and are cleared in {@link #validity()}.
+ * Arrays may be longer than {@link #size()}.
+ */
+public final class ColumnBatch<ReadAs> {
+  private final ColumnType<ReadAs> columnType;
+  private final int rows;
+  private final int size;
+  private final int[] repetitionLevels;
+  private final int[] definitionLevels;
+  private final long[] validity;
+  private final Object values;
+  private final Values<ReadAs> boxedValues;
+
+  ColumnBatch(
+      final ColumnType<ReadAs> columnType,
+      final int rows,
+      final int size,
+      final int[] repetitionLevels,
+      final int[] definitionLevels,
+      final long[] validity,
+      final Object values,
+      final Values<ReadAs> boxedValues) {
+    this.columnType = columnType;
+    this.rows = rows;
+    this.size = size;
+    this.repetitionLevels = repetitionLevels;
+    this.definitionLevels = definitionLevels;
+    this.validity = validity;
+    this.values = values;
+    this.boxedValues = boxedValues;
+  }
+
+  public ColumnType<ReadAs> getColumnType() {
+    return columnType;
+  }
+
+  /**
+   * @return how many rows this batch covers
+   */
+  public int rows() {
+    return rows;
+  }
+
+  /**
+   * @return how many entries (level pairs) this batch holds
+   */
+  public int size() {
+    return size;
+  }
+
+  public int[] repetitionLevels() {
+    return repetitionLevels;
+  }
+
+  public int[] definitionLevels() {
+    return definitionLevels;
+  }
+
+  /**
+   * @return a bitmap with bit {@code index % 64} of word {@code index / 64} set for each non-null
+   *     entry
+   */
+  public long[] validity() {
+    return validity;
+  }
+
+  public boolean isNull(final int index) {
+    return (validity[index >>> 6] & (1L << index)) == 0;
+  }
+
+  public int[] ints() {
+    return vector(int[].class);
+  }
+
+  public long[] longs() {
+    return vector(long[].class);
+  }
+
+  public float[] floats() {
+    return vector(float[].class);
+  }
+
+  public double[] doubles() {
+    return vector(double[].class);
+  }
+
+  public boolean[] booleans() {
+    return vector(boolean[].class);
+  }
+
+  public Object[] objects() {
+    return vector(Object[].class);
+  }
+
+  /**
+   * @param index which entry to read
+   * @return the entry's value as its {@code ReadAs} type, boxing if necessary - or null
+   */
+  public ReadAs get(final int index) {
+    return isNull(index) ? null : boxedValues.get(index);
+  }
+
+  private <T> T vector(final Class<T> vectorClass) {
+    if (!vectorClass.isInstance(values)) {
+      throw new IllegalStateException(
+          "Column "
+              + String.join(".", columnType.schemaNode().getPath())
+              + " is held as "
+              + values.getClass().getSimpleName()
+              + " not "
+              + vectorClass.getSimpleName());
+    }
+    return vectorClass.cast(values);
+  }
+}
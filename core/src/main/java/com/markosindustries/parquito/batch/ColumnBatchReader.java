@@ -0,0 +1,407 @@
+package com.markosindustries.parquito.batch;
+
+import com.markosindustries.parquito.page.BooleanValues;
+import com.markosindustries.parquito.page.DataPage;
+import com.markosindustries.parquito.page.DoubleValues;
+import com.markosindustries.parquito.page.FloatValues;
+import com.markosindustries.parquito.page.IntValues;
+import com.markosindustries.parquito.page.LongValues;
+import com.markosindustries.parquito.page.Values;
+import com.markosindustries.parquito.types.BooleanType;
+import com.markosindustries.parquito.types.ColumnType;
+import com.markosindustries.parquito.types.DoubleType;
+import com.markosindustries.parquito.types.FloatType;
+import com.markosindustries.parquito.types.Int32Type;
+import com.markosindustries.parquito.types.Int64Type;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Reads a column chunk's {@link DataPage}s into {@link ColumnBatch}es of (at most) a fixed number
+ * of rows, without assembling any rows. Batches from readers over the same row group with the same
+ * batch size cover the same rows, so they can be processed side by side.
+ */
+public class ColumnBatchReader<ReadAs> implements Iterator<ColumnBatch<ReadAs>> {
+  public static final int DEFAULT_BATCH_ROWS = 4096;
+
+  private final CompletableFuture<Iterator<DataPage<ReadAs>>> dataPages;
+  private final ColumnType<ReadAs> columnType;
+  private final int batchRows;
+  private final int definitionLevelMax;
+  private Iterator<DataPage<ReadAs>> dataPageIterator = null;
+  private DataPage<ReadAs> dataPage = null;
+  private int definitionIndex = 0;
+  private int valueIndex = 0;
+
+  /**
+   * @param dataPages the column chunk's pages - which aren't waited on until the first batch is
+   *     requested, so that reads for several columns can be in flight at once
+   * @param columnType the column's type
+   * @param batchRows the maximum number of rows in each batch
+   */
+  public ColumnBatchReader(
+      final CompletableFuture<Iterator<DataPage<ReadAs>>> dataPages,
+      final ColumnType<ReadAs> columnType,
+      final int batchRows) {
+    if (batchRows <= 0) {
+      throw new IllegalArgumentException("Batches must hold at least one row");
+    }
+    this.dataPages = dataPages;
+    this.columnType = columnType;
+    this.batchRows = batchRows;
+    this.definitionLevelMax = columnType.schemaNode().getDefinitionLevelMax();
+  }
+
+  @Override
+  public boolean hasNext() {
+    advancePageIfNecessary();
+    return dataPage != null;
+  }
+
+  @Override
+  public ColumnBatch<ReadAs> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    final var vector = createVector(batchRows);
+    var repetitionLevels = new int[batchRows];
+    var definitionLevels = new int[batchRows];
+    var validity = new long[validityWords(batchRows)];
+    vector.source(dataPage);
+
+    int rows = 0;
+    int size = 0;
+    while (dataPage != null) {
+      final var pageRepetitionLevels = dataPage.getRepetitionLevels();
+      final var pageDefinitionLevels = dataPage.getDefinitionLevels();
+      if (pageRepetitionLevels.get(definitionIndex) == 0) {
+        if (rows == batchRows) {
+          break;
+        }
+        rows++;
+      }
+
+      if (size == definitionLevels.length) {
+        // Only repeated columns can have more entries than rows
+        final var capacity = size * 2;
+        repetitionLevels = Arrays.copyOf(repetitionLevels, capacity);
+        definitionLevels = Arrays.copyOf(definitionLevels, capacity);
+        validity = Arrays.copyOf(validity, validityWords(capacity));
+        vector.grow(capacity);
+      }
+
+      repetitionLevels[size] = pageRepetitionLevels.get(definitionIndex);
+      definitionLevels[size] = pageDefinitionLevels.get(definitionIndex);
+      if (pageDefinitionLevels.get(definitionIndex) == definitionLevelMax) {
+        validity[size >>> 6] |= 1L << size;
+        vector.copy(valueIndex++, size);
+      }
+      size++;
+      definitionIndex++;
+
+      if (advancePageIfNecessary()) {
+        vector.source(dataPage);
+      }
+    }
+
+    return new ColumnBatch<>(
+        columnType,
+        rows,
+        size,
+        repetitionLevels,
+        definitionLevels,
+        validity,
+        vector.array(),
+        vector.boxed());
+  }
+
+  /**
+   * @return true if we moved on to a new page
+   */
+  private boolean advancePageIfNecessary() {
+    if (dataPageIterator == null) {
+      dataPageIterator = dataPages.join();
+    }
+    if (dataPage == null || definitionIndex == dataPage.getTotalValues()) {
+      definitionIndex = 0;
+      valueIndex = 0;
+      // Skip any pages with no entries at all
+      do {
+        dataPage = dataPageIterator.hasNext() ? dataPageIterator.next() : null;
+      } while (dataPage != null && dataPage.getTotalValues() == 0);
+      return dataPage != null;
+    }
+    return false;
+  }
+
+  private static int validityWords(final int entries) {
+    return (entries + 63) >>> 6;
+  }
+
+  private Vector<ReadAs> createVector(final int capacity) {
+    final var parquetType = columnType.parquetType();
+    if (parquetType instanceof Int32Type<ReadAs> int32Type) {
+      return new IntVector<>(int32Type, capacity);
+    }
+    if (parquetType instanceof Int64Type<ReadAs> int64Type) {
+      return new LongVector<>(int64Type, capacity);
+    }
+    if (parquetType instanceof FloatType<ReadAs> floatType) {
+      return new FloatVector<>(floatType, capacity);
+    }
+    if (parquetType instanceof DoubleType<ReadAs> doubleType) {
+      return new DoubleVector<>(doubleType, capacity);
+    }
+    if (parquetType instanceof BooleanType<ReadAs> booleanType) {
+      return new BooleanVector<>(booleanType, capacity);
+    }
+    return new ObjectVector<>(parquetType.getReadAsClass(), capacity);
+  }
+
+  /** Copies values out of each page into a primitive array, so nothing is boxed */
+  private abstract static class Vector<ReadAs> {
+    abstract void source(DataPage<ReadAs> dataPage);
+
+    abstract void copy(int valueIndex, int entryIndex);
+
+    abstract void grow(int capacity);
+
+    abstract Object array();
+
+    abstract Values<ReadAs> boxed();
+
+    static <T extends Values<?>> T specialized(
+        final DataPage<?> dataPage, final Class<T> valuesClass) {
+      final var values = dataPage.getValues();
+      if (dataPage.getNonNullValues() == 0) {
+        // Nothing will be copied, and all-null pages don't bother decoding
+        return null;
+      }
+      if (!valuesClass.isInstance(values)) {
+        throw new IllegalStateException(
+            "Expected " + valuesClass.getSimpleName() + " but the page decoded to " + values);
+      }
+      return valuesClass.cast(values);
+    }
+  }
+
+  private static final class IntVector<ReadAs> extends Vector<ReadAs> {
+    private final Int32Type<ReadAs> type;
+    private int[] array;
+    private IntValues<?> source;
+
+    private IntVector(final Int32Type<ReadAs> type, final int capacity) {
+      this.type = type;
+      this.array = new int[capacity];
+    }
+
+    @Override
+    void source(final DataPage<ReadAs> dataPage) {
+      source = specialized(dataPage, IntValues.class);
+    }
+
+    @Override
+    void copy(final int valueIndex, final int entryIndex) {
+      array[entryIndex] = source.getInt(valueIndex);
+    }
+
+    @Override
+    void grow(final int capacity) {
+      array = Arrays.copyOf(array, capacity);
+    }
+
+    @Override
+    Object array() {
+      return array;
+    }
+
+    @Override
+    Values<ReadAs> boxed() {
+      return type.values(array);
+    }
+  }
+
+  private static final class LongVector<ReadAs> extends Vector<ReadAs> {
+    private final Int64Type<ReadAs> type;
+    private long[] array;
+    private LongValues<?> source;
+
+    private LongVector(final Int64Type<ReadAs> type, final int capacity) {
+      this.type = type;
+      this.array = new long[capacity];
+    }
+
+    @Override
+    void source(final DataPage<ReadAs> dataPage) {
+      source = specialized(dataPage, LongValues.class);
+    }
+
+    @Override
+    void copy(final int valueIndex, final int entryIndex) {
+      array[entryIndex] = source.getLong(valueIndex);
+    }
+
+    @Override
+    void grow(final int capacity) {
+      array = Arrays.copyOf(array, capacity);
+    }
+
+    @Override
+    Object array() {
+      return array;
+    }
+
+    @Override
+    Values<ReadAs> boxed() {
+      return type.values(array);
+    }
+  }
+
+  private static final class FloatVector<ReadAs> extends Vector<ReadAs> {
+    private final FloatType<ReadAs> type;
+    private float[] array;
+    private FloatValues<?> source;
+
+    private FloatVector(final FloatType<ReadAs> type, final int capacity) {
+      this.type = type;
+      this.array = new float[capacity];
+    }
+
+    @Override
+    void source(final DataPage<ReadAs> dataPage) {
+      source = specialized(dataPage, FloatValues.class);
+    }
+
+    @Override
+    void copy(final int valueIndex, final int entryIndex) {
+      array[entryIndex] = source.getFloat(valueIndex);
+    }
+
+    @Override
+    void grow(final int capacity) {
+      array = Arrays.copyOf(array, capacity);
+    }
+
+    @Override
+    Object array() {
+      return array;
+    }
+
+    @Override
+    Values<ReadAs> boxed() {
+      return type.values(array);
+    }
+  }
+
+  private static final class DoubleVector<ReadAs> extends Vector<ReadAs> {
+    private final DoubleType<ReadAs> type;
+    private double[] array;
+    private DoubleValues<?> source;
+
+    private DoubleVector(final DoubleType<ReadAs> type, final int capacity) {
+      this.type = type;
+      this.array = new double[capacity];
+    }
+
+    @Override
+    void source(final DataPage<ReadAs> dataPage) {
+      source = specialized(dataPage, DoubleValues.class);
+    }
+
+    @Override
+    void copy(final int valueIndex, final int entryIndex) {
+      array[entryIndex] = source.getDouble(valueIndex);
+    }
+
+    @Override
+    void grow(final int capacity) {
+      array = Arrays.copyOf(array, capacity);
+    }
+
+    @Override
+    Object array() {
+      return array;
+    }
+
+    @Override
+    Values<ReadAs> boxed() {
+      return type.values(array);
+    }
+  }
+
+  private static final class BooleanVector<ReadAs> extends Vector<ReadAs> {
+    private final BooleanType<ReadAs> type;
+    private boolean[] array;
+    private BooleanValues<?> source;
+
+    private BooleanVector(final BooleanType<ReadAs> type, final int capacity) {
+      this.type = type;
+      this.array = new boolean[capacity];
+    }
+
+    @Override
+    void source(final DataPage<ReadAs> dataPage) {
+      source = specialized(dataPage, BooleanValues.class);
+    }
+
+    @Override
+    void copy(final int valueIndex, final int entryIndex) {
+      array[entryIndex] = source.getBoolean(valueIndex);
+    }
+
+    @Override
+    void grow(final int capacity) {
+      array = Arrays.copyOf(array, capacity);
+    }
+
+    @Override
+    Object array() {
+      return array;
+    }
+
+    @Override
+    Values<ReadAs> boxed() {
+      return type.values(array);
+    }
+  }
+
+  private static final class ObjectVector<ReadAs> extends Vector<ReadAs> {
+    private final Class<ReadAs> readAsClass;
+    private Object[] array;
+    private Values<ReadAs> source;
+
+    private ObjectVector(final Class<ReadAs> readAsClass, final int capacity) {
+      this.readAsClass = readAsClass;
+      this.array = new Object[capacity];
+    }
+
+    @Override
+    void source(final DataPage<ReadAs> dataPage) {
+      source = dataPage.getValues();
+    }
+
+    @Override
+    void copy(final int valueIndex, final int entryIndex) {
+      array[entryIndex] = source.get(valueIndex);
+    }
+
+    @Override
+    void grow(final int capacity) {
+      array = Arrays.copyOf(array, capacity);
+    }
+
+    @Override
+    Object array() {
+      return array;
+    }
+
+    @Override
+    Values<ReadAs> boxed() {
+      final var values = array;
+      return index -> readAsClass.cast(values[index]);
+    }
+  }
+}
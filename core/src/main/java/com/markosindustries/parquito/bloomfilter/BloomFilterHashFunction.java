@@ -8,6 +8,20 @@ import net.openhft.hashing.LongHashFunction;
 public abstract class BloomFilterHashFunction {
   private final ByteBuffer valueAsBytes = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
 
+  /**
+   * @return whether values read as this class can be hashed - other classes (e.g. {@link
+   *     java.time.Instant}) aren't supported, as the hash is of the physical value
+   */
+  public static boolean canHash(final Class<?> valueClass) {
+    return valueClass == byte[].class
+        || ByteBuffer.class.isAssignableFrom(valueClass)
+        || valueClass == String.class
+        || valueClass == Integer.class
+        || valueClass == Long.class
+        || valueClass == Float.class
+        || valueClass == Double.class;
+  }
+
   public <T> long hash(final T value) {
     try {
       if (value instanceof byte[] v) {
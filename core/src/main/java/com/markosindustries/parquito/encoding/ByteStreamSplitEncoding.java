@@ -0,0 +1,164 @@
+package com.markosindustries.parquito.encoding;
+
+import static org.apache.parquet.format.Encoding.BYTE_STREAM_SPLIT;
+
+import com.markosindustries.parquito.ByteBufferInputStream;
+import com.markosindustries.parquito.ColumnChunkReader;
+import com.markosindustries.parquito.page.Values;
+import com.markosindustries.parquito.types.DoubleType;
+import com.markosindustries.parquito.types.FixedLengthByteArrayType;
+import com.markosindustries.parquito.types.FloatType;
+import com.markosindustries.parquito.types.Int32Type;
+import com.markosindustries.parquito.types.Int64Type;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Byte Stream Split
+ * https://parquet.apache.org/docs/file-format/data-pages/encodings/#byte-stream-split-byte_stream_split--9
+ *
+ * <p>Each value's K bytes are split across K streams - the first bytes of every value, then the
+ * second bytes, and so on. Primitive values are put back together a whole value at a time, reading
+ * all K streams in step straight from the page's buffer into a primitive array. Fixed length byte
+ * arrays are interleaved a block of values at a time, so the strided writes stay in cache.
+ */
+public class ByteStreamSplitEncoding<ReadAs> implements ParquetEncoding<ReadAs> {
+  private static final int VALUES_PER_BLOCK = 256;
+
+  @Override
+  public Values<ReadAs> decode(
+      final int expectedValues,
+      final int decompressedPageBytes,
+      final InputStream decompressedPageStream,
+      final ColumnChunkReader<ReadAs> columnChunkReader)
+      throws IOException {
+    if (expectedValues == 0) {
+      return Values.empty();
+    }
+
+    final var parquetType = columnChunkReader.getColumnType().parquetType();
+    if (parquetType instanceof FloatType<ReadAs> floatType) {
+      final var ints = decode32(expectedValues, decompressedPageStream);
+      final var floats = new float[expectedValues];
+      for (int index = 0; index < expectedValues; index++) {
+        floats[index] = Float.intBitsToFloat(ints[index]);
+      }
+      return floatType.values(floats);
+    }
+    if (parquetType instanceof DoubleType<ReadAs> doubleType) {
+      final var longs = decode64(expectedValues, decompressedPageStream);
+      final var doubles = new double[expectedValues];
+      for (int index = 0; index < expectedValues; index++) {
+        doubles[index] = Double.longBitsToDouble(longs[index]);
+      }
+      return doubleType.values(doubles);
+    }
+    if (parquetType instanceof Int32Type<ReadAs> int32Type) {
+      return int32Type.values(decode32(expectedValues, decompressedPageStream));
+    }
+    if (parquetType instanceof Int64Type<ReadAs> int64Type) {
+      return int64Type.values(decode64(expectedValues, decompressedPageStream));
+    }
+    if (parquetType instanceof FixedLengthByteArrayType<ReadAs> fixedLengthByteArrayType) {
+      final var typeLength = fixedLengthByteArrayType.getTypeLength();
+      final var interleaved =
+          ByteBuffer.wrap(interleave(expectedValues, typeLength, decompressedPageStream));
+      return index ->
+          columnChunkReader.readValue(interleaved.slice(index * typeLength, typeLength));
+    }
+
+    throw new UnsupportedOperationException(
+        "Can't use " + BYTE_STREAM_SPLIT + " with: " + parquetType.getReadAsClass());
+  }
+
+  /** The page's streams of bytes, as an array - only copying them if the page isn't one already */
+  private static EncodedBytes encodedBytes(
+      final int expectedValues, final int valueBytes, final InputStream decompressedPageStream)
+      throws IOException {
+    final var pageStream = ByteBufferInputStream.from(decompressedPageStream);
+    final var totalBytes = expectedValues * valueBytes;
+    if (pageStream.available() < totalBytes) {
+      throw new EOFException(
+          "Not enough bytes to read " + expectedValues + " values of " + valueBytes + " bytes");
+    }
+    final var bytes = pageStream.readAsBufferView(totalBytes);
+    if (bytes.hasArray()) {
+      return new EncodedBytes(bytes.array(), bytes.arrayOffset() + bytes.position());
+    }
+    final var copy = new byte[totalBytes];
+    bytes.get(copy);
+    return new EncodedBytes(copy, 0);
+  }
+
+  private record EncodedBytes(byte[] array, int offset) {}
+
+  public static int[] decode32(final int expectedValues, final InputStream decompressedPageStream)
+      throws IOException {
+    final var encoded = encodedBytes(expectedValues, 4, decompressedPageStream);
+    final var bytes = encoded.array();
+    final var stream0 = encoded.offset();
+    final var stream1 = stream0 + expectedValues;
+    final var stream2 = stream1 + expectedValues;
+    final var stream3 = stream2 + expectedValues;
+    final var values = new int[expectedValues];
+    for (int index = 0; index < expectedValues; index++) {
+      values[index] =
+          (bytes[stream0 + index] & 0xFF)
+              | (bytes[stream1 + index] & 0xFF) << 8
+              | (bytes[stream2 + index] & 0xFF) << 16
+              | bytes[stream3 + index] << 24;
+    }
+    return values;
+  }
+
+  public static long[] decode64(final int expectedValues, final InputStream decompressedPageStream)
+      throws IOException {
+    final var encoded = encodedBytes(expectedValues, 8, decompressedPageStream);
+    final var bytes = encoded.array();
+    final var stream0 = encoded.offset();
+    final var stream1 = stream0 + expectedValues;
+    final var stream2 = stream1 + expectedValues;
+    final var stream3 = stream2 + expectedValues;
+    final var stream4 = stream3 + expectedValues;
+    final var stream5 = stream4 + expectedValues;
+    final var stream6 = stream5 + expectedValues;
+    final var stream7 = stream6 + expectedValues;
+    final var values = new long[expectedValues];
+    for (int index = 0; index < expectedValues; index++) {
+      values[index] =
+          (bytes[stream0 + index] & 0xFFL)
+              | (bytes[stream1 + index] & 0xFFL) << 8
+              | (bytes[stream2 + index] & 0xFFL) << 16
+              | (bytes[stream3 + index] & 0xFFL) << 24
+              | (bytes[stream4 + index] & 0xFFL) << 32
+              | (bytes[stream5 + index] & 0xFFL) << 40
+              | (bytes[stream6 + index] & 0xFFL) << 48
+              | (long) bytes[stream7 + index] << 56;
+    }
+    return values;
+  }
+
+  /**
+   * Reads each stream in turn for a block of values at a time - so the block's interleaved bytes
+   * stay in cache while every stream is written into them
+   */
+  public static byte[] interleave(
+      final int expectedValues, final int valueBytes, final InputStream decompressedPageStream)
+      throws IOException {
+    final var encoded = encodedBytes(expectedValues, valueBytes, decompressedPageStream);
+    final var bytes = encoded.array();
+    final var interleaved = new byte[expectedValues * valueBytes];
+    for (int blockStart = 0; blockStart < expectedValues; blockStart += VALUES_PER_BLOCK) {
+      final var blockEnd = Math.min(expectedValues, blockStart + VALUES_PER_BLOCK);
+      for (int stream = 0; stream < valueBytes; stream++) {
+        final var streamStart = encoded.offset() + stream * expectedValues;
+        for (int index = blockStart; index < blockEnd; index++) {
+          interleaved[index * valueBytes + stream] = bytes[streamStart + index];
+        }
+      }
+    }
+    return interleaved;
+  }
+}
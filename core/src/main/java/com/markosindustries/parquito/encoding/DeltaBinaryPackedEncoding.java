@@ -2,13 +2,26 @@ package com.markosindustries.parquito.encoding;
 
 import static org.apache.parquet.format.Encoding.DELTA_BINARY_PACKED;
 
-import com.clearspring.analytics.util.Varint;
+import com.markosindustries.parquito.ByteBufferInputStream;
 import com.markosindustries.parquito.ColumnChunkReader;
+import com.markosindustries.parquito.kernels.Kernels;
 import com.markosindustries.parquito.page.Values;
-import java.io.DataInputStream;
+import com.markosindustries.parquito.types.Int32Type;
+import com.markosindustries.parquito.types.Int64Type;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
-
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Delta Encoding
+ * https://parquet.apache.org/docs/file-format/data-pages/encodings/#delta-encoding-delta_binary_packed--5
+ *
+ * <p>Unpacks each miniblock's deltas straight from the page's buffer, then sums them into the
+ * values with a {@link Kernels} prefix sum.
+ */
 public class DeltaBinaryPackedEncoding<ReadAs> implements ParquetEncoding<ReadAs> {
   @Override
   public Values<ReadAs> decode(
@@ -21,18 +34,18 @@ public class DeltaBinaryPackedEncoding<ReadAs> implements ParquetEncoding<ReadAs
       return Values.empty();
     }
 
-    final var readAsClass = columnChunkReader.getColumnType().parquetType().getReadAsClass();
-    if (readAsClass.isAssignableFrom(Integer.class)) {
-      final var values = DeltaBinaryPackedEncoding.decode32(expectedValues, decompressedPageStream);
-      return index -> readAsClass.cast(values[index]);
+    final var parquetType = columnChunkReader.getColumnType().parquetType();
+    if (parquetType instanceof Int32Type<ReadAs> int32Type) {
+      return int32Type.values(
+          DeltaBinaryPackedEncoding.decode32(expectedValues, decompressedPageStream));
     }
-    if (readAsClass.isAssignableFrom(Long.class)) {
-      final var values = DeltaBinaryPackedEncoding.decode64(expectedValues, decompressedPageStream);
-      return index -> readAsClass.cast(values[index]);
+    if (parquetType instanceof Int64Type<ReadAs> int64Type) {
+      return int64Type.values(
+          DeltaBinaryPackedEncoding.decode64(expectedValues, decompressedPageStream));
     }
 
     throw new UnsupportedOperationException(
-        "Can't use " + DELTA_BINARY_PACKED + " with: " + readAsClass);
+        "Can't use " + DELTA_BINARY_PACKED + " with: " + parquetType.getReadAsClass());
   }
 
   public static int[] decode32(final int expectedValues, final InputStream decompressedPageStream)
@@ -42,20 +55,16 @@ public class DeltaBinaryPackedEncoding<ReadAs> implements ParquetEncoding<ReadAs
       return values;
     }
 
-    decodeInto(
-        new TargetArray() {
-          @Override
-          public int length() {
-            return expectedValues;
-          }
-
-          @Override
-          public void set(final int index, final long value) {
-            values[index] = (int) value;
-          }
-        },
-        decompressedPageStream);
-
+    final var miniBlocks = new MiniBlockReader(expectedValues, decompressedPageStream);
+    final var deltas = new long[miniBlocks.valuesPerMiniBlock];
+    final var kernels = Kernels.get();
+    long value = miniBlocks.firstValue;
+    values[0] = (int) value;
+    for (int index = 1; index < expectedValues; ) {
+      final var deltaCount = miniBlocks.next(deltas);
+      value = kernels.prefixSum(deltas, deltaCount, value, values, index);
+      index += deltaCount;
+    }
     return values;
   }
 
@@ -66,84 +75,150 @@ public class DeltaBinaryPackedEncoding<ReadAs> implements ParquetEncoding<ReadAs
       return values;
     }
 
-    decodeInto(
-        new TargetArray() {
-          @Override
-          public int length() {
-            return expectedValues;
-          }
-
-          @Override
-          public void set(final int index, final long value) {
-            values[index] = value;
-          }
-        },
-        decompressedPageStream);
-
+    final var miniBlocks = new MiniBlockReader(expectedValues, decompressedPageStream);
+    final var deltas = new long[miniBlocks.valuesPerMiniBlock];
+    final var kernels = Kernels.get();
+    long value = miniBlocks.firstValue;
+    values[0] = value;
+    for (int index = 1; index < expectedValues; ) {
+      final var deltaCount = miniBlocks.next(deltas);
+      value = kernels.prefixSum(deltas, deltaCount, value, values, index);
+      index += deltaCount;
+    }
     return values;
   }
 
-  interface TargetArray {
-    int length();
-
-    void set(int index, long value);
-  }
+  /**
+   * Unpacks the deltas of a page's miniblocks straight from its buffer, a whole miniblock at a time
+   * - leaving the page's stream positioned after the last one, once they've all been read.
+   */
+  private static final class MiniBlockReader {
+    private final ByteBuffer pageBuffer;
+    private final ByteBuffer buffer;
+    private final int miniBlocksPerBlock;
+    private final int valuesPerMiniBlock;
+    private final int[] bitWidths;
+    private final long firstValue;
+    private int position;
+    private int deltasRemaining;
+    private int miniBlockIndex;
+    private long minDelta;
+
+    private MiniBlockReader(final int expectedValues, final InputStream decompressedPageStream)
+        throws IOException {
+      this.pageBuffer = ByteBufferInputStream.from(decompressedPageStream).getByteBuffer();
+      this.buffer = pageBuffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+      this.position = buffer.position();
+
+      final var valuesPerBlock = (int) readUnsignedVarLong();
+      this.miniBlocksPerBlock = (int) readUnsignedVarLong();
+      final var totalValueCount = (int) readUnsignedVarLong();
+      if (totalValueCount != expectedValues) {
+        throw new IllegalArgumentException(
+            "Expected "
+                + expectedValues
+                + " but delta binary encoding block header says "
+                + totalValueCount
+                + " are present");
+      }
+      if (miniBlocksPerBlock <= 0
+          || Maths.remainderDivPow2(valuesPerBlock / miniBlocksPerBlock, 5) != 0) {
+        throw new IllegalArgumentException(
+            "Expected values per block / miniBlocksPerBlock to be a multiple of 32 - but that's not true for "
+                + valuesPerBlock
+                + " / "
+                + miniBlocksPerBlock);
+      }
 
-  public static void decodeInto(TargetArray targetArray, final InputStream decompressedPageStream)
-      throws IOException {
-    final var dataInputStream = new DataInputStream(decompressedPageStream);
-    final var valuesPerBlock = Varint.readUnsignedVarInt(dataInputStream);
-    final var miniBlocksPerBlock = Varint.readUnsignedVarInt(dataInputStream);
-    final var totalValueCount = Varint.readUnsignedVarInt(dataInputStream);
-
-    if (totalValueCount != targetArray.length()) {
-      throw new IllegalArgumentException(
-          "Expected "
-              + targetArray.length()
-              + " but delta binary encoding block header says "
-              + totalValueCount
-              + " are present");
+      this.valuesPerMiniBlock = valuesPerBlock / miniBlocksPerBlock;
+      this.bitWidths = new int[miniBlocksPerBlock];
+      this.miniBlockIndex = miniBlocksPerBlock;
+      this.firstValue = ZigZag.decode(readUnsignedVarLong());
+      this.deltasRemaining = totalValueCount - 1;
+      if (deltasRemaining == 0) {
+        pageBuffer.position(position);
+      }
     }
-    if (Maths.remainderDivPow2(valuesPerBlock / miniBlocksPerBlock, 5) != 0) {
-      throw new IllegalArgumentException(
-          "Expected values per block / miniBlocksPerBlock to be a multiple of 32 - but that's not true for "
-              + valuesPerBlock
-              + " / "
-              + miniBlocksPerBlock);
+
+    /**
+     * @param deltas where to unpack the next miniblock's deltas to, with the block's min delta
+     *     added
+     * @return how many deltas the miniblock holds, excluding any padding after the last value
+     */
+    private int next(final long[] deltas) throws IOException {
+      if (miniBlockIndex == miniBlocksPerBlock) {
+        minDelta = ZigZag.decode(readUnsignedVarLong());
+        for (int miniBlock = 0; miniBlock < miniBlocksPerBlock; miniBlock++) {
+          bitWidths[miniBlock] = readByte();
+        }
+        miniBlockIndex = 0;
+      }
+      final var bitWidth = bitWidths[miniBlockIndex++];
+      if (bitWidth > 64) {
+        throw new IllegalArgumentException(
+            "Delta bit widths can't exceed 64, but found " + bitWidth);
+      }
+      final var deltaCount = Math.min(valuesPerMiniBlock, deltasRemaining);
+      // Miniblocks are packed the same way as RLE hybrid bit-packed runs, in whole groups of 8 - so
+      // always take exactly bitWidth bytes per 8 values
+      final var miniBlockBytes = (bitWidth * valuesPerMiniBlock) >>> 3;
+
+      if (bitWidth == 0) {
+        Arrays.fill(deltas, 0, deltaCount, minDelta);
+      } else if (bitWidth <= 56 && position + miniBlockBytes + 8 <= buffer.limit()) {
+        // Each delta starts at most 7 bits into its first byte, so fits in the word starting there
+        final var mask = Maths.longMaskLowerBits(bitWidth);
+        for (int delta = 0, bitOffset = 0; delta < deltaCount; delta++, bitOffset += bitWidth) {
+          deltas[delta] =
+              minDelta
+                  + ((buffer.getLong(position + (bitOffset >>> 3)) >>> (bitOffset & 7)) & mask);
+        }
+      } else {
+        for (int delta = 0; delta < deltaCount; delta++) {
+          deltas[delta] = minDelta + unpackSafely(delta * bitWidth, bitWidth);
+        }
+      }
+
+      // Miniblocks after the last value are omitted entirely, though their bit widths are still
+      // present (and needn't be zero)
+      position = Math.min(buffer.limit(), position + miniBlockBytes);
+      deltasRemaining -= deltaCount;
+      if (deltasRemaining == 0) {
+        pageBuffer.position(position);
+      }
+      return deltaCount;
     }
 
-    final var valuesPerMiniBlock = valuesPerBlock / miniBlocksPerBlock;
-    long previousValue = ZigZag.decode(Varint.readUnsignedVarLong(dataInputStream));
-    targetArray.set(0, previousValue);
+    /**
+     * A bit at a time, for wide deltas or the end of the buffer - treating bytes past it as zero
+     */
+    private long unpackSafely(final int firstBit, final int bitWidth) {
+      long value = 0;
+      for (int bitsRead = 0; bitsRead < bitWidth; ) {
+        final var bit = firstBit + bitsRead;
+        final var byteIndex = position + (bit >>> 3);
+        final var bitsFromByte = Math.min(8 - (bit & 7), bitWidth - bitsRead);
+        final long byteValue = byteIndex < buffer.limit() ? buffer.get(byteIndex) & 0xFF : 0;
+        value |= ((byteValue >>> (bit & 7)) & ((1L << bitsFromByte) - 1)) << bitsRead;
+        bitsRead += bitsFromByte;
+      }
+      return value;
+    }
 
-    final var bitWidthsForBlock = new int[miniBlocksPerBlock];
-    for (int valuesSeen = 1; valuesSeen < totalValueCount; ) {
-      // Read a block
-      final long minDelta = ZigZag.decode(Varint.readUnsignedVarLong(dataInputStream));
-      for (int miniBlockIdx = 0; miniBlockIdx < miniBlocksPerBlock; miniBlockIdx++) {
-        bitWidthsForBlock[miniBlockIdx] = dataInputStream.readUnsignedByte();
+    private int readByte() throws IOException {
+      if (position >= buffer.limit()) {
+        throw new EOFException();
       }
-      for (int miniBlockIdx = 0; miniBlockIdx < miniBlocksPerBlock; miniBlockIdx++) {
-        final var bitWidth = bitWidthsForBlock[miniBlockIdx];
-        long mask = Maths.longMaskLowerBits(bitWidth);
-
-        long buffer = 0;
-        int availableBits = 0;
-
-        for (int index = 0; index < valuesPerMiniBlock; index++, valuesSeen++) {
-          // When the spec says miniblocks are bitpacked - they mean little-endian RLE hybrid
-          // bitpacking, not big-endian legacy bitpacking
-          while (availableBits < bitWidth) {
-            buffer |= ((long) dataInputStream.readUnsignedByte()) << availableBits;
-            availableBits += 8;
-          }
-          availableBits -= bitWidth;
-
-          if (valuesSeen < targetArray.length()) {
-            previousValue += minDelta + (buffer & mask);
-            buffer >>>= bitWidth;
-            targetArray.set(valuesSeen, previousValue);
-          }
+      return buffer.get(position++) & 0xFF;
+    }
+
+    private long readUnsignedVarLong() throws IOException {
+      long value = 0;
+      for (int shift = 0; ; shift += 7) {
+        final var nextByte = readByte();
+        value |= (long) (nextByte & 0x7F) << shift;
+        if ((nextByte & 0x80) == 0) {
+          return value;
         }
       }
     }
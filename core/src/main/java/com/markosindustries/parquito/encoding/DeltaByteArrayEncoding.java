@@ -1,5 +1,6 @@
 package com.markosindustries.parquito.encoding;
 
+import com.markosindustries.parquito.ByteBufferInputStream;
 import com.markosindustries.parquito.ColumnChunkReader;
 import com.markosindustries.parquito.page.Values;
 import java.io.IOException;
@@ -14,9 +15,10 @@ public class DeltaByteArrayEncoding<ReadAs> implements ParquetEncoding<ReadAs> {
       final InputStream decompressedPageStream,
       final ColumnChunkReader<ReadAs> columnChunkReader)
       throws IOException {
-    final var prefixLengths =
-        DeltaBinaryPackedEncoding.decode32(expectedValues, decompressedPageStream);
-    final var lengths = DeltaBinaryPackedEncoding.decode32(expectedValues, decompressedPageStream);
+    // Read from the page's buffer, so the decoded lengths leave it positioned at the bytes
+    final var pageStream = ByteBufferInputStream.from(decompressedPageStream);
+    final var prefixLengths = DeltaBinaryPackedEncoding.decode32(expectedValues, pageStream);
+    final var lengths = DeltaBinaryPackedEncoding.decode32(expectedValues, pageStream);
     final var offsets = new int[lengths.length];
     {
       int offset = 0;
@@ -25,7 +27,7 @@ public class DeltaByteArrayEncoding<ReadAs> implements ParquetEncoding<ReadAs> {
         offset += lengths[i];
       }
     }
-    final var bytes = ByteBuffer.wrap(decompressedPageStream.readAllBytes());
+    final var bytes = pageStream.readAsBufferView(pageStream.available());
 
     return index -> {
       if (prefixLengths[index] == 0) {
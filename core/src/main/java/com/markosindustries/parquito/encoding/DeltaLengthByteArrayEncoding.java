@@ -1,10 +1,10 @@
 package com.markosindustries.parquito.encoding;
 
+import com.markosindustries.parquito.ByteBufferInputStream;
 import com.markosindustries.parquito.ColumnChunkReader;
 import com.markosindustries.parquito.page.Values;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.ByteBuffer;
 
 public class DeltaLengthByteArrayEncoding<ReadAs> implements ParquetEncoding<ReadAs> {
   @Override
@@ -14,7 +14,9 @@ public class DeltaLengthByteArrayEncoding<ReadAs> implements ParquetEncoding<Rea
       final InputStream decompressedPageStream,
       final ColumnChunkReader<ReadAs> columnChunkReader)
       throws IOException {
-    final var lengths = DeltaBinaryPackedEncoding.decode32(expectedValues, decompressedPageStream);
+    // Read from the page's buffer, so the decoded lengths leave it positioned at the bytes
+    final var pageStream = ByteBufferInputStream.from(decompressedPageStream);
+    final var lengths = DeltaBinaryPackedEncoding.decode32(expectedValues, pageStream);
     final var offsets = new int[lengths.length];
     {
       int offset = 0;
@@ -23,7 +25,7 @@ public class DeltaLengthByteArrayEncoding<ReadAs> implements ParquetEncoding<Rea
         offset += lengths[i];
       }
     }
-    final var bytes = ByteBuffer.wrap(decompressedPageStream.readAllBytes());
+    final var bytes = pageStream.readAsBufferView(pageStream.available());
 
     return index -> columnChunkReader.readValue(bytes.slice(offsets[index], lengths[index]));
   }
@@ -2,13 +2,14 @@ package com.markosindustries.parquito.encoding;
 
 import com.markosindustries.parquito.ColumnChunkReader;
 import com.markosindustries.parquito.ParquetPredicate;
+import com.markosindustries.parquito.page.DoubleValues;
+import com.markosindustries.parquito.page.FloatValues;
+import com.markosindustries.parquito.page.IntValues;
+import com.markosindustries.parquito.page.LongValues;
 import com.markosindustries.parquito.page.PredicateMatcher;
 import com.markosindustries.parquito.page.Values;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 public class DictionaryEncoding<ReadAs> implements ParquetEncoding<ReadAs> {
   @Override
@@ -24,26 +25,111 @@ public class DictionaryEncoding<ReadAs> implements ParquetEncoding<ReadAs> {
         IntEncodings.INT_ENCODING_RLE_WITHOUT_LENGTH_HEADER.decode(
             expectedValues, bitWidth, decompressedPageStream);
 
-    return new Values<ReadAs>() {
-      @Override
-      public ReadAs get(final int index) {
-        return columnChunkReader.getDictionaryPage().getValues().get(dictionaryIndices[index]);
-      }
-
-      @Override
-      public PredicateMatcher matcher(final ParquetPredicate<ReadAs> predicate) {
-        final var dictionaryPage = columnChunkReader.getDictionaryPage();
-        final var dictionaryPageValues = dictionaryPage.getValues();
-        final Set<Integer> matchingDictionaryIndices =
-            IntStream.range(0, dictionaryPage.getTotalValues())
-                .filter(
-                    dictionaryIndex ->
-                        predicate.valueMatches(dictionaryPageValues.get(dictionaryIndex)))
-                .boxed()
-                .collect(Collectors.toSet());
-
-        return index -> matchingDictionaryIndices.contains(dictionaryIndices[index]);
-      }
-    };
+    final var dictionaryValues = columnChunkReader.getDictionaryPage().getValues();
+    if (dictionaryValues instanceof IntValues<ReadAs> intDictionaryValues) {
+      return new DictionaryIntValues<>(columnChunkReader, dictionaryIndices, intDictionaryValues);
+    }
+    if (dictionaryValues instanceof LongValues<ReadAs> longDictionaryValues) {
+      return new DictionaryLongValues<>(columnChunkReader, dictionaryIndices, longDictionaryValues);
+    }
+    if (dictionaryValues instanceof FloatValues<ReadAs> floatDictionaryValues) {
+      return new DictionaryFloatValues<>(
+          columnChunkReader, dictionaryIndices, floatDictionaryValues);
+    }
+    if (dictionaryValues instanceof DoubleValues<ReadAs> doubleDictionaryValues) {
+      return new DictionaryDoubleValues<>(
+          columnChunkReader, dictionaryIndices, doubleDictionaryValues);
+    }
+    return new DictionaryValues<>(columnChunkReader, dictionaryIndices, dictionaryValues);
+  }
+
+  private static class DictionaryValues<ReadAs, DictionaryValuesType extends Values<ReadAs>>
+      implements Values<ReadAs> {
+    private final ColumnChunkReader<ReadAs> columnChunkReader;
+    protected final int[] dictionaryIndices;
+    protected final DictionaryValuesType dictionaryValues;
+
+    private DictionaryValues(
+        final ColumnChunkReader<ReadAs> columnChunkReader,
+        final int[] dictionaryIndices,
+        final DictionaryValuesType dictionaryValues) {
+      this.columnChunkReader = columnChunkReader;
+      this.dictionaryIndices = dictionaryIndices;
+      this.dictionaryValues = dictionaryValues;
+    }
+
+    @Override
+    public ReadAs get(final int index) {
+      return dictionaryValues.get(dictionaryIndices[index]);
+    }
+
+    @Override
+    public PredicateMatcher matcher(final ParquetPredicate<ReadAs> predicate) {
+      final var matchingDictionaryIds = columnChunkReader.getMatchingDictionaryIds(predicate);
+      return index -> {
+        final var dictionaryId = dictionaryIndices[index];
+        return (matchingDictionaryIds[dictionaryId >>> 6] & (1L << dictionaryId)) != 0;
+      };
+    }
+  }
+
+  private static final class DictionaryIntValues<ReadAs>
+      extends DictionaryValues<ReadAs, IntValues<ReadAs>> implements IntValues<ReadAs> {
+    private DictionaryIntValues(
+        final ColumnChunkReader<ReadAs> columnChunkReader,
+        final int[] dictionaryIndices,
+        final IntValues<ReadAs> dictionaryValues) {
+      super(columnChunkReader, dictionaryIndices, dictionaryValues);
+    }
+
+    @Override
+    public int getInt(final int index) {
+      return dictionaryValues.getInt(dictionaryIndices[index]);
+    }
+  }
+
+  private static final class DictionaryLongValues<ReadAs>
+      extends DictionaryValues<ReadAs, LongValues<ReadAs>> implements LongValues<ReadAs> {
+    private DictionaryLongValues(
+        final ColumnChunkReader<ReadAs> columnChunkReader,
+        final int[] dictionaryIndices,
+        final LongValues<ReadAs> dictionaryValues) {
+      super(columnChunkReader, dictionaryIndices, dictionaryValues);
+    }
+
+    @Override
+    public long getLong(final int index) {
+      return dictionaryValues.getLong(dictionaryIndices[index]);
+    }
+  }
+
+  private static final class DictionaryFloatValues<ReadAs>
+      extends DictionaryValues<ReadAs, FloatValues<ReadAs>> implements FloatValues<ReadAs> {
+    private DictionaryFloatValues(
+        final ColumnChunkReader<ReadAs> columnChunkReader,
+        final int[] dictionaryIndices,
+        final FloatValues<ReadAs> dictionaryValues) {
+      super(columnChunkReader, dictionaryIndices, dictionaryValues);
+    }
+
+    @Override
+    public float getFloat(final int index) {
+      return dictionaryValues.getFloat(dictionaryIndices[index]);
+    }
+  }
+
+  private static final class DictionaryDoubleValues<ReadAs>
+      extends DictionaryValues<ReadAs, DoubleValues<ReadAs>> implements DoubleValues<ReadAs> {
+    private DictionaryDoubleValues(
+        final ColumnChunkReader<ReadAs> columnChunkReader,
+        final int[] dictionaryIndices,
+        final DoubleValues<ReadAs> dictionaryValues) {
+      super(columnChunkReader, dictionaryIndices, dictionaryValues);
+    }
+
+    @Override
+    public double getDouble(final int index) {
+      return dictionaryValues.getDouble(dictionaryIndices[index]);
+    }
   }
 }
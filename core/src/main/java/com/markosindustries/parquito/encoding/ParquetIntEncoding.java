@@ -1,5 +1,6 @@
 package com.markosindustries.parquito.encoding;
 
+import com.markosindustries.parquito.page.Levels;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -7,4 +8,19 @@ public interface ParquetIntEncoding {
   int[] decode(
       final int expectedValues, final int bitWidth, final InputStream decompressedPageStream)
       throws IOException;
+
+  /**
+   * Decodes repetition or definition levels, which encodings may hold more compactly than an array
+   *
+   * @param maxLevel the highest level there can be - there's nothing to decode if it's zero
+   */
+  default Levels decodeLevels(
+      final int expectedValues, final int maxLevel, final InputStream decompressedPageStream)
+      throws IOException {
+    if (maxLevel == 0) {
+      return Levels.constant(expectedValues, 0);
+    }
+    return Levels.of(
+        decode(expectedValues, IntEncodings.bitWidth(maxLevel), decompressedPageStream));
+  }
 }
@@ -1,15 +1,22 @@
 package com.markosindustries.parquito.encoding;
 
-import com.clearspring.analytics.util.Varint;
-import com.markosindustries.parquito.SpecifiedByteCountInputStream;
-import java.io.DataInput;
-import java.io.DataInputStream;
+import com.markosindustries.parquito.ByteBufferInputStream;
+import com.markosindustries.parquito.kernels.Kernels;
+import com.markosindustries.parquito.page.Levels;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 
 /**
  * Run Length Encoding / Bit-Packing Hybrid
  * https://parquet.apache.org/docs/file-format/data-pages/encodings/#a-namerlearun-length-encoding--bit-packing-hybrid-rle--3
+ *
+ * <p>Decodes straight from the page's buffer (copying the stream into one first, if it isn't backed
+ * by one), unpacking bit-packed values a group of 8 at a time using whole-word reads (via {@link
+ * Kernels}), and filling repeated runs in bulk.
  */
 public class RLEIntEncoding implements ParquetIntEncoding {
   private static final int HEADER_FLAG_BIT_PACKED = 1;
@@ -24,8 +31,8 @@ public class RLEIntEncoding implements ParquetIntEncoding {
   public int[] decode(
       final int expectedValues, final int bitWidth, final InputStream decompressedPageStream)
       throws IOException {
-    if (bitWidth < 0) {
-      throw new IllegalArgumentException("Can't decode a bitWidth less than 0");
+    if (bitWidth < 0 || bitWidth > 32) {
+      throw new IllegalArgumentException("Can only decode a bitWidth between 0 and 32");
     }
 
     final var values = new int[expectedValues];
@@ -34,89 +41,167 @@ public class RLEIntEncoding implements ParquetIntEncoding {
       return values;
     }
 
-    DataInputStream dataInput;
-    if (hasLengthHeader) {
-      final var length = LittleEndian.readInt(decompressedPageStream);
-      dataInput =
-          new DataInputStream(new SpecifiedByteCountInputStream(decompressedPageStream, length));
-    } else {
-      dataInput = new DataInputStream(decompressedPageStream);
-    }
+    decode(values, bitWidth, encodedRuns(decompressedPageStream));
+    return values;
+  }
 
-    for (int index = 0; index < expectedValues; ) {
-      index += decodeNextRun(values, index, bitWidth, dataInput);
+  /** Like {@link #decode}, but keeping the levels as runs where there are few of them */
+  @Override
+  public Levels decodeLevels(
+      final int expectedValues, final int maxLevel, final InputStream decompressedPageStream)
+      throws IOException {
+    if (maxLevel == 0 || expectedValues == 0) {
+      return Levels.constant(expectedValues, 0);
     }
 
-    return values;
+    final var levels = new Levels.Builder(expectedValues, maxLevel);
+    decodeRuns(
+        expectedValues,
+        IntEncodings.bitWidth(maxLevel),
+        encodedRuns(decompressedPageStream),
+        null,
+        levels);
+    return levels.build();
   }
 
-  private int decodeNextRun(
-      final int[] values, final int offset, final int bitWidth, final DataInput dataInput)
-      throws IOException {
-    final var header = Varint.readUnsignedVarInt(dataInput);
-    if ((header & HEADER_FLAG_BIT_PACKED) == HEADER_FLAG_BIT_PACKED) {
-      return decodeBitPackedRun(values, offset, (header >>> 1) << 3, bitWidth, dataInput);
+  private ByteBuffer encodedRuns(final InputStream decompressedPageStream) throws IOException {
+    final ByteBuffer encoded;
+    if (hasLengthHeader) {
+      final var length = LittleEndian.readInt(decompressedPageStream);
+      encoded =
+          decompressedPageStream instanceof ByteBufferInputStream byteBufferInputStream
+              ? byteBufferInputStream.readAsBufferView(length)
+              : ByteBuffer.wrap(decompressedPageStream.readNBytes(length));
     } else {
-      return decodeRepeatedRun(values, offset, header >>> 1, bitWidth, dataInput);
+      // Without a length header, the runs continue to the end of the stream - but we only consume
+      // what we decode from a buffer, so anything following them can still be read
+      encoded = ByteBufferInputStream.from(decompressedPageStream).getByteBuffer();
     }
+    return encoded;
   }
 
-  private int decodeBitPackedRun(
-      final int[] values,
-      final int offset,
-      final int runLength,
-      final int bitWidth,
-      final DataInput dataInput)
+  /**
+   * Fills the values with runs read from the buffer, leaving its position after the last run read
+   */
+  static void decode(final int[] values, final int bitWidth, final ByteBuffer encoded)
       throws IOException {
-    if (Maths.remainderDivPow2(runLength, 3) != 0) {
-      throw new IllegalArgumentException(
-          "Bit packed runs must have length which is a multiple of 8");
-    }
+    decodeRuns(values.length, bitWidth, encoded, values, null);
+  }
 
-    final var expectedValues = Math.min(values.length - offset, runLength);
-    final long mask = Maths.longMaskLowerBits(bitWidth);
-    long buffer = 0;
-    int bitsAvailable = 0;
-    for (int i = 0; i < expectedValues; i++) {
-      while (bitsAvailable < bitWidth) {
-        buffer |= ((long) dataInput.readUnsignedByte()) << bitsAvailable;
-        bitsAvailable += 8;
+  /**
+   * @param values where to decode the values to - or null, to add them to the levels instead
+   * @param levels where to add the runs, if not decoding into the values
+   */
+  private static void decodeRuns(
+      final int expectedValues,
+      final int bitWidth,
+      final ByteBuffer encoded,
+      final int[] values,
+      final Levels.Builder levels)
+      throws IOException {
+    var packedValues = values == null ? new int[0] : values;
+    final var buffer = encoded.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    var position = buffer.position();
+    for (int index = 0; index < expectedValues; ) {
+      // Unsigned LEB128 varint
+      int header = 0;
+      for (int shift = 0; ; shift += 7) {
+        if (position >= buffer.limit()) {
+          throw new EOFException();
+        }
+        final var headerByte = buffer.get(position++);
+        header |= (headerByte & 0x7F) << shift;
+        if (headerByte >= 0) {
+          break;
+        }
       }
-      int next = (int) (buffer & mask);
-      buffer >>>= bitWidth;
-      bitsAvailable -= bitWidth;
-
-      values[offset + i] = next;
-    }
 
-    // The encoding demands runLength values, even if we don't need that many
-    for (int wastedBits = bitWidth * (runLength - expectedValues);
-        wastedBits > 7;
-        wastedBits -= 8) {
-      dataInput.readUnsignedByte();
+      if ((header & HEADER_FLAG_BIT_PACKED) == HEADER_FLAG_BIT_PACKED) {
+        final var groups = header >>> 1;
+        if (levels == null) {
+          index += decodeBitPackedRun(values, index, groups, bitWidth, buffer, position);
+        } else {
+          final var runLength = (int) Math.min(expectedValues - index, (long) groups << 3);
+          if (packedValues.length < runLength) {
+            packedValues = new int[runLength];
+          }
+          decodeBitPackedRun(packedValues, 0, groups, bitWidth, buffer, position);
+          levels.add(packedValues, 0, runLength);
+          index += runLength;
+        }
+        // The encoding demands every group's values, even if we don't need that many - though we
+        // tolerate a writer leaving off the padding bytes of the final run
+        position = (int) Math.min(buffer.limit(), position + (long) groups * bitWidth);
+      } else {
+        final var valueBytes = Maths.ceilDivPow2(bitWidth, 3);
+        if (position + valueBytes > buffer.limit()) {
+          throw new EOFException();
+        }
+        int repeatedValue = 0;
+        for (int byteIndex = 0; byteIndex < valueBytes; byteIndex++) {
+          repeatedValue |= (buffer.get(position++) & 0xFF) << (byteIndex << 3);
+        }
+        final var runLength = Math.min(expectedValues - index, header >>> 1);
+        if (levels == null) {
+          Arrays.fill(values, index, index + runLength, repeatedValue);
+        } else {
+          levels.addRun(repeatedValue, runLength);
+        }
+        index += runLength;
+      }
     }
-
-    return expectedValues;
+    encoded.position(position);
   }
 
-  private int decodeRepeatedRun(
+  private static int decodeBitPackedRun(
       final int[] values,
       final int offset,
-      final int runLength,
+      final int groups,
       final int bitWidth,
-      final DataInput dataInput)
-      throws IOException {
-    final var expectedValues = Math.min(values.length - offset, runLength);
-
-    int repeatedValue = 0;
-    for (int shift = 0; shift < bitWidth; shift += 8) {
-      repeatedValue |= (dataInput.readUnsignedByte() << shift);
+      final ByteBuffer buffer,
+      final int runStart) {
+    final var expectedValues = (int) Math.min(values.length - offset, (long) groups << 3);
+    // Each group of 8 values takes exactly bitWidth bytes, and the word reads for a group may
+    // overrun it by up to 8 bytes - which we can only do while that's still within the buffer
+    final var bytesForWholeWords = buffer.limit() - 8 - runStart;
+    final var wholeGroups =
+        bytesForWholeWords < 0 ? 0 : Math.min(expectedValues >>> 3, bytesForWholeWords / bitWidth);
+    Kernels.get().unpackGroups(buffer, runStart, bitWidth, values, offset, wholeGroups);
+    var index = wholeGroups << 3;
+    var groupStart = runStart + wholeGroups * bitWidth;
+    if (index < expectedValues) {
+      final var mask = Maths.longMaskLowerBits(bitWidth);
+      final var group = new int[8];
+      for (; index < expectedValues; index += 8) {
+        unpack8Safely(buffer, groupStart, bitWidth, mask, group);
+        System.arraycopy(group, 0, values, offset + index, Math.min(8, expectedValues - index));
+        groupStart += bitWidth;
+      }
     }
+    return expectedValues;
+  }
 
-    for (int i = 0; i < expectedValues; i++) {
-      values[offset + i] = repeatedValue;
+  /** For the end of the buffer - treating any bytes past it as zero */
+  private static void unpack8Safely(
+      final ByteBuffer buffer,
+      final int groupStart,
+      final int bitWidth,
+      final long mask,
+      final int[] values) {
+    long bits = 0;
+    int bitsAvailable = 0;
+    int position = groupStart;
+    for (int i = 0; i < 8; i++) {
+      while (bitsAvailable < bitWidth) {
+        if (position < buffer.limit()) {
+          bits |= (buffer.get(position) & 0xFFL) << bitsAvailable;
+        }
+        position++;
+        bitsAvailable += 8;
+      }
+      values[i] = (int) (bits & mask);
+      bits >>>= bitWidth;
+      bitsAvailable -= bitWidth;
     }
-
-    return expectedValues;
   }
 }
@@ -7,7 +7,7 @@ public interface ZigZag {
   }
 
   static int decode(final int value) {
-    return (value ^ -(value & 1)) >> 1;
+    return (value >>> 1) ^ -(value & 1);
   }
 
   static long encode(final long value) {
@@ -16,6 +16,6 @@ public interface ZigZag {
   }
 
   static long decode(final long value) {
-    return (value ^ -(value & 1)) >> 1;
+    return (value >>> 1) ^ -(value & 1);
   }
 }
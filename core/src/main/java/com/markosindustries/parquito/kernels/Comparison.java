@@ -0,0 +1,20 @@
+package com.markosindustries.parquito.kernels;
+
+/** How a value is compared against a constant, when evaluating a predicate in bulk */
+public enum Comparison {
+  EQUAL,
+  GREATER_THAN,
+  GREATER_THAN_OR_EQUAL,
+  LESS_THAN,
+  LESS_THAN_OR_EQUAL;
+
+  public boolean test(final long value, final long constant) {
+    return switch (this) {
+      case EQUAL -> value == constant;
+      case GREATER_THAN -> value > constant;
+      case GREATER_THAN_OR_EQUAL -> value >= constant;
+      case LESS_THAN -> value < constant;
+      case LESS_THAN_OR_EQUAL -> value <= constant;
+    };
+  }
+}
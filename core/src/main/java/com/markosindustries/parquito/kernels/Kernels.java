@@ -0,0 +1,58 @@
+package com.markosindustries.parquito.kernels;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The tight loops of decoding and filtering primitive values, which an implementation can speed up
+ * with SIMD instructions where the platform allows. One is found at runtime via {@link
+ * java.util.ServiceLoader} - falling back to {@link ScalarKernels} when none is available, or when
+ * the one found can't be loaded (such as when the JDK's incubating Vector API isn't enabled).
+ *
+ * <p>Set the system property {@value #SCALAR_PROPERTY} to {@code true} to always use the scalar
+ * kernels.
+ */
+public interface Kernels {
+  String SCALAR_PROPERTY = "parquito.kernels.scalar";
+
+  /**
+   * @return the kernels to use - loaded once, the first time they're needed
+   */
+  static Kernels get() {
+    return KernelsLoader.KERNELS;
+  }
+
+  /**
+   * Unpacks groups of 8 bit-packed values, packed the way RLE / bit-packing hybrid runs are.
+   *
+   * @param buffer a little-endian buffer, which must hold at least 8 bytes past the last group
+   * @param position where in the buffer the first group starts
+   * @param bitWidth how many bits each value takes, from 1 to 32
+   * @param values where to unpack the values to
+   * @param offset where in the values to unpack the first value to
+   * @param groups how many groups of 8 values to unpack
+   */
+  void unpackGroups(
+      ByteBuffer buffer, int position, int bitWidth, int[] values, int offset, int groups);
+
+  /**
+   * Sets each of the values to the running sum of the deltas up to and including its own.
+   *
+   * @param start the value before the first delta
+   * @return the last value
+   */
+  long prefixSum(long[] deltas, int count, long start, long[] values, int offset);
+
+  /** Like {@link #prefixSum(long[], int, long, long[], int)}, wrapping the values to ints */
+  long prefixSum(long[] deltas, int count, long start, int[] values, int offset);
+
+  /**
+   * Sets the bit in the selection for each of the values which compares true against the constant -
+   * leaving the other bits alone.
+   *
+   * @param selection a bitmap of the values, 64 to each word
+   */
+  void select(long[] values, int count, Comparison comparison, long constant, long[] selection);
+
+  /** Like {@link #select(long[], int, Comparison, long, long[])}, for int values */
+  void select(int[] values, int count, Comparison comparison, int constant, long[] selection);
+}
@@ -0,0 +1,24 @@
+package com.markosindustries.parquito.kernels;
+
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+final class KernelsLoader {
+  static final Kernels KERNELS = load();
+
+  private KernelsLoader() {}
+
+  private static Kernels load() {
+    if (Boolean.getBoolean(Kernels.SCALAR_PROPERTY)) {
+      return new ScalarKernels();
+    }
+    try {
+      for (final Kernels kernels : ServiceLoader.load(Kernels.class)) {
+        return kernels;
+      }
+    } catch (ServiceConfigurationError | LinkageError e) {
+      // The implementation found needs something this JVM doesn't have
+    }
+    return new ScalarKernels();
+  }
+}
@@ -0,0 +1,123 @@
+package com.markosindustries.parquito.kernels;
+
+import java.nio.ByteBuffer;
+
+/** Plain loops over primitives - which the JIT may still auto-vectorise, in the simpler cases */
+public class ScalarKernels implements Kernels {
+  @Override
+  public void unpackGroups(
+      final ByteBuffer buffer,
+      final int position,
+      final int bitWidth,
+      final int[] values,
+      final int offset,
+      final int groups) {
+    final var mask = -1L >>> (64 - bitWidth);
+    var groupStart = position;
+    for (int index = offset; index < offset + (groups << 3); index += 8) {
+      if (bitWidth <= 8) {
+        unpack8FromWord(buffer.getLong(groupStart), bitWidth, mask, values, index);
+      } else {
+        unpack8FromWords(buffer, groupStart, bitWidth, mask, values, index);
+      }
+      groupStart += bitWidth;
+    }
+  }
+
+  /** All 8 values lie within the first bitWidth * 8 (at most 64) bits of the word */
+  private static void unpack8FromWord(
+      final long word, final int bitWidth, final long mask, final int[] values, final int offset) {
+    values[offset] = (int) (word & mask);
+    values[offset + 1] = (int) ((word >>> bitWidth) & mask);
+    values[offset + 2] = (int) ((word >>> (bitWidth * 2)) & mask);
+    values[offset + 3] = (int) ((word >>> (bitWidth * 3)) & mask);
+    values[offset + 4] = (int) ((word >>> (bitWidth * 4)) & mask);
+    values[offset + 5] = (int) ((word >>> (bitWidth * 5)) & mask);
+    values[offset + 6] = (int) ((word >>> (bitWidth * 6)) & mask);
+    values[offset + 7] = (int) ((word >>> (bitWidth * 7)) & mask);
+  }
+
+  /**
+   * Reads each value from the word starting at the byte it starts in - it begins at most 7 bits in,
+   * so even a 32-bit value fits in the word
+   */
+  private static void unpack8FromWords(
+      final ByteBuffer buffer,
+      final int groupStart,
+      final int bitWidth,
+      final long mask,
+      final int[] values,
+      final int offset) {
+    values[offset] = (int) (buffer.getLong(groupStart) & mask);
+    values[offset + 1] = unpack(buffer, groupStart, bitWidth, mask);
+    values[offset + 2] = unpack(buffer, groupStart, bitWidth * 2, mask);
+    values[offset + 3] = unpack(buffer, groupStart, bitWidth * 3, mask);
+    values[offset + 4] = unpack(buffer, groupStart, bitWidth * 4, mask);
+    values[offset + 5] = unpack(buffer, groupStart, bitWidth * 5, mask);
+    values[offset + 6] = unpack(buffer, groupStart, bitWidth * 6, mask);
+    values[offset + 7] = unpack(buffer, groupStart, bitWidth * 7, mask);
+  }
+
+  private static int unpack(
+      final ByteBuffer buffer, final int groupStart, final int bitOffset, final long mask) {
+    return (int) ((buffer.getLong(groupStart + (bitOffset >>> 3)) >>> (bitOffset & 7)) & mask);
+  }
+
+  @Override
+  public long prefixSum(
+      final long[] deltas,
+      final int count,
+      final long start,
+      final long[] values,
+      final int offset) {
+    var value = start;
+    for (int delta = 0; delta < count; delta++) {
+      value += deltas[delta];
+      values[offset + delta] = value;
+    }
+    return value;
+  }
+
+  @Override
+  public long prefixSum(
+      final long[] deltas,
+      final int count,
+      final long start,
+      final int[] values,
+      final int offset) {
+    var value = start;
+    for (int delta = 0; delta < count; delta++) {
+      value += deltas[delta];
+      values[offset + delta] = (int) value;
+    }
+    return value;
+  }
+
+  @Override
+  public void select(
+      final long[] values,
+      final int count,
+      final Comparison comparison,
+      final long constant,
+      final long[] selection) {
+    for (int index = 0; index < count; index++) {
+      if (comparison.test(values[index], constant)) {
+        selection[index >>> 6] |= 1L << index;
+      }
+    }
+  }
+
+  @Override
+  public void select(
+      final int[] values,
+      final int count,
+      final Comparison comparison,
+      final int constant,
+      final long[] selection) {
+    for (int index = 0; index < count; index++) {
+      if (comparison.test(values[index], constant)) {
+        selection[index >>> 6] |= 1L << index;
+      }
+    }
+  }
+}
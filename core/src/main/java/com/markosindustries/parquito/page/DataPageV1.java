@@ -3,70 +3,78 @@ package com.markosindustries.parquito.page;
 import com.markosindustries.parquito.ByteBufferInputStream;
 import com.markosindustries.parquito.ColumnChunkReader;
 import com.markosindustries.parquito.CompressionCodecs;
+import com.markosindustries.parquito.ParquetIOException;
 import com.markosindustries.parquito.encoding.Encodings;
 import com.markosindustries.parquito.encoding.IntEncodings;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
-import java.util.Arrays;
 import org.apache.parquet.format.PageHeader;
 
+/**
+ * Holds on to the page's (compressed) bytes, and only decompresses and decodes them when first
+ * asked for - the levels and the values separately, so pages which are skipped cost nothing, and
+ * pages which are only filtered on don't decode the values of rows which are skipped. The levels
+ * precede the values within the compressed data, so decoding the values decodes the levels too. Not
+ * thread safe - a page is read by one thread at a time.
+ */
 public class DataPageV1<ReadAs> implements DataPage<ReadAs> {
-  private final int[] repetitionLevels;
-  private final int[] definitionLevels;
   private final PageHeader pageHeader;
+  private final ColumnChunkReader<ReadAs> columnChunkReader;
   private final int totalValues;
-  private final int nonNullValues;
-  private final Values<ReadAs> values;
+  private ByteBuffer pageBuffer;
+  private Levels repetitionLevels;
+  private Levels definitionLevels;
+  private int nonNullValues;
+  private InputStream valuesStream;
+  private Values<ReadAs> values;
 
   protected DataPageV1(
       final PageHeader pageHeader,
       final ColumnChunkReader<ReadAs> columnChunkReader,
-      final ByteBuffer pageBuffer)
-      throws IOException {
+      final ByteBuffer pageBuffer) {
     this.pageHeader = pageHeader;
+    this.columnChunkReader = columnChunkReader;
+    this.pageBuffer = pageBuffer;
+    this.totalValues = pageHeader.data_page_header.num_values;
+  }
 
-    final var decompressedPageStream =
-        CompressionCodecs.decompress(
-            columnChunkReader.getHeader().meta_data.codec, new ByteBufferInputStream(pageBuffer));
+  private void decodeLevels() {
+    if (definitionLevels != null) {
+      return;
+    }
+    try {
+      final var decompressedPageStream =
+          CompressionCodecs.decompress(
+              columnChunkReader.getHeader().meta_data.codec, new ByteBufferInputStream(pageBuffer));
+      pageBuffer = null;
 
-    this.repetitionLevels =
-        IntEncodings.getDecoder(pageHeader.data_page_header.repetition_level_encoding)
-            .decode(
-                pageHeader.data_page_header.num_values,
-                IntEncodings.bitWidth(
-                    columnChunkReader.getColumnType().schemaNode().getRepetitionLevelMax()),
-                decompressedPageStream);
-    this.definitionLevels =
-        IntEncodings.getDecoder(pageHeader.data_page_header.definition_level_encoding)
-            .decode(
-                pageHeader.data_page_header.num_values,
-                IntEncodings.bitWidth(
-                    columnChunkReader.getColumnType().schemaNode().getDefinitionLevelMax()),
-                decompressedPageStream);
-    this.totalValues = pageHeader.data_page_header.num_values;
-    this.nonNullValues =
-        (int)
-            Arrays.stream(definitionLevels)
-                .filter(
-                    d ->
-                        d == columnChunkReader.getColumnType().schemaNode().getDefinitionLevelMax())
-                .count();
-    this.values =
-        Encodings.<ReadAs>getDecoder(pageHeader.data_page_header.encoding)
-            .decode(
-                nonNullValues,
-                pageHeader.uncompressed_page_size,
-                decompressedPageStream,
-                columnChunkReader);
+      final var schemaNode = columnChunkReader.getColumnType().schemaNode();
+      this.repetitionLevels =
+          IntEncodings.getDecoder(pageHeader.data_page_header.repetition_level_encoding)
+              .decodeLevels(
+                  totalValues, schemaNode.getRepetitionLevelMax(), decompressedPageStream);
+      final var definitionLevels =
+          IntEncodings.getDecoder(pageHeader.data_page_header.definition_level_encoding)
+              .decodeLevels(
+                  totalValues, schemaNode.getDefinitionLevelMax(), decompressedPageStream);
+      this.nonNullValues = definitionLevels.count(schemaNode.getDefinitionLevelMax());
+      this.valuesStream = decompressedPageStream;
+      this.definitionLevels = definitionLevels;
+    } catch (IOException e) {
+      throw new ParquetIOException(e);
+    }
   }
 
   @Override
-  public int[] getRepetitionLevels() {
+  public Levels getRepetitionLevels() {
+    decodeLevels();
     return repetitionLevels;
   }
 
   @Override
-  public int[] getDefinitionLevels() {
+  public Levels getDefinitionLevels() {
+    decodeLevels();
     return definitionLevels;
   }
 
@@ -82,11 +90,27 @@ public class DataPageV1<ReadAs> implements DataPage<ReadAs> {
 
   @Override
   public int getNonNullValues() {
+    decodeLevels();
     return nonNullValues;
   }
 
   @Override
   public Values<ReadAs> getValues() {
+    if (values == null) {
+      decodeLevels();
+      try {
+        values =
+            Encodings.<ReadAs>getDecoder(pageHeader.data_page_header.encoding)
+                .decode(
+                    nonNullValues,
+                    pageHeader.uncompressed_page_size,
+                    valuesStream,
+                    columnChunkReader);
+        valuesStream = null;
+      } catch (IOException e) {
+        throw new ParquetIOException(e);
+      }
+    }
     return values;
   }
 }
@@ -5,72 +5,72 @@ import static com.markosindustries.parquito.encoding.IntEncodings.INT_ENCODING_R
 import com.markosindustries.parquito.ByteBufferInputStream;
 import com.markosindustries.parquito.ColumnChunkReader;
 import com.markosindustries.parquito.CompressionCodecs;
+import com.markosindustries.parquito.ParquetIOException;
 import com.markosindustries.parquito.encoding.Encodings;
-import com.markosindustries.parquito.encoding.IntEncodings;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import org.apache.parquet.format.PageHeader;
 
+/**
+ * Holds on to the page's bytes, and only decodes them when first asked for. The levels are stored
+ * uncompressed ahead of the (possibly compressed) values, so each is decoded independently - pages
+ * which are only filtered on never decompress their values unless a row is matched. Not thread safe
+ * - a page is read by one thread at a time.
+ */
 public class DataPageV2<ReadAs> implements DataPage<ReadAs> {
-  private final int[] repetitionLevels;
-  private final int[] definitionLevels;
   private final PageHeader pageHeader;
+  private final ColumnChunkReader<ReadAs> columnChunkReader;
+  private final ByteBuffer pageBuffer;
   private final int totalValues;
   private final int nonNullValues;
-  private final Values<ReadAs> values;
+  private Levels repetitionLevels;
+  private Levels definitionLevels;
+  private Values<ReadAs> values;
 
   protected DataPageV2(
       final PageHeader pageHeader,
       final ColumnChunkReader<ReadAs> columnChunkReader,
-      final ByteBuffer pageBuffer)
-      throws IOException {
+      final ByteBuffer pageBuffer) {
     this.pageHeader = pageHeader;
-
-    final var pageStream = new ByteBufferInputStream(pageBuffer);
-
-    this.repetitionLevels =
-        INT_ENCODING_RLE_WITHOUT_LENGTH_HEADER.decode(
-            pageHeader.data_page_header_v2.num_values,
-            IntEncodings.bitWidth(
-                columnChunkReader.getColumnType().schemaNode().getRepetitionLevelMax()),
-            pageStream);
-    this.definitionLevels =
-        INT_ENCODING_RLE_WITHOUT_LENGTH_HEADER.decode(
-            pageHeader.data_page_header_v2.num_values,
-            IntEncodings.bitWidth(
-                columnChunkReader.getColumnType().schemaNode().getDefinitionLevelMax()),
-            pageStream);
-
+    this.columnChunkReader = columnChunkReader;
+    this.pageBuffer = pageBuffer;
     this.totalValues = pageHeader.data_page_header_v2.num_values;
     this.nonNullValues =
         pageHeader.data_page_header_v2.num_values - pageHeader.data_page_header_v2.num_nulls;
+  }
 
-    if (nonNullValues == 0) {
-      this.values = Values.empty();
-    } else {
-      final var decompressedPageStream =
-          (pageHeader.data_page_header_v2.isSetIs_compressed()
-                  && !pageHeader.data_page_header_v2.is_compressed)
-              ? pageStream
-              : CompressionCodecs.decompress(
-                  columnChunkReader.getHeader().meta_data.codec, pageStream);
-      this.values =
-          Encodings.<ReadAs>getDecoder(pageHeader.data_page_header_v2.encoding)
-              .decode(
-                  nonNullValues,
-                  pageHeader.uncompressed_page_size,
-                  decompressedPageStream,
-                  columnChunkReader);
+  private Levels decodeLevels(final int offset, final int length, final int levelMax) {
+    try {
+      return INT_ENCODING_RLE_WITHOUT_LENGTH_HEADER.decodeLevels(
+          totalValues,
+          levelMax,
+          new ByteBufferInputStream(pageBuffer.slice(pageBuffer.position() + offset, length)));
+    } catch (IOException e) {
+      throw new ParquetIOException(e);
     }
   }
 
   @Override
-  public int[] getRepetitionLevels() {
+  public Levels getRepetitionLevels() {
+    if (repetitionLevels == null) {
+      repetitionLevels =
+          decodeLevels(
+              0,
+              pageHeader.data_page_header_v2.repetition_levels_byte_length,
+              columnChunkReader.getColumnType().schemaNode().getRepetitionLevelMax());
+    }
     return repetitionLevels;
   }
 
   @Override
-  public int[] getDefinitionLevels() {
+  public Levels getDefinitionLevels() {
+    if (definitionLevels == null) {
+      definitionLevels =
+          decodeLevels(
+              pageHeader.data_page_header_v2.repetition_levels_byte_length,
+              pageHeader.data_page_header_v2.definition_levels_byte_length,
+              columnChunkReader.getColumnType().schemaNode().getDefinitionLevelMax());
+    }
     return definitionLevels;
   }
 
@@ -91,6 +91,35 @@ public class DataPageV2<ReadAs> implements DataPage<ReadAs> {
 
   @Override
   public Values<ReadAs> getValues() {
+    if (values == null) {
+      values = nonNullValues == 0 ? Values.empty() : decodeValues();
+    }
     return values;
   }
+
+  private Values<ReadAs> decodeValues() {
+    final var levelsBytes =
+        pageHeader.data_page_header_v2.repetition_levels_byte_length
+            + pageHeader.data_page_header_v2.definition_levels_byte_length;
+    final var valuesStream =
+        new ByteBufferInputStream(
+            pageBuffer.slice(
+                pageBuffer.position() + levelsBytes, pageBuffer.remaining() - levelsBytes));
+    try {
+      final var decompressedValuesStream =
+          (pageHeader.data_page_header_v2.isSetIs_compressed()
+                  && !pageHeader.data_page_header_v2.is_compressed)
+              ? valuesStream
+              : CompressionCodecs.decompress(
+                  columnChunkReader.getHeader().meta_data.codec, valuesStream);
+      return Encodings.<ReadAs>getDecoder(pageHeader.data_page_header_v2.encoding)
+          .decode(
+              nonNullValues,
+              pageHeader.uncompressed_page_size,
+              decompressedValuesStream,
+              columnChunkReader);
+    } catch (IOException e) {
+      throw new ParquetIOException(e);
+    }
+  }
 }
@@ -3,15 +3,36 @@ package com.markosindustries.parquito.page;
 import com.markosindustries.parquito.ByteBufferInputStream;
 import com.markosindustries.parquito.ColumnChunkReader;
 import com.markosindustries.parquito.CompressionCodecs;
+import com.markosindustries.parquito.ValueSet;
 import com.markosindustries.parquito.encoding.Encodings;
+import com.markosindustries.parquito.types.ColumnType;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
 import org.apache.parquet.format.Encoding;
 import org.apache.parquet.format.PageHeader;
 
 public class DictionaryPage<ReadAs> implements ParquetPage<ReadAs> {
   private final PageHeader pageHeader;
+  private final ColumnType<ReadAs> columnType;
   private final Values<ReadAs> values;
+  private volatile Index index;
+
+  /**
+   * Built the first time it's needed, then retained for as long as the page is (which may be across
+   * many readers, via the {@link com.markosindustries.parquito.DictionaryPageCache}).
+   *
+   * @param dictionaryIds from each value to its index in the dictionary
+   * @param sortedDictionaryIds the dictionary's indices, ordered by their values in the column's
+   *     sort order
+   */
+  private record Index(Map<Object, Integer> dictionaryIds, int[] sortedDictionaryIds) {}
 
   public DictionaryPage(
       final PageHeader pageHeader,
@@ -19,6 +40,7 @@ public class DictionaryPage<ReadAs> implements ParquetPage<ReadAs> {
       final ByteBuffer pageBuffer)
       throws IOException {
     this.pageHeader = pageHeader;
+    this.columnType = columnChunkReader.getColumnType();
 
     final var decompressedPageStream =
         CompressionCodecs.decompress(
@@ -52,4 +74,98 @@ public class DictionaryPage<ReadAs> implements ParquetPage<ReadAs> {
   public Values<ReadAs> getValues() {
     return values;
   }
+
+  public ColumnType<ReadAs> getColumnType() {
+    return columnType;
+  }
+
+  /**
+   * @return the value's index in the dictionary, or -1 if it's not in the dictionary
+   */
+  public int indexOf(final ReadAs value) {
+    final var dictionaryId = index().dictionaryIds().get(value);
+    return dictionaryId == null ? -1 : dictionaryId;
+  }
+
+  public boolean contains(final ReadAs value) {
+    return index().dictionaryIds().containsKey(value);
+  }
+
+  /**
+   * @return true if any of the values are in the dictionary - probing whichever of the two is
+   *     larger with the values of the smaller one
+   */
+  public boolean containsAny(final ValueSet<ReadAs> values) {
+    if (values.size() < getTotalValues()) {
+      return values.anyMatch(this::contains);
+    }
+    for (int dictionaryId = 0; dictionaryId < getTotalValues(); dictionaryId++) {
+      if (values.contains(this.values.get(dictionaryId))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @SuppressWarnings("unchecked")
+  public Set<ReadAs> valueSet() {
+    return (Set<ReadAs>) (Set<?>) Collections.unmodifiableSet(index().dictionaryIds().keySet());
+  }
+
+  /**
+   * Binary searches the dictionary's values in the column's sort order.
+   *
+   * @param compareToBound compares a value to the bound being searched for
+   * @param orEqual whether to find the first value equal to the bound, rather than the first
+   *     greater
+   * @return the position (in sort order) of the first value greater than (or equal to) the bound
+   */
+  public int firstSortedPosition(
+      final ToIntFunction<ReadAs> compareToBound, final boolean orEqual) {
+    final var sortedDictionaryIds = index().sortedDictionaryIds();
+    var low = 0;
+    var high = sortedDictionaryIds.length;
+    while (low < high) {
+      final var mid = (low + high) >>> 1;
+      final var comparison = compareToBound.applyAsInt(values.get(sortedDictionaryIds[mid]));
+      if (orEqual ? comparison < 0 : comparison <= 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * @return the dictionary indices of the values between the positions in sort order
+   */
+  public BitSet dictionaryIdsInSortedPositions(final int fromPosition, final int toPosition) {
+    final var sortedDictionaryIds = index().sortedDictionaryIds();
+    final var dictionaryIds = new BitSet(getTotalValues());
+    for (int position = fromPosition; position < toPosition; position++) {
+      dictionaryIds.set(sortedDictionaryIds[position]);
+    }
+    return dictionaryIds;
+  }
+
+  private Index index() {
+    var index = this.index;
+    if (index == null) {
+      // Building the index twice in a race is harmless, and cheaper than synchronizing every probe
+      final var dictionaryIds = new HashMap<Object, Integer>(getTotalValues() * 2);
+      for (int dictionaryId = 0; dictionaryId < getTotalValues(); dictionaryId++) {
+        dictionaryIds.putIfAbsent(values.get(dictionaryId), dictionaryId);
+      }
+      final var sortedDictionaryIds =
+          IntStream.range(0, getTotalValues())
+              .boxed()
+              .sorted((left, right) -> columnType.compare(values.get(left), values.get(right)))
+              .mapToInt(Integer::intValue)
+              .toArray();
+      index = new Index(dictionaryIds, sortedDictionaryIds);
+      this.index = index;
+    }
+    return index;
+  }
 }
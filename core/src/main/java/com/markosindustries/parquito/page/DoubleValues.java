@@ -0,0 +1,10 @@
+package com.markosindustries.parquito.page;
+
+/** {@link Values} backed by primitive doubles, which can be read without boxing. */
+public interface DoubleValues<ReadAs> extends Values<ReadAs> {
+  /**
+   * @param index which value to read
+   * @return the physical value, before it's converted to {@code ReadAs}
+   */
+  double getDouble(int index);
+}
@@ -0,0 +1,377 @@
+package com.markosindustries.parquito.page;
+
+import java.util.Arrays;
+
+/**
+ * A page's repetition or definition levels, held as compactly as their runs allow - a page whose
+ * levels are all the same (such as one without any nulls) costs the same regardless of its size.
+ * Levels with few runs are held as those runs, levels which are only ever 0 or 1 as a bitmap, and
+ * anything else as a plain array.
+ */
+public abstract class Levels {
+  private final int size;
+
+  private Levels(final int size) {
+    this.size = size;
+  }
+
+  public static Levels constant(final int size, final int level) {
+    return new Constant(size, level);
+  }
+
+  public static Levels of(final int[] levels) {
+    return new Array(levels);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public abstract int get(final int index);
+
+  /**
+   * @return the index after the end of the run of equal levels which {@code index} is part of - so
+   *     every level in {@code [index, runEnd(index))} is {@code get(index)}
+   */
+  public abstract int runEnd(final int index);
+
+  /**
+   * @return how many of the levels in {@code [from, to)} are the given level
+   */
+  public abstract int count(final int level, final int from, final int to);
+
+  public int count(final int level) {
+    return count(level, 0, size);
+  }
+
+  /**
+   * For repetition levels, where each row starts with a level of 0 - skips over the levels of the
+   * given number of rows, starting from {@code from}.
+   *
+   * @return the index of the level starting the row after them - or {@link #size()}, if the levels
+   *     end first (in which case the last row may continue into the next page's levels)
+   */
+  public int rowsEnd(final int from, final int rows) {
+    if (count(0, from, size) <= rows) {
+      return size;
+    }
+    var index = from;
+    var rowStarts = 0;
+    while (true) {
+      final var runEnd = runEnd(index);
+      if (get(index) == 0) {
+        if (rowStarts == rows) {
+          return index;
+        }
+        final var runRowStarts = Math.min(runEnd - index, rows - rowStarts);
+        rowStarts += runRowStarts;
+        index += runRowStarts;
+      } else {
+        index = runEnd;
+      }
+    }
+  }
+
+  public int[] toArray() {
+    final var levels = new int[size];
+    for (int index = 0; index < size; ) {
+      final var runEnd = runEnd(index);
+      Arrays.fill(levels, index, runEnd, get(index));
+      index = runEnd;
+    }
+    return levels;
+  }
+
+  /**
+   * Collects levels a run at a time, holding them as runs until there are too many for that to be
+   * worthwhile
+   */
+  public static final class Builder {
+    private final int size;
+    private final boolean binary;
+    private final int maxRuns;
+    private int[] runEnds = new int[4];
+    private int[] runLevels = new int[4];
+    private int runs = 0;
+    private int length = 0;
+    private int[] array = null;
+    private long[] bits = null;
+
+    /**
+     * @param size how many levels there will be
+     * @param maxLevel the highest level there can be
+     */
+    public Builder(final int size, final int maxLevel) {
+      this.size = size;
+      this.binary = maxLevel <= 1;
+      // Each run costs two ints, so beyond this an array (or bitmap) is both smaller and quicker
+      this.maxRuns = Math.max(1, size >>> 3);
+    }
+
+    public Builder addRun(final int level, final int count) {
+      if (count <= 0) {
+        return this;
+      }
+      if (bits != null) {
+        if (level != 0) {
+          setBits(length, length + count);
+        }
+      } else if (array != null) {
+        Arrays.fill(array, length, length + count, level);
+      } else if (runs > 0 && runLevels[runs - 1] == level) {
+        runEnds[runs - 1] += count;
+      } else if (runs == maxRuns) {
+        expand();
+        return addRun(level, count);
+      } else {
+        if (runs == runEnds.length) {
+          runEnds = Arrays.copyOf(runEnds, runs * 2);
+          runLevels = Arrays.copyOf(runLevels, runs * 2);
+        }
+        runEnds[runs] = length + count;
+        runLevels[runs] = level;
+        runs++;
+      }
+      length += count;
+      return this;
+    }
+
+    public Builder add(final int[] levels, final int from, final int count) {
+      if (array != null) {
+        System.arraycopy(levels, from, array, length, count);
+        length += count;
+        return this;
+      }
+      for (int index = from; index < from + count; ) {
+        var runEnd = index + 1;
+        while (runEnd < from + count && levels[runEnd] == levels[index]) {
+          runEnd++;
+        }
+        addRun(levels[index], runEnd - index);
+        index = runEnd;
+      }
+      return this;
+    }
+
+    private void expand() {
+      if (binary) {
+        bits = new long[(size + 63) >>> 6];
+      } else {
+        array = new int[size];
+      }
+      var runStart = 0;
+      length = 0;
+      for (int run = 0; run < runs; run++) {
+        addRun(runLevels[run], runEnds[run] - runStart);
+        runStart = runEnds[run];
+      }
+      runEnds = null;
+      runLevels = null;
+    }
+
+    private void setBits(final int from, final int to) {
+      final var firstWord = from >>> 6;
+      final var lastWord = (to - 1) >>> 6;
+      if (firstWord == lastWord) {
+        bits[firstWord] |= (-1L << from) & (-1L >>> -to);
+        return;
+      }
+      bits[firstWord] |= -1L << from;
+      Arrays.fill(bits, firstWord + 1, lastWord, -1L);
+      bits[lastWord] |= -1L >>> -to;
+    }
+
+    public Levels build() {
+      if (length != size) {
+        throw new IllegalStateException("Expected " + size + " levels but found " + length);
+      }
+      if (bits != null) {
+        return new Bits(size, bits);
+      }
+      if (array != null) {
+        return new Array(array);
+      }
+      if (runs <= 1) {
+        return new Constant(size, runs == 0 ? 0 : runLevels[0]);
+      }
+      return new Runs(Arrays.copyOf(runEnds, runs), Arrays.copyOf(runLevels, runs));
+    }
+  }
+
+  private static final class Constant extends Levels {
+    private final int level;
+
+    private Constant(final int size, final int level) {
+      super(size);
+      this.level = level;
+    }
+
+    @Override
+    public int get(final int index) {
+      return level;
+    }
+
+    @Override
+    public int runEnd(final int index) {
+      return size();
+    }
+
+    @Override
+    public int count(final int level, final int from, final int to) {
+      return level == this.level ? to - from : 0;
+    }
+  }
+
+  private static final class Runs extends Levels {
+    /** Exclusive, so each run starts where the previous one ends */
+    private final int[] runEnds;
+
+    private final int[] runLevels;
+
+    // The run last looked up - levels are almost always read in order, one at a time, so the next
+    // is usually in the same run or the one after it, and needn't be searched for. It's only ever
+    // used once checked, so it doesn't matter which thread last set it.
+    private int lastRun = 0;
+
+    private Runs(final int[] runEnds, final int[] runLevels) {
+      super(runEnds[runEnds.length - 1]);
+      this.runEnds = runEnds;
+      this.runLevels = runLevels;
+    }
+
+    private int runContaining(final int index) {
+      final var run = lastRun;
+      if (index < runEnds[run]) {
+        if (run == 0 || index >= runEnds[run - 1]) {
+          return run;
+        }
+      } else if (run + 1 < runEnds.length && index < runEnds[run + 1]) {
+        lastRun = run + 1;
+        return run + 1;
+      }
+      var low = 0;
+      var high = runEnds.length - 1;
+      while (low < high) {
+        final var mid = (low + high) >>> 1;
+        if (runEnds[mid] <= index) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      lastRun = low;
+      return low;
+    }
+
+    @Override
+    public int get(final int index) {
+      return runLevels[runContaining(index)];
+    }
+
+    @Override
+    public int runEnd(final int index) {
+      return runEnds[runContaining(index)];
+    }
+
+    @Override
+    public int count(final int level, final int from, final int to) {
+      var count = 0;
+      for (int run = runContaining(from), runStart = from;
+          run < runEnds.length && runStart < to;
+          runStart = runEnds[run++]) {
+        if (runLevels[run] == level) {
+          count += Math.min(runEnds[run], to) - runStart;
+        }
+      }
+      return count;
+    }
+  }
+
+  private static final class Bits extends Levels {
+    private final long[] words;
+
+    private Bits(final int size, final long[] words) {
+      super(size);
+      this.words = words;
+    }
+
+    @Override
+    public int get(final int index) {
+      return (int) (words[index >>> 6] >>> index) & 1;
+    }
+
+    @Override
+    public int runEnd(final int index) {
+      // Look for the next bit which differs from this one
+      final var flip = get(index) == 0 ? 0L : -1L;
+      var wordIndex = index >>> 6;
+      var word = (words[wordIndex] ^ flip) & (-1L << index);
+      while (word == 0) {
+        if (++wordIndex == words.length) {
+          return size();
+        }
+        word = words[wordIndex] ^ flip;
+      }
+      return Math.min(size(), (wordIndex << 6) + Long.numberOfTrailingZeros(word));
+    }
+
+    @Override
+    public int count(final int level, final int from, final int to) {
+      if (level > 1 || from >= to) {
+        return 0;
+      }
+      final var firstWord = from >>> 6;
+      final var lastWord = (to - 1) >>> 6;
+      int ones;
+      if (firstWord == lastWord) {
+        ones = Long.bitCount(words[firstWord] & (-1L << from) & (-1L >>> -to));
+      } else {
+        ones = Long.bitCount(words[firstWord] & (-1L << from));
+        for (int wordIndex = firstWord + 1; wordIndex < lastWord; wordIndex++) {
+          ones += Long.bitCount(words[wordIndex]);
+        }
+        ones += Long.bitCount(words[lastWord] & (-1L >>> -to));
+      }
+      return level == 1 ? ones : (to - from) - ones;
+    }
+  }
+
+  private static final class Array extends Levels {
+    private final int[] levels;
+
+    private Array(final int[] levels) {
+      super(levels.length);
+      this.levels = levels;
+    }
+
+    @Override
+    public int get(final int index) {
+      return levels[index];
+    }
+
+    @Override
+    public int runEnd(final int index) {
+      var runEnd = index + 1;
+      while (runEnd < levels.length && levels[runEnd] == levels[index]) {
+        runEnd++;
+      }
+      return runEnd;
+    }
+
+    @Override
+    public int count(final int level, final int from, final int to) {
+      var count = 0;
+      for (int index = from; index < to; index++) {
+        if (levels[index] == level) {
+          count++;
+        }
+      }
+      return count;
+    }
+
+    @Override
+    public int[] toArray() {
+      return levels.clone();
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package com.markosindustries.parquito.page;
+
+/** {@link Values} backed by primitive longs, which can be read without boxing. */
+public interface LongValues<ReadAs> extends Values<ReadAs> {
+  /**
+   * @param index which value to read
+   * @return the physical value, before it's converted to {@code ReadAs}
+   */
+  long getLong(int index);
+}
@@ -0,0 +1,66 @@
+package com.markosindustries.parquito.page;
+
+import org.apache.parquet.format.PageHeader;
+
+/**
+ * Stands in for a data page which wasn't read because none of its rows were selected. It has no
+ * levels or values - only a count of its rows, so that iterators can skip over them and stay
+ * aligned with other columns. Rows are only ever matched or decoded from within the selected rows,
+ * so nothing more is asked of it; anything which does ask fails, rather than reading made up rows.
+ */
+public class SkippedDataPage<ReadAs> implements DataPage<ReadAs> {
+  private final int rows;
+
+  public SkippedDataPage(final int rows) {
+    this.rows = rows;
+  }
+
+  @Override
+  public Levels getRepetitionLevels() {
+    throw notRead();
+  }
+
+  @Override
+  public Levels getDefinitionLevels() {
+    throw notRead();
+  }
+
+  /**
+   * @return null, since we never read the page's header
+   */
+  @Override
+  public PageHeader getPageHeader() {
+    return null;
+  }
+
+  /**
+   * @return how many rows the page held - since without its levels, that's all there is to count
+   */
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Unknown, since it's the count of the page's levels - which needn't be one per row, for columns
+   * below a repeated field. Use {@link #getRows()} instead.
+   */
+  @Override
+  public int getTotalValues() {
+    throw notRead();
+  }
+
+  @Override
+  public int getNonNullValues() {
+    throw notRead();
+  }
+
+  @Override
+  public Values<ReadAs> getValues() {
+    throw notRead();
+  }
+
+  private static IllegalStateException notRead() {
+    return new IllegalStateException(
+        "None of the page's rows were selected, so it wasn't read - its rows can only be skipped");
+  }
+}
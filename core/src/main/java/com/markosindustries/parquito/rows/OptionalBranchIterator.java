@@ -10,6 +10,10 @@ public class OptionalBranchIterator<Branch> implements ParquetFieldIterator<Bran
   private final ParquetSchemaNode schemaNode;
   private final RowReadSpec<?, Branch, ?> rowReadSpec;
   private boolean hasNext;
+
+  // The next row's levels are only worked out from the children's when they're needed - as rows
+  // which are only skipped might not have any
+  private boolean levelsKnown = false;
   private int definitionLevel;
   private int repetitionLevel;
 
@@ -20,33 +24,36 @@ public class OptionalBranchIterator<Branch> implements ParquetFieldIterator<Bran
     this.childIterators = childIterators;
     this.schemaNode = schemaNode;
     this.hasNext = childIterators.values().stream().anyMatch(Iterator::hasNext);
-    this.definitionLevel =
-        hasNext
-            ? childIterators.values().stream()
-                .mapToInt(ParquetFieldIterator::peekDefinitionLevel)
-                .max()
-                .orElseThrow()
-            : 0;
-    this.repetitionLevel =
-        hasNext
-            ? childIterators.values().stream()
-                .mapToInt(ParquetFieldIterator::peekRepetitionLevel)
-                .max()
-                .orElseThrow()
-            : 0;
     this.rowReadSpec = rowReadSpec;
   }
 
   @Override
   public int peekDefinitionLevel() {
+    knowLevels();
     return definitionLevel;
   }
 
   @Override
   public int peekRepetitionLevel() {
+    knowLevels();
     return repetitionLevel;
   }
 
+  private void knowLevels() {
+    if (levelsKnown) {
+      return;
+    }
+    definitionLevel = 0;
+    repetitionLevel = 0;
+    for (final var iterator : childIterators.values()) {
+      if (iterator.hasNext()) {
+        definitionLevel = Math.max(definitionLevel, iterator.peekDefinitionLevel());
+        repetitionLevel = Math.max(repetitionLevel, iterator.peekRepetitionLevel());
+      }
+    }
+    levelsKnown = true;
+  }
+
   @Override
   public boolean hasNext() {
     return hasNext;
@@ -63,32 +70,39 @@ public class OptionalBranchIterator<Branch> implements ParquetFieldIterator<Bran
   public void skipNextRow() {
     for (final var iterator : childIterators.values()) {
       iterator.skipNextRow();
+    }
+    rowConsumed();
+  }
+
+  @Override
+  public void skipRows(final int rows) {
+    for (final var iterator : childIterators.values()) {
+      iterator.skipRows(rows);
+    }
+    rowConsumed();
+  }
+
+  private void rowConsumed() {
+    for (final var iterator : childIterators.values()) {
       if (!iterator.hasNext()) {
         hasNext = false;
       }
     }
+    levelsKnown = false;
   }
 
   @Override
   public Branch next() {
-    boolean isNull = definitionLevel < schemaNode.getDefinitionLevelMax();
+    boolean isNull = peekDefinitionLevel() < schemaNode.getDefinitionLevelMax();
     final var result = isNull ? null : rowReadSpec.reader().branchBuilder();
-    definitionLevel = 0;
-    repetitionLevel = 0;
     for (final var entry : childIterators.entrySet()) {
       final var child = entry.getKey();
-      final var iterator = entry.getValue();
-      final var next = iterator.next();
+      final var next = entry.getValue().next();
       if (!isNull) {
         result.put(child, next);
       }
-      if (!iterator.hasNext()) {
-        hasNext = false;
-      } else {
-        definitionLevel = Math.max(definitionLevel, iterator.peekDefinitionLevel());
-        repetitionLevel = Math.max(repetitionLevel, iterator.peekRepetitionLevel());
-      }
     }
+    rowConsumed();
     return result == null ? null : result.build();
   }
 }
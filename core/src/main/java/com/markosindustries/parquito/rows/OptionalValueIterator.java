@@ -5,6 +5,7 @@ import com.markosindustries.parquito.ParquetSchemaNode;
 import com.markosindustries.parquito.RowReadSpec;
 import com.markosindustries.parquito.page.DataPage;
 import com.markosindustries.parquito.page.PredicateMatcher;
+import com.markosindustries.parquito.page.SkippedDataPage;
 import java.util.Iterator;
 
 public class OptionalValueIterator<ReadAs, Value> implements ParquetFieldIterator<ReadAs> {
@@ -13,9 +14,19 @@ public class OptionalValueIterator<ReadAs, Value> implements ParquetFieldIterato
   private final ParquetPredicate<ReadAs> predicate;
   private DataPage<ReadAs> dataPage = null;
   private PredicateMatcher dataPageMatcher = null;
+  // Whether the page wasn't read, as none of its rows were selected - so its rows can only be
+  // skipped, and are counted by definitionIndex in place of its levels
+  private boolean dataPageSkipped = false;
+  // Where definitionIndex reaches at the end of the page - its levels, or its rows if it was
+  // skipped
+  private int dataPageEnd = 0;
   private int valueIndex = 0;
   private int definitionIndex = 0;
 
+  // The run of equal definition levels we're in, so we needn't look at each level in turn
+  private int definitionRunEnd = 0;
+  private boolean definitionRunIsDefined = false;
+
   public OptionalValueIterator(
       Iterator<DataPage<ReadAs>> dataPageIterator,
       ParquetSchemaNode schemaNode,
@@ -28,12 +39,12 @@ public class OptionalValueIterator<ReadAs, Value> implements ParquetFieldIterato
 
   @Override
   public int peekDefinitionLevel() {
-    return dataPage.getDefinitionLevels()[definitionIndex];
+    return dataPage.getDefinitionLevels().get(definitionIndex);
   }
 
   @Override
   public int peekRepetitionLevel() {
-    return dataPage.getRepetitionLevels()[definitionIndex];
+    return dataPage.getRepetitionLevels().get(definitionIndex);
   }
 
   @Override
@@ -42,21 +53,46 @@ public class OptionalValueIterator<ReadAs, Value> implements ParquetFieldIterato
   }
 
   private void advancePageIfNecessary() {
-    if (dataPage == null || definitionIndex == dataPage.getDefinitionLevels().length) {
+    if (dataPage == null || definitionIndex == dataPageEnd) {
+      // The matcher is created on demand, so pages which are skipped entirely aren't matched
+      dataPageMatcher = null;
       if (dataPageIterator.hasNext()) {
         dataPage = dataPageIterator.next();
-        dataPageMatcher = dataPage.getValues().matcher(predicate);
       } else {
         dataPage = null;
       }
+      dataPageSkipped = dataPage instanceof SkippedDataPage;
+      dataPageEnd = pageEnd(dataPage);
       definitionIndex = 0;
       valueIndex = 0;
+      definitionRunEnd = 0;
+    }
+  }
+
+  /** How many levels the page has - or for a skipped page, how many rows, as it has no levels */
+  static int pageEnd(final DataPage<?> dataPage) {
+    if (dataPage instanceof SkippedDataPage<?> skippedDataPage) {
+      return skippedDataPage.getRows();
+    }
+    return dataPage == null ? 0 : dataPage.getTotalValues();
+  }
+
+  private boolean nextIsDefined() {
+    if (definitionIndex >= definitionRunEnd) {
+      final var definitionLevels = dataPage.getDefinitionLevels();
+      definitionRunEnd = definitionLevels.runEnd(definitionIndex);
+      definitionRunIsDefined =
+          definitionLevels.get(definitionIndex) == schemaNode.getDefinitionLevelMax();
     }
+    return definitionRunIsDefined;
   }
 
   @Override
   public boolean nextRowMatches() {
-    if (dataPage.getDefinitionLevels()[definitionIndex] == schemaNode.getDefinitionLevelMax()) {
+    if (nextIsDefined()) {
+      if (dataPageMatcher == null) {
+        dataPageMatcher = dataPage.getValues().matcher(predicate);
+      }
       return dataPageMatcher.matches(valueIndex);
     }
     // TODO - a way to match nulls?
@@ -65,18 +101,86 @@ public class OptionalValueIterator<ReadAs, Value> implements ParquetFieldIterato
 
   @Override
   public void skipNextRow() {
-    if (dataPage.getDefinitionLevels()[definitionIndex++] == schemaNode.getDefinitionLevelMax()) {
+    if (schemaNode.getRepetitionLevelMax() > 0) {
+      // Below a repeated field, a row can have any number of levels
+      skipRepeatedRows(1);
+      return;
+    }
+    if (!dataPageSkipped && nextIsDefined()) {
       valueIndex++;
     }
+    definitionIndex++;
     advancePageIfNecessary();
   }
 
+  @Override
+  public void skipRows(final int rows) {
+    if (schemaNode.getRepetitionLevelMax() > 0) {
+      skipRepeatedRows(rows);
+      return;
+    }
+    var remainingRows = rows;
+    while (remainingRows > 0 && dataPage != null) {
+      final var pageRows = dataPageEnd - definitionIndex;
+      if (definitionIndex == 0 && remainingRows >= pageRows) {
+        // The whole page, without looking at its levels or values
+        definitionIndex = pageRows;
+        remainingRows -= pageRows;
+      } else {
+        final var rowsToSkip = Math.min(remainingRows, pageRows);
+        if (!dataPageSkipped) {
+          valueIndex +=
+              dataPage
+                  .getDefinitionLevels()
+                  .count(
+                      schemaNode.getDefinitionLevelMax(),
+                      definitionIndex,
+                      definitionIndex + rowsToSkip);
+        }
+        definitionIndex += rowsToSkip;
+        remainingRows -= rowsToSkip;
+      }
+      advancePageIfNecessary();
+    }
+  }
+
+  /**
+   * Skips levels until the given number of rows have started (with a repetition level of 0) and
+   * ended - which may be on a later page, as rows can continue from one page to the next
+   */
+  private void skipRepeatedRows(final int rows) {
+    var remainingRows = rows;
+    while (dataPage != null) {
+      if (dataPageSkipped) {
+        // Skipped pages were found by the offset index, so they always start a row
+        if (remainingRows == 0) {
+          return;
+        }
+        final var rowsToSkip = Math.min(remainingRows, dataPageEnd - definitionIndex);
+        definitionIndex += rowsToSkip;
+        remainingRows -= rowsToSkip;
+      } else {
+        final var repetitionLevels = dataPage.getRepetitionLevels();
+        final var rowsEnd = repetitionLevels.rowsEnd(definitionIndex, remainingRows);
+        valueIndex +=
+            dataPage
+                .getDefinitionLevels()
+                .count(schemaNode.getDefinitionLevelMax(), definitionIndex, rowsEnd);
+        if (rowsEnd < dataPageEnd) {
+          definitionIndex = rowsEnd;
+          return;
+        }
+        remainingRows -= repetitionLevels.count(0, definitionIndex, rowsEnd);
+        definitionIndex = rowsEnd;
+      }
+      advancePageIfNecessary();
+    }
+  }
+
   @Override
   public ReadAs next() {
-    final var result =
-        dataPage.getDefinitionLevels()[definitionIndex++] == schemaNode.getDefinitionLevelMax()
-            ? dataPage.getValues().get(valueIndex++)
-            : null;
+    final var result = nextIsDefined() ? dataPage.getValues().get(valueIndex++) : null;
+    definitionIndex++;
 
     advancePageIfNecessary();
 
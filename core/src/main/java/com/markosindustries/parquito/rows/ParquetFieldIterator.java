@@ -10,4 +10,14 @@ public interface ParquetFieldIterator<T> extends Iterator<T> {
   boolean nextRowMatches();
 
   void skipNextRow();
+
+  /**
+   * Skips a run of rows (or fewer, if the iterator runs out first). Implementations should override
+   * this to jump over the run without going row by row, where they can.
+   */
+  default void skipRows(final int rows) {
+    for (int row = 0; row < rows && hasNext(); row++) {
+      skipNextRow();
+    }
+  }
 }
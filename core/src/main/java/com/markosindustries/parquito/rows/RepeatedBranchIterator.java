@@ -39,11 +39,20 @@ public class RepeatedBranchIterator<Repeated, Value> implements ParquetFieldIter
     return optionalBranchIterator.nextRowMatches();
   }
 
+  /**
+   * Skips every element of the row - as the leaves below skip however many levels their rows have,
+   * rather than one element's
+   */
   @Override
   public void skipNextRow() {
     optionalBranchIterator.skipNextRow();
   }
 
+  @Override
+  public void skipRows(final int rows) {
+    optionalBranchIterator.skipRows(rows);
+  }
+
   @Override
   public Repeated next() {
     final var values = rowReadSpec.reader().repeatedBuilder();
@@ -6,6 +6,7 @@ import com.markosindustries.parquito.Reader;
 import com.markosindustries.parquito.RowReadSpec;
 import com.markosindustries.parquito.page.DataPage;
 import com.markosindustries.parquito.page.PredicateMatcher;
+import com.markosindustries.parquito.page.SkippedDataPage;
 import java.util.Iterator;
 
 public class RepeatedValueIterator<ReadAs, Repeated, Value>
@@ -16,6 +17,12 @@ public class RepeatedValueIterator<ReadAs, Repeated, Value>
   private final ParquetPredicate<ReadAs> predicate;
   private DataPage<ReadAs> dataPage = null;
   private PredicateMatcher dataPageMatcher = null;
+  // Whether the page wasn't read, as none of its rows were selected - so its rows can only be
+  // skipped, and are counted by definitionIndex in place of its levels
+  private boolean dataPageSkipped = false;
+  // Where definitionIndex reaches at the end of the page - its levels, or its rows if it was
+  // skipped
+  private int dataPageEnd = 0;
   private int valueIndex = 0;
   private int definitionIndex = 0;
 
@@ -32,12 +39,12 @@ public class RepeatedValueIterator<ReadAs, Repeated, Value>
 
   @Override
   public int peekDefinitionLevel() {
-    return dataPage.getDefinitionLevels()[definitionIndex];
+    return dataPage.getDefinitionLevels().get(definitionIndex);
   }
 
   @Override
   public int peekRepetitionLevel() {
-    return dataPage.getRepetitionLevels()[definitionIndex];
+    return dataPage.getRepetitionLevels().get(definitionIndex);
   }
 
   @Override
@@ -46,13 +53,16 @@ public class RepeatedValueIterator<ReadAs, Repeated, Value>
   }
 
   private void advancePageIfNecessary() {
-    if (dataPage == null || definitionIndex == dataPage.getDefinitionLevels().length) {
+    if (dataPage == null || definitionIndex == dataPageEnd) {
+      // The matcher is created on demand, so pages which are skipped entirely aren't matched
+      dataPageMatcher = null;
       if (dataPageIterator.hasNext()) {
         dataPage = dataPageIterator.next();
-        dataPageMatcher = dataPage.getValues().matcher(predicate);
       } else {
         dataPage = null;
       }
+      dataPageSkipped = dataPage instanceof SkippedDataPage;
+      dataPageEnd = OptionalValueIterator.pageEnd(dataPage);
       definitionIndex = 0;
       valueIndex = 0;
     }
@@ -60,43 +70,75 @@ public class RepeatedValueIterator<ReadAs, Repeated, Value>
 
   @Override
   public boolean nextRowMatches() {
+    if (dataPageMatcher == null) {
+      dataPageMatcher = dataPage.getValues().matcher(predicate);
+    }
     int dIndex = definitionIndex, vIndex = valueIndex;
     do {
-      if (dataPage.getDefinitionLevels()[dIndex] == schemaNode.getDefinitionLevelMax()) {
+      if (dataPage.getDefinitionLevels().get(dIndex) == schemaNode.getDefinitionLevelMax()) {
         if (dataPageMatcher.matches(vIndex++)) {
           return true;
         }
       }
       dIndex++;
-    } while (dIndex < dataPage.getDefinitionLevels().length
-        && dataPage.getRepetitionLevels()[dIndex] != 0);
+    } while (dIndex < dataPage.getDefinitionLevels().size()
+        && dataPage.getRepetitionLevels().get(dIndex) != 0);
 
     return false;
   }
 
   @Override
   public void skipNextRow() {
-    do {
-      if (dataPage.getDefinitionLevels()[definitionIndex] == schemaNode.getDefinitionLevelMax()) {
-        valueIndex++;
+    skipRows(1);
+  }
+
+  /**
+   * Skips levels until the given number of rows have started (with a repetition level of 0) and
+   * ended - which may be on a later page, as rows can continue from one page to the next
+   */
+  @Override
+  public void skipRows(final int rows) {
+    var remainingRows = rows;
+    while (dataPage != null) {
+      if (dataPageSkipped) {
+        // Skipped pages were found by the offset index, so they always start a row
+        if (remainingRows == 0) {
+          return;
+        }
+        final var rowsToSkip = Math.min(remainingRows, dataPageEnd - definitionIndex);
+        definitionIndex += rowsToSkip;
+        remainingRows -= rowsToSkip;
+      } else {
+        final var repetitionLevels = dataPage.getRepetitionLevels();
+        final var rowsEnd = repetitionLevels.rowsEnd(definitionIndex, remainingRows);
+        valueIndex +=
+            dataPage
+                .getDefinitionLevels()
+                .count(schemaNode.getDefinitionLevelMax(), definitionIndex, rowsEnd);
+        if (rowsEnd < dataPageEnd) {
+          definitionIndex = rowsEnd;
+          return;
+        }
+        remainingRows -= repetitionLevels.count(0, definitionIndex, rowsEnd);
+        definitionIndex = rowsEnd;
       }
-      definitionIndex++;
-    } while (definitionIndex < dataPage.getDefinitionLevels().length
-        && dataPage.getRepetitionLevels()[definitionIndex] != 0);
-    advancePageIfNecessary();
+      advancePageIfNecessary();
+    }
   }
 
   @Override
   public Repeated next() {
     final var values = reader.repeatedBuilder();
     do {
-      if (dataPage.getDefinitionLevels()[definitionIndex] == schemaNode.getDefinitionLevelMax()) {
+      if (dataPage.getDefinitionLevels().get(definitionIndex)
+          == schemaNode.getDefinitionLevelMax()) {
         //noinspection unchecked
         values.add((Value) dataPage.getValues().get(valueIndex++));
       }
       definitionIndex++;
-    } while (definitionIndex < dataPage.getDefinitionLevels().length
-        && dataPage.getRepetitionLevels()[definitionIndex] == schemaNode.getRepetitionLevelMax());
+    } while (definitionIndex < dataPage.getDefinitionLevels().size()
+        && dataPage.getRepetitionLevels().get(definitionIndex)
+            == schemaNode.getRepetitionLevelMax());
     advancePageIfNecessary();
 
     return values.build();
@@ -1,30 +1,100 @@
 package com.markosindustries.parquito.rows;
 
+import com.markosindustries.parquito.RowRanges;
 import java.util.Iterator;
 
 public class RowIterator<Row> implements Iterator<Row> {
   private final ParquetFieldIterator<Row> iterator;
+  private final RowRanges selectedRows;
+  private final boolean matchPredicate;
+  private final long rowLimit;
+  private long rowIndex = 0;
+  private long rowsReturned = 0;
+  private int selectedRange = 0;
 
   public RowIterator(ParquetFieldIterator<Row> iterator) {
+    this(iterator, null);
+  }
+
+  /**
+   * @param selectedRows if not null, the rows to return - in place of evaluating the predicate,
+   *     which has already been done
+   */
+  public RowIterator(ParquetFieldIterator<Row> iterator, RowRanges selectedRows) {
+    this(iterator, selectedRows, Long.MAX_VALUE);
+  }
+
+  /**
+   * @param rowLimit the most rows to return - no rows beyond these are decoded (or evaluated)
+   */
+  public RowIterator(ParquetFieldIterator<Row> iterator, RowRanges selectedRows, long rowLimit) {
+    this(iterator, selectedRows, selectedRows == null, rowLimit);
+  }
+
+  /**
+   * @param selectedRows if not null, the only rows which can be returned - the rows between them
+   *     are skipped without being decoded or evaluated, so they needn't have been read at all
+   * @param matchPredicate whether rows must also match the predicate to be returned, rather than it
+   *     having been evaluated already
+   * @param rowLimit the most rows to return - no rows beyond these are decoded (or evaluated)
+   */
+  public RowIterator(
+      ParquetFieldIterator<Row> iterator,
+      RowRanges selectedRows,
+      boolean matchPredicate,
+      long rowLimit) {
     this.iterator = iterator;
-    advanceToNext();
+    this.selectedRows = selectedRows;
+    this.matchPredicate = matchPredicate;
+    this.rowLimit = rowLimit;
+    if (rowLimit > 0) {
+      advanceToNext();
+    }
   }
 
   private void advanceToNext() {
-    while (iterator.hasNext() && !iterator.nextRowMatches()) {
+    while (true) {
+      if (selectedRows != null) {
+        // Jump straight over the run of rows up to the next selected range
+        while (hasNext() && rowIndex < selectedRows.start(selectedRange)) {
+          final var rowsToSkip =
+              (int) Math.min(Integer.MAX_VALUE, selectedRows.start(selectedRange) - rowIndex);
+          iterator.skipRows(rowsToSkip);
+          rowIndex += rowsToSkip;
+        }
+      }
+      if (!matchPredicate || !hasNext() || iterator.nextRowMatches()) {
+        return;
+      }
       iterator.skipNextRow();
+      rowIndex++;
     }
   }
 
   @Override
   public boolean hasNext() {
+    if (rowsReturned >= rowLimit) {
+      return false;
+    }
+    if (selectedRows != null) {
+      while (selectedRange < selectedRows.size() && rowIndex >= selectedRows.end(selectedRange)) {
+        selectedRange++;
+      }
+      if (selectedRange == selectedRows.size()) {
+        return false;
+      }
+    }
     return iterator.hasNext();
   }
 
   @Override
   public Row next() {
     final var next = iterator.next();
-    advanceToNext();
+    rowIndex++;
+    rowsReturned++;
+    if (rowsReturned < rowLimit) {
+      advanceToNext();
+    }
     return next;
   }
 }
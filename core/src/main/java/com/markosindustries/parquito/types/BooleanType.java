@@ -1,7 +1,7 @@
 package com.markosindustries.parquito.types;
 
 import com.markosindustries.parquito.encoding.IntEncodings;
-import com.markosindustries.parquito.page.Values;
+import com.markosindustries.parquito.page.BooleanValues;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
@@ -14,11 +14,11 @@ public abstract class BooleanType<ReadAs> extends ParquetType<ReadAs> {
   }
 
   @Override
-  public Values<ReadAs> readPlainPage(
+  public BooleanValues<ReadAs> readPlainPage(
       int expectedValues, final int decompressedPageBytes, InputStream inputStream)
       throws IOException {
     final int[] values = IntEncodings.INT_ENCODING_RLE.decode(expectedValues, 1, inputStream);
-    return index -> wrap(values[index] != 0);
+    return values(values);
   }
 
   @Override
@@ -28,6 +28,37 @@ public abstract class BooleanType<ReadAs> extends ParquetType<ReadAs> {
 
   protected abstract ReadAs wrap(final boolean value);
 
+  /**
+   * @param values one int per value, as produced by the RLE/bit-packing decoders - non-zero is true
+   */
+  public BooleanValues<ReadAs> values(final int[] values) {
+    return new BooleanValues<>() {
+      @Override
+      public boolean getBoolean(final int index) {
+        return values[index] != 0;
+      }
+
+      @Override
+      public ReadAs get(final int index) {
+        return wrap(values[index] != 0);
+      }
+    };
+  }
+
+  public BooleanValues<ReadAs> values(final boolean[] values) {
+    return new BooleanValues<>() {
+      @Override
+      public boolean getBoolean(final int index) {
+        return values[index];
+      }
+
+      @Override
+      public ReadAs get(final int index) {
+        return wrap(values[index]);
+      }
+    };
+  }
+
   private static final BooleanType<Boolean> BOOLEANS =
       new BooleanType<Boolean>(Boolean.class) {
         @Override
@@ -29,7 +29,7 @@ public abstract class ByteArrayType<ReadAs> extends ParquetType<ReadAs> {
     final var sizes = new int[expectedValues];
     final var values = ByteBuffer.allocate(decompressedPageBytes - (expectedValues * 4));
     for (int index = 0, i = 0; i < expectedValues; i++) {
-      if (inputStream.read(lengthPrefixBuffer) != 4) {
+      if (inputStream.readNBytes(lengthPrefixBuffer, 0, 4) != 4) {
         throw new EOFException();
       }
       final var size = lengthPrefix.get(0);
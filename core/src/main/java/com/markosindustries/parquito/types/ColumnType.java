@@ -56,4 +56,12 @@ public record ColumnType<ReadAs>(
       return parquetType.compare(o1, o2);
     }
   }
+
+  /**
+   * @return true if non-null values compare the way their signed physical values do, in this
+   *     column's sort order
+   */
+  public boolean comparesAsSignedPrimitives() {
+    return parquetType.comparesAsSignedPrimitives() && !sortingColumnHeader.descending;
+  }
 }
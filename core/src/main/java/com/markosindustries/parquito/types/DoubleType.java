@@ -1,11 +1,12 @@
 package com.markosindustries.parquito.types;
 
-import com.markosindustries.parquito.page.Values;
+import com.markosindustries.parquito.page.DoubleValues;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
 import org.apache.parquet.format.LogicalType;
 
 public abstract class DoubleType<ReadAs> extends ParquetType<ReadAs> {
@@ -14,22 +15,21 @@ public abstract class DoubleType<ReadAs> extends ParquetType<ReadAs> {
   }
 
   @Override
-  public Values<ReadAs> readPlainPage(
+  public DoubleValues<ReadAs> readPlainPage(
       final int expectedValues, final int decompressedPageBytes, final InputStream inputStream)
       throws IOException {
     if (expectedValues == 0) {
-      return Values.empty();
+      return values(new double[0]);
     }
 
     final var expectedBytes = expectedValues * 8;
     final var buffer = ByteBuffer.allocate(expectedBytes);
-    if (inputStream.read(buffer.array()) != expectedBytes) {
+    if (inputStream.readNBytes(buffer.array(), 0, expectedBytes) != expectedBytes) {
       throw new EOFException("Not enough bytes to read " + expectedValues + " Doubles");
     }
 
     final var doubleBuffer = buffer.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
-
-    return index -> wrap(doubleBuffer.get(index));
+    return values(doubleBuffer);
   }
 
   @Override
@@ -39,6 +39,34 @@ public abstract class DoubleType<ReadAs> extends ParquetType<ReadAs> {
 
   protected abstract ReadAs wrap(final double value);
 
+  public DoubleValues<ReadAs> values(final double[] values) {
+    return new DoubleValues<>() {
+      @Override
+      public double getDouble(final int index) {
+        return values[index];
+      }
+
+      @Override
+      public ReadAs get(final int index) {
+        return wrap(values[index]);
+      }
+    };
+  }
+
+  public DoubleValues<ReadAs> values(final DoubleBuffer values) {
+    return new DoubleValues<>() {
+      @Override
+      public double getDouble(final int index) {
+        return values.get(index);
+      }
+
+      @Override
+      public ReadAs get(final int index) {
+        return wrap(values.get(index));
+      }
+    };
+  }
+
   private static final DoubleType<Double> DOUBLES =
       new DoubleType<Double>(Double.class) {
         @Override
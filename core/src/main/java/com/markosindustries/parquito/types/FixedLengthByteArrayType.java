@@ -15,6 +15,10 @@ public abstract class FixedLengthByteArrayType<ReadAs> extends ParquetType<ReadA
     this.typeLength = typeLength;
   }
 
+  public int getTypeLength() {
+    return typeLength;
+  }
+
   @Override
   public Values<ReadAs> readPlainPage(
       final int expectedValues, final int decompressedPageBytes, final InputStream inputStream)
@@ -1,11 +1,12 @@
 package com.markosindustries.parquito.types;
 
-import com.markosindustries.parquito.page.Values;
+import com.markosindustries.parquito.page.FloatValues;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
 import org.apache.parquet.format.LogicalType;
 
 public abstract class FloatType<ReadAs> extends ParquetType<ReadAs> {
@@ -14,22 +15,21 @@ public abstract class FloatType<ReadAs> extends ParquetType<ReadAs> {
   }
 
   @Override
-  public Values<ReadAs> readPlainPage(
+  public FloatValues<ReadAs> readPlainPage(
       final int expectedValues, final int decompressedPageBytes, final InputStream inputStream)
       throws IOException {
     if (expectedValues == 0) {
-      return Values.empty();
+      return values(new float[0]);
     }
 
     final var expectedBytes = expectedValues * 4;
     final var buffer = ByteBuffer.allocate(expectedBytes);
-    if (inputStream.read(buffer.array()) != expectedBytes) {
+    if (inputStream.readNBytes(buffer.array(), 0, expectedBytes) != expectedBytes) {
       throw new EOFException("Not enough bytes to read " + expectedValues + " Floats");
     }
 
     final var floatBuffer = buffer.order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
-
-    return index -> wrap(floatBuffer.get(index));
+    return values(floatBuffer);
   }
 
   @Override
@@ -39,6 +39,34 @@ public abstract class FloatType<ReadAs> extends ParquetType<ReadAs> {
 
   protected abstract ReadAs wrap(final float value);
 
+  public FloatValues<ReadAs> values(final float[] values) {
+    return new FloatValues<>() {
+      @Override
+      public float getFloat(final int index) {
+        return values[index];
+      }
+
+      @Override
+      public ReadAs get(final int index) {
+        return wrap(values[index]);
+      }
+    };
+  }
+
+  public FloatValues<ReadAs> values(final FloatBuffer values) {
+    return new FloatValues<>() {
+      @Override
+      public float getFloat(final int index) {
+        return values.get(index);
+      }
+
+      @Override
+      public ReadAs get(final int index) {
+        return wrap(values.get(index));
+      }
+    };
+  }
+
   private static final FloatType<Float> FLOATS =
       new FloatType<Float>(Float.class) {
         @Override
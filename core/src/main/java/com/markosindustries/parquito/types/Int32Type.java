@@ -1,11 +1,14 @@
 package com.markosindustries.parquito.types;
 
-import com.markosindustries.parquito.page.Values;
+import com.markosindustries.parquito.ParquetPredicate;
+import com.markosindustries.parquito.page.IntValues;
+import com.markosindustries.parquito.page.PredicateMatcher;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.IntBuffer;
 import java.time.Duration;
 import java.time.Instant;
 import org.apache.parquet.format.LogicalType;
@@ -16,21 +19,20 @@ public abstract class Int32Type<ReadAs> extends ParquetType<ReadAs> {
   }
 
   @Override
-  public Values<ReadAs> readPlainPage(
+  public IntValues<ReadAs> readPlainPage(
       final int expectedValues, final int decompressedPageBytes, final InputStream inputStream)
       throws IOException {
     if (expectedValues == 0) {
-      return Values.empty();
+      return values(new int[0]);
     }
 
     final var expectedBytes = expectedValues * 4;
     final var buffer = ByteBuffer.allocate(expectedBytes);
-    if (inputStream.read(buffer.array()) != expectedBytes) {
+    if (inputStream.readNBytes(buffer.array(), 0, expectedBytes) != expectedBytes) {
       throw new EOFException("Not enough bytes to read " + expectedValues + " Int32s");
     }
 
-    final var intBuffer = buffer.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
-    return index -> wrap(intBuffer.get(index));
+    return values(buffer.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer());
   }
 
   @Override
@@ -40,6 +42,52 @@ public abstract class Int32Type<ReadAs> extends ParquetType<ReadAs> {
 
   protected abstract ReadAs wrap(final int value);
 
+  public IntValues<ReadAs> values(final int[] values) {
+    return new IntValues<>() {
+      @Override
+      public int getInt(final int index) {
+        return values[index];
+      }
+
+      @Override
+      public ReadAs get(final int index) {
+        return wrap(values[index]);
+      }
+
+      @Override
+      public PredicateMatcher matcher(final ParquetPredicate<ReadAs> predicate) {
+        final var selection = predicate.selectInts(values);
+        if (selection == null) {
+          return IntValues.super.matcher(predicate);
+        }
+        return index -> (selection[index >>> 6] & (1L << index)) != 0;
+      }
+    };
+  }
+
+  public IntValues<ReadAs> values(final IntBuffer values) {
+    return new IntValues<>() {
+      @Override
+      public int getInt(final int index) {
+        return values.get(index);
+      }
+
+      @Override
+      public ReadAs get(final int index) {
+        return wrap(values.get(index));
+      }
+
+      @Override
+      public PredicateMatcher matcher(final ParquetPredicate<ReadAs> predicate) {
+        final var selection = predicate.selectInts(values);
+        if (selection == null) {
+          return IntValues.super.matcher(predicate);
+        }
+        return index -> (selection[index >>> 6] & (1L << index)) != 0;
+      }
+    };
+  }
+
   private static final Int32Type<Integer> SIGNED_INTEGERS =
       new Int32Type<Integer>(Integer.class) {
         @Override
@@ -51,6 +99,11 @@ public abstract class Int32Type<ReadAs> extends ParquetType<ReadAs> {
         public int compare(final Integer o1, final Integer o2) {
           return o1.compareTo(o2);
         }
+
+        @Override
+        public boolean comparesAsSignedPrimitives() {
+          return true;
+        }
       };
   private static final Int32Type<Integer> UNSIGNED_INTEGERS =
       new Int32Type<Integer>(Integer.class) {
@@ -1,11 +1,14 @@
 package com.markosindustries.parquito.types;
 
-import com.markosindustries.parquito.page.Values;
+import com.markosindustries.parquito.ParquetPredicate;
+import com.markosindustries.parquito.page.LongValues;
+import com.markosindustries.parquito.page.PredicateMatcher;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.LongBuffer;
 import java.time.Duration;
 import java.time.Instant;
 import org.apache.parquet.format.LogicalType;
@@ -16,21 +19,20 @@ public abstract class Int64Type<ReadAs> extends ParquetType<ReadAs> {
   }
 
   @Override
-  public Values<ReadAs> readPlainPage(
+  public LongValues<ReadAs> readPlainPage(
       int expectedValues, final int decompressedPageBytes, InputStream inputStream)
       throws IOException {
     if (expectedValues == 0) {
-      return Values.empty();
+      return values(new long[0]);
     }
 
     final var expectedBytes = expectedValues * 8;
     final var buffer = ByteBuffer.allocate(expectedBytes);
-    if (inputStream.read(buffer.array()) != expectedBytes) {
+    if (inputStream.readNBytes(buffer.array(), 0, expectedBytes) != expectedBytes) {
       throw new EOFException("Not enough bytes to read " + expectedValues + " Int64s");
     }
 
-    final var longBuffer = buffer.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
-    return index -> wrap(longBuffer.get(index));
+    return values(buffer.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer());
   }
 
   @Override
@@ -40,6 +42,52 @@ public abstract class Int64Type<ReadAs> extends ParquetType<ReadAs> {
 
   protected abstract ReadAs wrap(final long value);
 
+  public LongValues<ReadAs> values(final long[] values) {
+    return new LongValues<>() {
+      @Override
+      public long getLong(final int index) {
+        return values[index];
+      }
+
+      @Override
+      public ReadAs get(final int index) {
+        return wrap(values[index]);
+      }
+
+      @Override
+      public PredicateMatcher matcher(final ParquetPredicate<ReadAs> predicate) {
+        final var selection = predicate.selectLongs(values);
+        if (selection == null) {
+          return LongValues.super.matcher(predicate);
+        }
+        return index -> (selection[index >>> 6] & (1L << index)) != 0;
+      }
+    };
+  }
+
+  public LongValues<ReadAs> values(final LongBuffer values) {
+    return new LongValues<>() {
+      @Override
+      public long getLong(final int index) {
+        return values.get(index);
+      }
+
+      @Override
+      public ReadAs get(final int index) {
+        return wrap(values.get(index));
+      }
+
+      @Override
+      public PredicateMatcher matcher(final ParquetPredicate<ReadAs> predicate) {
+        final var selection = predicate.selectLongs(values);
+        if (selection == null) {
+          return LongValues.super.matcher(predicate);
+        }
+        return index -> (selection[index >>> 6] & (1L << index)) != 0;
+      }
+    };
+  }
+
   static int unsignedLongComparison(final Long o1, final Long o2) {
     final int top63Cmp = Long.compare(o1 >>> 1, o2 >>> 1);
     if (top63Cmp != 0) {
@@ -59,6 +107,11 @@ public abstract class Int64Type<ReadAs> extends ParquetType<ReadAs> {
         public int compare(final Long o1, final Long o2) {
           return o1.compareTo(o2);
         }
+
+        @Override
+        public boolean comparesAsSignedPrimitives() {
+          return true;
+        }
       };
 
   private static final Int64Type<Long> UNSIGNED_LONGS =
@@ -34,6 +34,14 @@ public abstract class ParquetType<ReadAs> {
    */
   public abstract int compare(ReadAs o1, ReadAs o2);
 
+  /**
+   * @return true if values are read as their (boxed) physical values, and compare the way signed
+   *     primitives do - so comparisons can be made on the physical values directly
+   */
+  public boolean comparesAsSignedPrimitives() {
+    return false;
+  }
+
   public static ParquetType<?> create(
       final Type type, final LogicalType logicalType, final int typeLength) {
     return switch (type) {
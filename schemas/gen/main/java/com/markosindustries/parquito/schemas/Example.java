@@ -0,0 +1,2178 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: parquito.proto
+
+package com.markosindustries.parquito.schemas;
+
+/**
+ * Protobuf type {@code parquito.Example}
+ */
+public final class Example extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:parquito.Example)
+    ExampleOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use Example.newBuilder() to construct.
+  private Example(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private Example() {
+    someString_ = "";
+    someRepeated_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new Example();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.markosindustries.parquito.schemas.Parquito.internal_static_parquito_Example_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  @java.lang.Override
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 6:
+        return internalGetSomeMap();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.markosindustries.parquito.schemas.Parquito.internal_static_parquito_Example_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.markosindustries.parquito.schemas.Example.class, com.markosindustries.parquito.schemas.Example.Builder.class);
+  }
+
+  public interface ExampleRepeatedOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:parquito.Example.ExampleRepeated)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string some_string = 1;</code>
+     * @return The someString.
+     */
+    java.lang.String getSomeString();
+    /**
+     * <code>string some_string = 1;</code>
+     * @return The bytes for someString.
+     */
+    com.google.protobuf.ByteString
+        getSomeStringBytes();
+
+    /**
+     * <code>.parquito.ExampleEnum some_enum = 2;</code>
+     * @return The enum numeric value on the wire for someEnum.
+     */
+    int getSomeEnumValue();
+    /**
+     * <code>.parquito.ExampleEnum some_enum = 2;</code>
+     * @return The someEnum.
+     */
+    com.markosindustries.parquito.schemas.ExampleEnum getSomeEnum();
+  }
+  /**
+   * Protobuf type {@code parquito.Example.ExampleRepeated}
+   */
+  public static final class ExampleRepeated extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:parquito.Example.ExampleRepeated)
+      ExampleRepeatedOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ExampleRepeated.newBuilder() to construct.
+    private ExampleRepeated(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ExampleRepeated() {
+      someString_ = "";
+      someEnum_ = 0;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ExampleRepeated();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.markosindustries.parquito.schemas.Parquito.internal_static_parquito_Example_ExampleRepeated_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.markosindustries.parquito.schemas.Parquito.internal_static_parquito_Example_ExampleRepeated_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.markosindustries.parquito.schemas.Example.ExampleRepeated.class, com.markosindustries.parquito.schemas.Example.ExampleRepeated.Builder.class);
+    }
+
+    public static final int SOME_STRING_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object someString_ = "";
+    /**
+     * <code>string some_string = 1;</code>
+     * @return The someString.
+     */
+    @java.lang.Override
+    public java.lang.String getSomeString() {
+      java.lang.Object ref = someString_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        someString_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string some_string = 1;</code>
+     * @return The bytes for someString.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSomeStringBytes() {
+      java.lang.Object ref = someString_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        someString_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SOME_ENUM_FIELD_NUMBER = 2;
+    private int someEnum_ = 0;
+    /**
+     * <code>.parquito.ExampleEnum some_enum = 2;</code>
+     * @return The enum numeric value on the wire for someEnum.
+     */
+    @java.lang.Override public int getSomeEnumValue() {
+      return someEnum_;
+    }
+    /**
+     * <code>.parquito.ExampleEnum some_enum = 2;</code>
+     * @return The someEnum.
+     */
+    @java.lang.Override public com.markosindustries.parquito.schemas.ExampleEnum getSomeEnum() {
+      com.markosindustries.parquito.schemas.ExampleEnum result = com.markosindustries.parquito.schemas.ExampleEnum.forNumber(someEnum_);
+      return result == null ? com.markosindustries.parquito.schemas.ExampleEnum.UNRECOGNIZED : result;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(someString_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, someString_);
+      }
+      if (someEnum_ != com.markosindustries.parquito.schemas.ExampleEnum.EXAMPLE_ENUM_UNKNOWN.getNumber()) {
+        output.writeEnum(2, someEnum_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(someString_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, someString_);
+      }
+      if (someEnum_ != com.markosindustries.parquito.schemas.ExampleEnum.EXAMPLE_ENUM_UNKNOWN.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, someEnum_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.markosindustries.parquito.schemas.Example.ExampleRepeated)) {
+        return super.equals(obj);
+      }
+      com.markosindustries.parquito.schemas.Example.ExampleRepeated other = (com.markosindustries.parquito.schemas.Example.ExampleRepeated) obj;
+
+      if (!getSomeString()
+          .equals(other.getSomeString())) return false;
+      if (someEnum_ != other.someEnum_) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SOME_STRING_FIELD_NUMBER;
+      hash = (53 * hash) + getSomeString().hashCode();
+      hash = (37 * hash) + SOME_ENUM_FIELD_NUMBER;
+      hash = (53 * hash) + someEnum_;
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.markosindustries.parquito.schemas.Example.ExampleRepeated parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.markosindustries.parquito.schemas.Example.ExampleRepeated parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.markosindustries.parquito.schemas.Example.ExampleRepeated parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.markosindustries.parquito.schemas.Example.ExampleRepeated parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.markosindustries.parquito.schemas.Example.ExampleRepeated parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.markosindustries.parquito.schemas.Example.ExampleRepeated parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.markosindustries.parquito.schemas.Example.ExampleRepeated parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.markosindustries.parquito.schemas.Example.ExampleRepeated parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.markosindustries.parquito.schemas.Example.ExampleRepeated parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.markosindustries.parquito.schemas.Example.ExampleRepeated parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.markosindustries.parquito.schemas.Example.ExampleRepeated parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.markosindustries.parquito.schemas.Example.ExampleRepeated parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.markosindustries.parquito.schemas.Example.ExampleRepeated prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code parquito.Example.ExampleRepeated}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:parquito.Example.ExampleRepeated)
+        com.markosindustries.parquito.schemas.Example.ExampleRepeatedOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.markosindustries.parquito.schemas.Parquito.internal_static_parquito_Example_ExampleRepeated_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.markosindustries.parquito.schemas.Parquito.internal_static_parquito_Example_ExampleRepeated_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.markosindustries.parquito.schemas.Example.ExampleRepeated.class, com.markosindustries.parquito.schemas.Example.ExampleRepeated.Builder.class);
+      }
+
+      // Construct using com.markosindustries.parquito.schemas.Example.ExampleRepeated.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        someString_ = "";
+        someEnum_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.markosindustries.parquito.schemas.Parquito.internal_static_parquito_Example_ExampleRepeated_descriptor;
+      }
+
+      @java.lang.Override
+      public com.markosindustries.parquito.schemas.Example.ExampleRepeated getDefaultInstanceForType() {
+        return com.markosindustries.parquito.schemas.Example.ExampleRepeated.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.markosindustries.parquito.schemas.Example.ExampleRepeated build() {
+        com.markosindustries.parquito.schemas.Example.ExampleRepeated result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.markosindustries.parquito.schemas.Example.ExampleRepeated buildPartial() {
+        com.markosindustries.parquito.schemas.Example.ExampleRepeated result = new com.markosindustries.parquito.schemas.Example.ExampleRepeated(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.markosindustries.parquito.schemas.Example.ExampleRepeated result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.someString_ = someString_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.someEnum_ = someEnum_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.markosindustries.parquito.schemas.Example.ExampleRepeated) {
+          return mergeFrom((com.markosindustries.parquito.schemas.Example.ExampleRepeated)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.markosindustries.parquito.schemas.Example.ExampleRepeated other) {
+        if (other == com.markosindustries.parquito.schemas.Example.ExampleRepeated.getDefaultInstance()) return this;
+        if (!other.getSomeString().isEmpty()) {
+          someString_ = other.someString_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.someEnum_ != 0) {
+          setSomeEnumValue(other.getSomeEnumValue());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                someString_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                someEnum_ = input.readEnum();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object someString_ = "";
+      /**
+       * <code>string some_string = 1;</code>
+       * @return The someString.
+       */
+      public java.lang.String getSomeString() {
+        java.lang.Object ref = someString_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          someString_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string some_string = 1;</code>
+       * @return The bytes for someString.
+       */
+      public com.google.protobuf.ByteString
+          getSomeStringBytes() {
+        java.lang.Object ref = someString_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          someString_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string some_string = 1;</code>
+       * @param value The someString to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSomeString(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        someString_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string some_string = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSomeString() {
+        someString_ = getDefaultInstance().getSomeString();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string some_string = 1;</code>
+       * @param value The bytes for someString to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSomeStringBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        someString_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private int someEnum_ = 0;
+      /**
+       * <code>.parquito.ExampleEnum some_enum = 2;</code>
+       * @return The enum numeric value on the wire for someEnum.
+       */
+      @java.lang.Override public int getSomeEnumValue() {
+        return someEnum_;
+      }
+      /**
+       * <code>.parquito.ExampleEnum some_enum = 2;</code>
+       * @param value The enum numeric value on the wire for someEnum to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSomeEnumValue(int value) {
+        someEnum_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.parquito.ExampleEnum some_enum = 2;</code>
+       * @return The someEnum.
+       */
+      @java.lang.Override
+      public com.markosindustries.parquito.schemas.ExampleEnum getSomeEnum() {
+        com.markosindustries.parquito.schemas.ExampleEnum result = com.markosindustries.parquito.schemas.ExampleEnum.forNumber(someEnum_);
+        return result == null ? com.markosindustries.parquito.schemas.ExampleEnum.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.parquito.ExampleEnum some_enum = 2;</code>
+       * @param value The someEnum to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSomeEnum(com.markosindustries.parquito.schemas.ExampleEnum value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000002;
+        someEnum_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.parquito.ExampleEnum some_enum = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSomeEnum() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        someEnum_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:parquito.Example.ExampleRepeated)
+    }
+
+    // @@protoc_insertion_point(class_scope:parquito.Example.ExampleRepeated)
+    private static final com.markosindustries.parquito.schemas.Example.ExampleRepeated DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.markosindustries.parquito.schemas.Example.ExampleRepeated();
+    }
+
+    public static com.markosindustries.parquito.schemas.Example.ExampleRepeated getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ExampleRepeated>
+        PARSER = new com.google.protobuf.AbstractParser<ExampleRepeated>() {
+      @java.lang.Override
+      public ExampleRepeated parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ExampleRepeated> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ExampleRepeated> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.markosindustries.parquito.schemas.Example.ExampleRepeated getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private int exampleOneofCase_ = 0;
+  @SuppressWarnings("serial")
+  private java.lang.Object exampleOneof_;
+  public enum ExampleOneofCase
+      implements com.google.protobuf.Internal.EnumLite,
+          com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+    SOME_CHILD(2),
+    SOME_ENUM(3),
+    EXAMPLEONEOF_NOT_SET(0);
+    private final int value;
+    private ExampleOneofCase(int value) {
+      this.value = value;
+    }
+    /**
+     * @param value The number of the enum to look for.
+     * @return The enum associated with the given number.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static ExampleOneofCase valueOf(int value) {
+      return forNumber(value);
+    }
+
+    public static ExampleOneofCase forNumber(int value) {
+      switch (value) {
+        case 2: return SOME_CHILD;
+        case 3: return SOME_ENUM;
+        case 0: return EXAMPLEONEOF_NOT_SET;
+        default: return null;
+      }
+    }
+    public int getNumber() {
+      return this.value;
+    }
+  };
+
+  public ExampleOneofCase
+  getExampleOneofCase() {
+    return ExampleOneofCase.forNumber(
+        exampleOneofCase_);
+  }
+
+  public static final int SOME_STRING_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object someString_ = "";
+  /**
+   * <code>string some_string = 1;</code>
+   * @return The someString.
+   */
+  @java.lang.Override
+  public java.lang.String getSomeString() {
+    java.lang.Object ref = someString_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      someString_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string some_string = 1;</code>
+   * @return The bytes for someString.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getSomeStringBytes() {
+    java.lang.Object ref = someString_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      someString_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int SOME_CHILD_FIELD_NUMBER = 2;
+  /**
+   * <code>.parquito.ExampleChild some_child = 2;</code>
+   * @return Whether the someChild field is set.
+   */
+  @java.lang.Override
+  public boolean hasSomeChild() {
+    return exampleOneofCase_ == 2;
+  }
+  /**
+   * <code>.parquito.ExampleChild some_child = 2;</code>
+   * @return The someChild.
+   */
+  @java.lang.Override
+  public com.markosindustries.parquito.schemas.ExampleChild getSomeChild() {
+    if (exampleOneofCase_ == 2) {
+       return (com.markosindustries.parquito.schemas.ExampleChild) exampleOneof_;
+    }
+    return com.markosindustries.parquito.schemas.ExampleChild.getDefaultInstance();
+  }
+  /**
+   * <code>.parquito.ExampleChild some_child = 2;</code>
+   */
+  @java.lang.Override
+  public com.markosindustries.parquito.schemas.ExampleChildOrBuilder getSomeChildOrBuilder() {
+    if (exampleOneofCase_ == 2) {
+       return (com.markosindustries.parquito.schemas.ExampleChild) exampleOneof_;
+    }
+    return com.markosindustries.parquito.schemas.ExampleChild.getDefaultInstance();
+  }
+
+  public static final int SOME_ENUM_FIELD_NUMBER = 3;
+  /**
+   * <code>.parquito.ExampleEnum some_enum = 3;</code>
+   * @return Whether the someEnum field is set.
+   */
+  public boolean hasSomeEnum() {
+    return exampleOneofCase_ == 3;
+  }
+  /**
+   * <code>.parquito.ExampleEnum some_enum = 3;</code>
+   * @return The enum numeric value on the wire for someEnum.
+   */
+  public int getSomeEnumValue() {
+    if (exampleOneofCase_ == 3) {
+      return (java.lang.Integer) exampleOneof_;
+    }
+    return 0;
+  }
+  /**
+   * <code>.parquito.ExampleEnum some_enum = 3;</code>
+   * @return The someEnum.
+   */
+  public com.markosindustries.parquito.schemas.ExampleEnum getSomeEnum() {
+    if (exampleOneofCase_ == 3) {
+      com.markosindustries.parquito.schemas.ExampleEnum result = com.markosindustries.parquito.schemas.ExampleEnum.forNumber(
+          (java.lang.Integer) exampleOneof_);
+      return result == null ? com.markosindustries.parquito.schemas.ExampleEnum.UNRECOGNIZED : result;
+    }
+    return com.markosindustries.parquito.schemas.ExampleEnum.EXAMPLE_ENUM_UNKNOWN;
+  }
+
+  public static final int SOME_REPEATED_FIELD_NUMBER = 4;
+  @SuppressWarnings("serial")
+  private java.util.List<com.markosindustries.parquito.schemas.Example.ExampleRepeated> someRepeated_;
+  /**
+   * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+   */
+  @java.lang.Override
+  public java.util.List<com.markosindustries.parquito.schemas.Example.ExampleRepeated> getSomeRepeatedList() {
+    return someRepeated_;
+  }
+  /**
+   * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends com.markosindustries.parquito.schemas.Example.ExampleRepeatedOrBuilder> 
+      getSomeRepeatedOrBuilderList() {
+    return someRepeated_;
+  }
+  /**
+   * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+   */
+  @java.lang.Override
+  public int getSomeRepeatedCount() {
+    return someRepeated_.size();
+  }
+  /**
+   * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+   */
+  @java.lang.Override
+  public com.markosindustries.parquito.schemas.Example.ExampleRepeated getSomeRepeated(int index) {
+    return someRepeated_.get(index);
+  }
+  /**
+   * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+   */
+  @java.lang.Override
+  public com.markosindustries.parquito.schemas.Example.ExampleRepeatedOrBuilder getSomeRepeatedOrBuilder(
+      int index) {
+    return someRepeated_.get(index);
+  }
+
+  public static final int SOME_MAP_FIELD_NUMBER = 6;
+  private static final class SomeMapDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild>newDefaultInstance(
+                com.markosindustries.parquito.schemas.Parquito.internal_static_parquito_Example_SomeMapEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.UINT64,
+                0L,
+                com.google.protobuf.WireFormat.FieldType.MESSAGE,
+                com.markosindustries.parquito.schemas.ExampleChild.getDefaultInstance());
+  }
+  @SuppressWarnings("serial")
+  private com.google.protobuf.MapField<
+      java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild> someMap_;
+  private com.google.protobuf.MapField<java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild>
+  internalGetSomeMap() {
+    if (someMap_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          SomeMapDefaultEntryHolder.defaultEntry);
+    }
+    return someMap_;
+  }
+  public int getSomeMapCount() {
+    return internalGetSomeMap().getMap().size();
+  }
+  /**
+   * <code>map&lt;uint64, .parquito.ExampleChild&gt; some_map = 6;</code>
+   */
+  @java.lang.Override
+  public boolean containsSomeMap(
+      long key) {
+
+    return internalGetSomeMap().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getSomeMapMap()} instead.
+   */
+  @java.lang.Override
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild> getSomeMap() {
+    return getSomeMapMap();
+  }
+  /**
+   * <code>map&lt;uint64, .parquito.ExampleChild&gt; some_map = 6;</code>
+   */
+  @java.lang.Override
+  public java.util.Map<java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild> getSomeMapMap() {
+    return internalGetSomeMap().getMap();
+  }
+  /**
+   * <code>map&lt;uint64, .parquito.ExampleChild&gt; some_map = 6;</code>
+   */
+  @java.lang.Override
+  public /* nullable */
+com.markosindustries.parquito.schemas.ExampleChild getSomeMapOrDefault(
+      long key,
+      /* nullable */
+com.markosindustries.parquito.schemas.ExampleChild defaultValue) {
+
+    java.util.Map<java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild> map =
+        internalGetSomeMap().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <code>map&lt;uint64, .parquito.ExampleChild&gt; some_map = 6;</code>
+   */
+  @java.lang.Override
+  public com.markosindustries.parquito.schemas.ExampleChild getSomeMapOrThrow(
+      long key) {
+
+    java.util.Map<java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild> map =
+        internalGetSomeMap().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(someString_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, someString_);
+    }
+    if (exampleOneofCase_ == 2) {
+      output.writeMessage(2, (com.markosindustries.parquito.schemas.ExampleChild) exampleOneof_);
+    }
+    if (exampleOneofCase_ == 3) {
+      output.writeEnum(3, ((java.lang.Integer) exampleOneof_));
+    }
+    for (int i = 0; i < someRepeated_.size(); i++) {
+      output.writeMessage(4, someRepeated_.get(i));
+    }
+    com.google.protobuf.GeneratedMessageV3
+      .serializeLongMapTo(
+        output,
+        internalGetSomeMap(),
+        SomeMapDefaultEntryHolder.defaultEntry,
+        6);
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(someString_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, someString_);
+    }
+    if (exampleOneofCase_ == 2) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, (com.markosindustries.parquito.schemas.ExampleChild) exampleOneof_);
+    }
+    if (exampleOneofCase_ == 3) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(3, ((java.lang.Integer) exampleOneof_));
+    }
+    for (int i = 0; i < someRepeated_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(4, someRepeated_.get(i));
+    }
+    for (java.util.Map.Entry<java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild> entry
+         : internalGetSomeMap().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild>
+      someMap__ = SomeMapDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, someMap__);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.markosindustries.parquito.schemas.Example)) {
+      return super.equals(obj);
+    }
+    com.markosindustries.parquito.schemas.Example other = (com.markosindustries.parquito.schemas.Example) obj;
+
+    if (!getSomeString()
+        .equals(other.getSomeString())) return false;
+    if (!getSomeRepeatedList()
+        .equals(other.getSomeRepeatedList())) return false;
+    if (!internalGetSomeMap().equals(
+        other.internalGetSomeMap())) return false;
+    if (!getExampleOneofCase().equals(other.getExampleOneofCase())) return false;
+    switch (exampleOneofCase_) {
+      case 2:
+        if (!getSomeChild()
+            .equals(other.getSomeChild())) return false;
+        break;
+      case 3:
+        if (getSomeEnumValue()
+            != other.getSomeEnumValue()) return false;
+        break;
+      case 0:
+      default:
+    }
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + SOME_STRING_FIELD_NUMBER;
+    hash = (53 * hash) + getSomeString().hashCode();
+    if (getSomeRepeatedCount() > 0) {
+      hash = (37 * hash) + SOME_REPEATED_FIELD_NUMBER;
+      hash = (53 * hash) + getSomeRepeatedList().hashCode();
+    }
+    if (!internalGetSomeMap().getMap().isEmpty()) {
+      hash = (37 * hash) + SOME_MAP_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetSomeMap().hashCode();
+    }
+    switch (exampleOneofCase_) {
+      case 2:
+        hash = (37 * hash) + SOME_CHILD_FIELD_NUMBER;
+        hash = (53 * hash) + getSomeChild().hashCode();
+        break;
+      case 3:
+        hash = (37 * hash) + SOME_ENUM_FIELD_NUMBER;
+        hash = (53 * hash) + getSomeEnumValue();
+        break;
+      case 0:
+      default:
+    }
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.markosindustries.parquito.schemas.Example parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.markosindustries.parquito.schemas.Example parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.markosindustries.parquito.schemas.Example parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.markosindustries.parquito.schemas.Example parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.markosindustries.parquito.schemas.Example parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.markosindustries.parquito.schemas.Example parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.markosindustries.parquito.schemas.Example parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.markosindustries.parquito.schemas.Example parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static com.markosindustries.parquito.schemas.Example parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static com.markosindustries.parquito.schemas.Example parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.markosindustries.parquito.schemas.Example parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.markosindustries.parquito.schemas.Example parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.markosindustries.parquito.schemas.Example prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code parquito.Example}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:parquito.Example)
+      com.markosindustries.parquito.schemas.ExampleOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.markosindustries.parquito.schemas.Parquito.internal_static_parquito_Example_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 6:
+          return internalGetSomeMap();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 6:
+          return internalGetMutableSomeMap();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.markosindustries.parquito.schemas.Parquito.internal_static_parquito_Example_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.markosindustries.parquito.schemas.Example.class, com.markosindustries.parquito.schemas.Example.Builder.class);
+    }
+
+    // Construct using com.markosindustries.parquito.schemas.Example.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      someString_ = "";
+      if (someChildBuilder_ != null) {
+        someChildBuilder_.clear();
+      }
+      if (someRepeatedBuilder_ == null) {
+        someRepeated_ = java.util.Collections.emptyList();
+      } else {
+        someRepeated_ = null;
+        someRepeatedBuilder_.clear();
+      }
+      bitField0_ = (bitField0_ & ~0x00000008);
+      internalGetMutableSomeMap().clear();
+      exampleOneofCase_ = 0;
+      exampleOneof_ = null;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.markosindustries.parquito.schemas.Parquito.internal_static_parquito_Example_descriptor;
+    }
+
+    @java.lang.Override
+    public com.markosindustries.parquito.schemas.Example getDefaultInstanceForType() {
+      return com.markosindustries.parquito.schemas.Example.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.markosindustries.parquito.schemas.Example build() {
+      com.markosindustries.parquito.schemas.Example result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.markosindustries.parquito.schemas.Example buildPartial() {
+      com.markosindustries.parquito.schemas.Example result = new com.markosindustries.parquito.schemas.Example(this);
+      buildPartialRepeatedFields(result);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      buildPartialOneofs(result);
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartialRepeatedFields(com.markosindustries.parquito.schemas.Example result) {
+      if (someRepeatedBuilder_ == null) {
+        if (((bitField0_ & 0x00000008) != 0)) {
+          someRepeated_ = java.util.Collections.unmodifiableList(someRepeated_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.someRepeated_ = someRepeated_;
+      } else {
+        result.someRepeated_ = someRepeatedBuilder_.build();
+      }
+    }
+
+    private void buildPartial0(com.markosindustries.parquito.schemas.Example result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.someString_ = someString_;
+      }
+      if (((from_bitField0_ & 0x00000010) != 0)) {
+        result.someMap_ = internalGetSomeMap();
+        result.someMap_.makeImmutable();
+      }
+    }
+
+    private void buildPartialOneofs(com.markosindustries.parquito.schemas.Example result) {
+      result.exampleOneofCase_ = exampleOneofCase_;
+      result.exampleOneof_ = this.exampleOneof_;
+      if (exampleOneofCase_ == 2 &&
+          someChildBuilder_ != null) {
+        result.exampleOneof_ = someChildBuilder_.build();
+      }
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.markosindustries.parquito.schemas.Example) {
+        return mergeFrom((com.markosindustries.parquito.schemas.Example)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.markosindustries.parquito.schemas.Example other) {
+      if (other == com.markosindustries.parquito.schemas.Example.getDefaultInstance()) return this;
+      if (!other.getSomeString().isEmpty()) {
+        someString_ = other.someString_;
+        bitField0_ |= 0x00000001;
+        onChanged();
+      }
+      if (someRepeatedBuilder_ == null) {
+        if (!other.someRepeated_.isEmpty()) {
+          if (someRepeated_.isEmpty()) {
+            someRepeated_ = other.someRepeated_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureSomeRepeatedIsMutable();
+            someRepeated_.addAll(other.someRepeated_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.someRepeated_.isEmpty()) {
+          if (someRepeatedBuilder_.isEmpty()) {
+            someRepeatedBuilder_.dispose();
+            someRepeatedBuilder_ = null;
+            someRepeated_ = other.someRepeated_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+            someRepeatedBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getSomeRepeatedFieldBuilder() : null;
+          } else {
+            someRepeatedBuilder_.addAllMessages(other.someRepeated_);
+          }
+        }
+      }
+      internalGetMutableSomeMap().mergeFrom(
+          other.internalGetSomeMap());
+      bitField0_ |= 0x00000010;
+      switch (other.getExampleOneofCase()) {
+        case SOME_CHILD: {
+          mergeSomeChild(other.getSomeChild());
+          break;
+        }
+        case SOME_ENUM: {
+          setSomeEnumValue(other.getSomeEnumValue());
+          break;
+        }
+        case EXAMPLEONEOF_NOT_SET: {
+          break;
+        }
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              someString_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 10
+            case 18: {
+              input.readMessage(
+                  getSomeChildFieldBuilder().getBuilder(),
+                  extensionRegistry);
+              exampleOneofCase_ = 2;
+              break;
+            } // case 18
+            case 24: {
+              int rawValue = input.readEnum();
+              exampleOneofCase_ = 3;
+              exampleOneof_ = rawValue;
+              break;
+            } // case 24
+            case 34: {
+              com.markosindustries.parquito.schemas.Example.ExampleRepeated m =
+                  input.readMessage(
+                      com.markosindustries.parquito.schemas.Example.ExampleRepeated.parser(),
+                      extensionRegistry);
+              if (someRepeatedBuilder_ == null) {
+                ensureSomeRepeatedIsMutable();
+                someRepeated_.add(m);
+              } else {
+                someRepeatedBuilder_.addMessage(m);
+              }
+              break;
+            } // case 34
+            case 50: {
+              com.google.protobuf.MapEntry<java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild>
+              someMap__ = input.readMessage(
+                  SomeMapDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+              internalGetMutableSomeMap().getMutableMap().put(
+                  someMap__.getKey(), someMap__.getValue());
+              bitField0_ |= 0x00000010;
+              break;
+            } // case 50
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int exampleOneofCase_ = 0;
+    private java.lang.Object exampleOneof_;
+    public ExampleOneofCase
+        getExampleOneofCase() {
+      return ExampleOneofCase.forNumber(
+          exampleOneofCase_);
+    }
+
+    public Builder clearExampleOneof() {
+      exampleOneofCase_ = 0;
+      exampleOneof_ = null;
+      onChanged();
+      return this;
+    }
+
+    private int bitField0_;
+
+    private java.lang.Object someString_ = "";
+    /**
+     * <code>string some_string = 1;</code>
+     * @return The someString.
+     */
+    public java.lang.String getSomeString() {
+      java.lang.Object ref = someString_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        someString_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string some_string = 1;</code>
+     * @return The bytes for someString.
+     */
+    public com.google.protobuf.ByteString
+        getSomeStringBytes() {
+      java.lang.Object ref = someString_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        someString_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string some_string = 1;</code>
+     * @param value The someString to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSomeString(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      someString_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string some_string = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSomeString() {
+      someString_ = getDefaultInstance().getSomeString();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string some_string = 1;</code>
+     * @param value The bytes for someString to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSomeStringBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      someString_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.markosindustries.parquito.schemas.ExampleChild, com.markosindustries.parquito.schemas.ExampleChild.Builder, com.markosindustries.parquito.schemas.ExampleChildOrBuilder> someChildBuilder_;
+    /**
+     * <code>.parquito.ExampleChild some_child = 2;</code>
+     * @return Whether the someChild field is set.
+     */
+    @java.lang.Override
+    public boolean hasSomeChild() {
+      return exampleOneofCase_ == 2;
+    }
+    /**
+     * <code>.parquito.ExampleChild some_child = 2;</code>
+     * @return The someChild.
+     */
+    @java.lang.Override
+    public com.markosindustries.parquito.schemas.ExampleChild getSomeChild() {
+      if (someChildBuilder_ == null) {
+        if (exampleOneofCase_ == 2) {
+          return (com.markosindustries.parquito.schemas.ExampleChild) exampleOneof_;
+        }
+        return com.markosindustries.parquito.schemas.ExampleChild.getDefaultInstance();
+      } else {
+        if (exampleOneofCase_ == 2) {
+          return someChildBuilder_.getMessage();
+        }
+        return com.markosindustries.parquito.schemas.ExampleChild.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.parquito.ExampleChild some_child = 2;</code>
+     */
+    public Builder setSomeChild(com.markosindustries.parquito.schemas.ExampleChild value) {
+      if (someChildBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        exampleOneof_ = value;
+        onChanged();
+      } else {
+        someChildBuilder_.setMessage(value);
+      }
+      exampleOneofCase_ = 2;
+      return this;
+    }
+    /**
+     * <code>.parquito.ExampleChild some_child = 2;</code>
+     */
+    public Builder setSomeChild(
+        com.markosindustries.parquito.schemas.ExampleChild.Builder builderForValue) {
+      if (someChildBuilder_ == null) {
+        exampleOneof_ = builderForValue.build();
+        onChanged();
+      } else {
+        someChildBuilder_.setMessage(builderForValue.build());
+      }
+      exampleOneofCase_ = 2;
+      return this;
+    }
+    /**
+     * <code>.parquito.ExampleChild some_child = 2;</code>
+     */
+    public Builder mergeSomeChild(com.markosindustries.parquito.schemas.ExampleChild value) {
+      if (someChildBuilder_ == null) {
+        if (exampleOneofCase_ == 2 &&
+            exampleOneof_ != com.markosindustries.parquito.schemas.ExampleChild.getDefaultInstance()) {
+          exampleOneof_ = com.markosindustries.parquito.schemas.ExampleChild.newBuilder((com.markosindustries.parquito.schemas.ExampleChild) exampleOneof_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          exampleOneof_ = value;
+        }
+        onChanged();
+      } else {
+        if (exampleOneofCase_ == 2) {
+          someChildBuilder_.mergeFrom(value);
+        } else {
+          someChildBuilder_.setMessage(value);
+        }
+      }
+      exampleOneofCase_ = 2;
+      return this;
+    }
+    /**
+     * <code>.parquito.ExampleChild some_child = 2;</code>
+     */
+    public Builder clearSomeChild() {
+      if (someChildBuilder_ == null) {
+        if (exampleOneofCase_ == 2) {
+          exampleOneofCase_ = 0;
+          exampleOneof_ = null;
+          onChanged();
+        }
+      } else {
+        if (exampleOneofCase_ == 2) {
+          exampleOneofCase_ = 0;
+          exampleOneof_ = null;
+        }
+        someChildBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.parquito.ExampleChild some_child = 2;</code>
+     */
+    public com.markosindustries.parquito.schemas.ExampleChild.Builder getSomeChildBuilder() {
+      return getSomeChildFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.parquito.ExampleChild some_child = 2;</code>
+     */
+    @java.lang.Override
+    public com.markosindustries.parquito.schemas.ExampleChildOrBuilder getSomeChildOrBuilder() {
+      if ((exampleOneofCase_ == 2) && (someChildBuilder_ != null)) {
+        return someChildBuilder_.getMessageOrBuilder();
+      } else {
+        if (exampleOneofCase_ == 2) {
+          return (com.markosindustries.parquito.schemas.ExampleChild) exampleOneof_;
+        }
+        return com.markosindustries.parquito.schemas.ExampleChild.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.parquito.ExampleChild some_child = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        com.markosindustries.parquito.schemas.ExampleChild, com.markosindustries.parquito.schemas.ExampleChild.Builder, com.markosindustries.parquito.schemas.ExampleChildOrBuilder> 
+        getSomeChildFieldBuilder() {
+      if (someChildBuilder_ == null) {
+        if (!(exampleOneofCase_ == 2)) {
+          exampleOneof_ = com.markosindustries.parquito.schemas.ExampleChild.getDefaultInstance();
+        }
+        someChildBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            com.markosindustries.parquito.schemas.ExampleChild, com.markosindustries.parquito.schemas.ExampleChild.Builder, com.markosindustries.parquito.schemas.ExampleChildOrBuilder>(
+                (com.markosindustries.parquito.schemas.ExampleChild) exampleOneof_,
+                getParentForChildren(),
+                isClean());
+        exampleOneof_ = null;
+      }
+      exampleOneofCase_ = 2;
+      onChanged();
+      return someChildBuilder_;
+    }
+
+    /**
+     * <code>.parquito.ExampleEnum some_enum = 3;</code>
+     * @return Whether the someEnum field is set.
+     */
+    @java.lang.Override
+    public boolean hasSomeEnum() {
+      return exampleOneofCase_ == 3;
+    }
+    /**
+     * <code>.parquito.ExampleEnum some_enum = 3;</code>
+     * @return The enum numeric value on the wire for someEnum.
+     */
+    @java.lang.Override
+    public int getSomeEnumValue() {
+      if (exampleOneofCase_ == 3) {
+        return ((java.lang.Integer) exampleOneof_).intValue();
+      }
+      return 0;
+    }
+    /**
+     * <code>.parquito.ExampleEnum some_enum = 3;</code>
+     * @param value The enum numeric value on the wire for someEnum to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSomeEnumValue(int value) {
+      exampleOneofCase_ = 3;
+      exampleOneof_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.parquito.ExampleEnum some_enum = 3;</code>
+     * @return The someEnum.
+     */
+    @java.lang.Override
+    public com.markosindustries.parquito.schemas.ExampleEnum getSomeEnum() {
+      if (exampleOneofCase_ == 3) {
+        com.markosindustries.parquito.schemas.ExampleEnum result = com.markosindustries.parquito.schemas.ExampleEnum.forNumber(
+            (java.lang.Integer) exampleOneof_);
+        return result == null ? com.markosindustries.parquito.schemas.ExampleEnum.UNRECOGNIZED : result;
+      }
+      return com.markosindustries.parquito.schemas.ExampleEnum.EXAMPLE_ENUM_UNKNOWN;
+    }
+    /**
+     * <code>.parquito.ExampleEnum some_enum = 3;</code>
+     * @param value The someEnum to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSomeEnum(com.markosindustries.parquito.schemas.ExampleEnum value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      exampleOneofCase_ = 3;
+      exampleOneof_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.parquito.ExampleEnum some_enum = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSomeEnum() {
+      if (exampleOneofCase_ == 3) {
+        exampleOneofCase_ = 0;
+        exampleOneof_ = null;
+        onChanged();
+      }
+      return this;
+    }
+
+    private java.util.List<com.markosindustries.parquito.schemas.Example.ExampleRepeated> someRepeated_ =
+      java.util.Collections.emptyList();
+    private void ensureSomeRepeatedIsMutable() {
+      if (!((bitField0_ & 0x00000008) != 0)) {
+        someRepeated_ = new java.util.ArrayList<com.markosindustries.parquito.schemas.Example.ExampleRepeated>(someRepeated_);
+        bitField0_ |= 0x00000008;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.markosindustries.parquito.schemas.Example.ExampleRepeated, com.markosindustries.parquito.schemas.Example.ExampleRepeated.Builder, com.markosindustries.parquito.schemas.Example.ExampleRepeatedOrBuilder> someRepeatedBuilder_;
+
+    /**
+     * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+     */
+    public java.util.List<com.markosindustries.parquito.schemas.Example.ExampleRepeated> getSomeRepeatedList() {
+      if (someRepeatedBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(someRepeated_);
+      } else {
+        return someRepeatedBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+     */
+    public int getSomeRepeatedCount() {
+      if (someRepeatedBuilder_ == null) {
+        return someRepeated_.size();
+      } else {
+        return someRepeatedBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+     */
+    public com.markosindustries.parquito.schemas.Example.ExampleRepeated getSomeRepeated(int index) {
+      if (someRepeatedBuilder_ == null) {
+        return someRepeated_.get(index);
+      } else {
+        return someRepeatedBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+     */
+    public Builder setSomeRepeated(
+        int index, com.markosindustries.parquito.schemas.Example.ExampleRepeated value) {
+      if (someRepeatedBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureSomeRepeatedIsMutable();
+        someRepeated_.set(index, value);
+        onChanged();
+      } else {
+        someRepeatedBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+     */
+    public Builder setSomeRepeated(
+        int index, com.markosindustries.parquito.schemas.Example.ExampleRepeated.Builder builderForValue) {
+      if (someRepeatedBuilder_ == null) {
+        ensureSomeRepeatedIsMutable();
+        someRepeated_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        someRepeatedBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+     */
+    public Builder addSomeRepeated(com.markosindustries.parquito.schemas.Example.ExampleRepeated value) {
+      if (someRepeatedBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureSomeRepeatedIsMutable();
+        someRepeated_.add(value);
+        onChanged();
+      } else {
+        someRepeatedBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+     */
+    public Builder addSomeRepeated(
+        int index, com.markosindustries.parquito.schemas.Example.ExampleRepeated value) {
+      if (someRepeatedBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureSomeRepeatedIsMutable();
+        someRepeated_.add(index, value);
+        onChanged();
+      } else {
+        someRepeatedBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+     */
+    public Builder addSomeRepeated(
+        com.markosindustries.parquito.schemas.Example.ExampleRepeated.Builder builderForValue) {
+      if (someRepeatedBuilder_ == null) {
+        ensureSomeRepeatedIsMutable();
+        someRepeated_.add(builderForValue.build());
+        onChanged();
+      } else {
+        someRepeatedBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+     */
+    public Builder addSomeRepeated(
+        int index, com.markosindustries.parquito.schemas.Example.ExampleRepeated.Builder builderForValue) {
+      if (someRepeatedBuilder_ == null) {
+        ensureSomeRepeatedIsMutable();
+        someRepeated_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        someRepeatedBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+     */
+    public Builder addAllSomeRepeated(
+        java.lang.Iterable<? extends com.markosindustries.parquito.schemas.Example.ExampleRepeated> values) {
+      if (someRepeatedBuilder_ == null) {
+        ensureSomeRepeatedIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, someRepeated_);
+        onChanged();
+      } else {
+        someRepeatedBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+     */
+    public Builder clearSomeRepeated() {
+      if (someRepeatedBuilder_ == null) {
+        someRepeated_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+      } else {
+        someRepeatedBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+     */
+    public Builder removeSomeRepeated(int index) {
+      if (someRepeatedBuilder_ == null) {
+        ensureSomeRepeatedIsMutable();
+        someRepeated_.remove(index);
+        onChanged();
+      } else {
+        someRepeatedBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+     */
+    public com.markosindustries.parquito.schemas.Example.ExampleRepeated.Builder getSomeRepeatedBuilder(
+        int index) {
+      return getSomeRepeatedFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+     */
+    public com.markosindustries.parquito.schemas.Example.ExampleRepeatedOrBuilder getSomeRepeatedOrBuilder(
+        int index) {
+      if (someRepeatedBuilder_ == null) {
+        return someRepeated_.get(index);  } else {
+        return someRepeatedBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+     */
+    public java.util.List<? extends com.markosindustries.parquito.schemas.Example.ExampleRepeatedOrBuilder> 
+         getSomeRepeatedOrBuilderList() {
+      if (someRepeatedBuilder_ != null) {
+        return someRepeatedBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(someRepeated_);
+      }
+    }
+    /**
+     * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+     */
+    public com.markosindustries.parquito.schemas.Example.ExampleRepeated.Builder addSomeRepeatedBuilder() {
+      return getSomeRepeatedFieldBuilder().addBuilder(
+          com.markosindustries.parquito.schemas.Example.ExampleRepeated.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+     */
+    public com.markosindustries.parquito.schemas.Example.ExampleRepeated.Builder addSomeRepeatedBuilder(
+        int index) {
+      return getSomeRepeatedFieldBuilder().addBuilder(
+          index, com.markosindustries.parquito.schemas.Example.ExampleRepeated.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+     */
+    public java.util.List<com.markosindustries.parquito.schemas.Example.ExampleRepeated.Builder> 
+         getSomeRepeatedBuilderList() {
+      return getSomeRepeatedFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        com.markosindustries.parquito.schemas.Example.ExampleRepeated, com.markosindustries.parquito.schemas.Example.ExampleRepeated.Builder, com.markosindustries.parquito.schemas.Example.ExampleRepeatedOrBuilder> 
+        getSomeRepeatedFieldBuilder() {
+      if (someRepeatedBuilder_ == null) {
+        someRepeatedBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            com.markosindustries.parquito.schemas.Example.ExampleRepeated, com.markosindustries.parquito.schemas.Example.ExampleRepeated.Builder, com.markosindustries.parquito.schemas.Example.ExampleRepeatedOrBuilder>(
+                someRepeated_,
+                ((bitField0_ & 0x00000008) != 0),
+                getParentForChildren(),
+                isClean());
+        someRepeated_ = null;
+      }
+      return someRepeatedBuilder_;
+    }
+
+    private com.google.protobuf.MapField<
+        java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild> someMap_;
+    private com.google.protobuf.MapField<java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild>
+        internalGetSomeMap() {
+      if (someMap_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            SomeMapDefaultEntryHolder.defaultEntry);
+      }
+      return someMap_;
+    }
+    private com.google.protobuf.MapField<java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild>
+        internalGetMutableSomeMap() {
+      if (someMap_ == null) {
+        someMap_ = com.google.protobuf.MapField.newMapField(
+            SomeMapDefaultEntryHolder.defaultEntry);
+      }
+      if (!someMap_.isMutable()) {
+        someMap_ = someMap_.copy();
+      }
+      bitField0_ |= 0x00000010;
+      onChanged();
+      return someMap_;
+    }
+    public int getSomeMapCount() {
+      return internalGetSomeMap().getMap().size();
+    }
+    /**
+     * <code>map&lt;uint64, .parquito.ExampleChild&gt; some_map = 6;</code>
+     */
+    @java.lang.Override
+    public boolean containsSomeMap(
+        long key) {
+
+      return internalGetSomeMap().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getSomeMapMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild> getSomeMap() {
+      return getSomeMapMap();
+    }
+    /**
+     * <code>map&lt;uint64, .parquito.ExampleChild&gt; some_map = 6;</code>
+     */
+    @java.lang.Override
+    public java.util.Map<java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild> getSomeMapMap() {
+      return internalGetSomeMap().getMap();
+    }
+    /**
+     * <code>map&lt;uint64, .parquito.ExampleChild&gt; some_map = 6;</code>
+     */
+    @java.lang.Override
+    public /* nullable */
+com.markosindustries.parquito.schemas.ExampleChild getSomeMapOrDefault(
+        long key,
+        /* nullable */
+com.markosindustries.parquito.schemas.ExampleChild defaultValue) {
+
+      java.util.Map<java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild> map =
+          internalGetSomeMap().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;uint64, .parquito.ExampleChild&gt; some_map = 6;</code>
+     */
+    @java.lang.Override
+    public com.markosindustries.parquito.schemas.ExampleChild getSomeMapOrThrow(
+        long key) {
+
+      java.util.Map<java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild> map =
+          internalGetSomeMap().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+    public Builder clearSomeMap() {
+      bitField0_ = (bitField0_ & ~0x00000010);
+      internalGetMutableSomeMap().getMutableMap()
+          .clear();
+      return this;
+    }
+    /**
+     * <code>map&lt;uint64, .parquito.ExampleChild&gt; some_map = 6;</code>
+     */
+    public Builder removeSomeMap(
+        long key) {
+
+      internalGetMutableSomeMap().getMutableMap()
+          .remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild>
+        getMutableSomeMap() {
+      bitField0_ |= 0x00000010;
+      return internalGetMutableSomeMap().getMutableMap();
+    }
+    /**
+     * <code>map&lt;uint64, .parquito.ExampleChild&gt; some_map = 6;</code>
+     */
+    public Builder putSomeMap(
+        long key,
+        com.markosindustries.parquito.schemas.ExampleChild value) {
+
+      if (value == null) { throw new NullPointerException("map value"); }
+      internalGetMutableSomeMap().getMutableMap()
+          .put(key, value);
+      bitField0_ |= 0x00000010;
+      return this;
+    }
+    /**
+     * <code>map&lt;uint64, .parquito.ExampleChild&gt; some_map = 6;</code>
+     */
+    public Builder putAllSomeMap(
+        java.util.Map<java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild> values) {
+      internalGetMutableSomeMap().getMutableMap()
+          .putAll(values);
+      bitField0_ |= 0x00000010;
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:parquito.Example)
+  }
+
+  // @@protoc_insertion_point(class_scope:parquito.Example)
+  private static final com.markosindustries.parquito.schemas.Example DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.markosindustries.parquito.schemas.Example();
+  }
+
+  public static com.markosindustries.parquito.schemas.Example getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<Example>
+      PARSER = new com.google.protobuf.AbstractParser<Example>() {
+    @java.lang.Override
+    public Example parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<Example> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<Example> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.markosindustries.parquito.schemas.Example getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
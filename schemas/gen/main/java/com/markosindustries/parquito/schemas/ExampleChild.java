@@ -0,0 +1,1034 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: parquito.proto
+
+package com.markosindustries.parquito.schemas;
+
+/**
+ * Protobuf type {@code parquito.ExampleChild}
+ */
+public final class ExampleChild extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:parquito.ExampleChild)
+    ExampleChildOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ExampleChild.newBuilder() to construct.
+  private ExampleChild(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ExampleChild() {
+    someString_ = "";
+    someStrings_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    someBinary_ = com.google.protobuf.ByteString.EMPTY;
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ExampleChild();
+  }
+
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return com.markosindustries.parquito.schemas.Parquito.internal_static_parquito_ExampleChild_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return com.markosindustries.parquito.schemas.Parquito.internal_static_parquito_ExampleChild_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            com.markosindustries.parquito.schemas.ExampleChild.class, com.markosindustries.parquito.schemas.ExampleChild.Builder.class);
+  }
+
+  public static final int SOME_STRING_FIELD_NUMBER = 1;
+  @SuppressWarnings("serial")
+  private volatile java.lang.Object someString_ = "";
+  /**
+   * <code>string some_string = 1;</code>
+   * @return The someString.
+   */
+  @java.lang.Override
+  public java.lang.String getSomeString() {
+    java.lang.Object ref = someString_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      someString_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string some_string = 1;</code>
+   * @return The bytes for someString.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getSomeStringBytes() {
+    java.lang.Object ref = someString_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      someString_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int SOME_STRINGS_FIELD_NUMBER = 2;
+  @SuppressWarnings("serial")
+  private com.google.protobuf.LazyStringArrayList someStrings_ =
+      com.google.protobuf.LazyStringArrayList.emptyList();
+  /**
+   * <code>repeated string some_strings = 2;</code>
+   * @return A list containing the someStrings.
+   */
+  public com.google.protobuf.ProtocolStringList
+      getSomeStringsList() {
+    return someStrings_;
+  }
+  /**
+   * <code>repeated string some_strings = 2;</code>
+   * @return The count of someStrings.
+   */
+  public int getSomeStringsCount() {
+    return someStrings_.size();
+  }
+  /**
+   * <code>repeated string some_strings = 2;</code>
+   * @param index The index of the element to return.
+   * @return The someStrings at the given index.
+   */
+  public java.lang.String getSomeStrings(int index) {
+    return someStrings_.get(index);
+  }
+  /**
+   * <code>repeated string some_strings = 2;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the someStrings at the given index.
+   */
+  public com.google.protobuf.ByteString
+      getSomeStringsBytes(int index) {
+    return someStrings_.getByteString(index);
+  }
+
+  public static final int SOME_INT32_FIELD_NUMBER = 3;
+  private int someInt32_ = 0;
+  /**
+   * <code>uint32 some_int32 = 3;</code>
+   * @return The someInt32.
+   */
+  @java.lang.Override
+  public int getSomeInt32() {
+    return someInt32_;
+  }
+
+  public static final int SOME_INT64_FIELD_NUMBER = 4;
+  private long someInt64_ = 0L;
+  /**
+   * <code>uint64 some_int64 = 4;</code>
+   * @return The someInt64.
+   */
+  @java.lang.Override
+  public long getSomeInt64() {
+    return someInt64_;
+  }
+
+  public static final int SOME_FLOAT_FIELD_NUMBER = 5;
+  private float someFloat_ = 0F;
+  /**
+   * <code>float some_float = 5;</code>
+   * @return The someFloat.
+   */
+  @java.lang.Override
+  public float getSomeFloat() {
+    return someFloat_;
+  }
+
+  public static final int SOME_DOUBLE_FIELD_NUMBER = 6;
+  private double someDouble_ = 0D;
+  /**
+   * <code>double some_double = 6;</code>
+   * @return The someDouble.
+   */
+  @java.lang.Override
+  public double getSomeDouble() {
+    return someDouble_;
+  }
+
+  public static final int SOME_BINARY_FIELD_NUMBER = 7;
+  private com.google.protobuf.ByteString someBinary_ = com.google.protobuf.ByteString.EMPTY;
+  /**
+   * <code>bytes some_binary = 7;</code>
+   * @return The someBinary.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString getSomeBinary() {
+    return someBinary_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(someString_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, someString_);
+    }
+    for (int i = 0; i < someStrings_.size(); i++) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, someStrings_.getRaw(i));
+    }
+    if (someInt32_ != 0) {
+      output.writeUInt32(3, someInt32_);
+    }
+    if (someInt64_ != 0L) {
+      output.writeUInt64(4, someInt64_);
+    }
+    if (java.lang.Float.floatToRawIntBits(someFloat_) != 0) {
+      output.writeFloat(5, someFloat_);
+    }
+    if (java.lang.Double.doubleToRawLongBits(someDouble_) != 0) {
+      output.writeDouble(6, someDouble_);
+    }
+    if (!someBinary_.isEmpty()) {
+      output.writeBytes(7, someBinary_);
+    }
+    getUnknownFields().writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(someString_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, someString_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < someStrings_.size(); i++) {
+        dataSize += computeStringSizeNoTag(someStrings_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getSomeStringsList().size();
+    }
+    if (someInt32_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(3, someInt32_);
+    }
+    if (someInt64_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt64Size(4, someInt64_);
+    }
+    if (java.lang.Float.floatToRawIntBits(someFloat_) != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeFloatSize(5, someFloat_);
+    }
+    if (java.lang.Double.doubleToRawLongBits(someDouble_) != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeDoubleSize(6, someDouble_);
+    }
+    if (!someBinary_.isEmpty()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBytesSize(7, someBinary_);
+    }
+    size += getUnknownFields().getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof com.markosindustries.parquito.schemas.ExampleChild)) {
+      return super.equals(obj);
+    }
+    com.markosindustries.parquito.schemas.ExampleChild other = (com.markosindustries.parquito.schemas.ExampleChild) obj;
+
+    if (!getSomeString()
+        .equals(other.getSomeString())) return false;
+    if (!getSomeStringsList()
+        .equals(other.getSomeStringsList())) return false;
+    if (getSomeInt32()
+        != other.getSomeInt32()) return false;
+    if (getSomeInt64()
+        != other.getSomeInt64()) return false;
+    if (java.lang.Float.floatToIntBits(getSomeFloat())
+        != java.lang.Float.floatToIntBits(
+            other.getSomeFloat())) return false;
+    if (java.lang.Double.doubleToLongBits(getSomeDouble())
+        != java.lang.Double.doubleToLongBits(
+            other.getSomeDouble())) return false;
+    if (!getSomeBinary()
+        .equals(other.getSomeBinary())) return false;
+    if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + SOME_STRING_FIELD_NUMBER;
+    hash = (53 * hash) + getSomeString().hashCode();
+    if (getSomeStringsCount() > 0) {
+      hash = (37 * hash) + SOME_STRINGS_FIELD_NUMBER;
+      hash = (53 * hash) + getSomeStringsList().hashCode();
+    }
+    hash = (37 * hash) + SOME_INT32_FIELD_NUMBER;
+    hash = (53 * hash) + getSomeInt32();
+    hash = (37 * hash) + SOME_INT64_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getSomeInt64());
+    hash = (37 * hash) + SOME_FLOAT_FIELD_NUMBER;
+    hash = (53 * hash) + java.lang.Float.floatToIntBits(
+        getSomeFloat());
+    hash = (37 * hash) + SOME_DOUBLE_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        java.lang.Double.doubleToLongBits(getSomeDouble()));
+    hash = (37 * hash) + SOME_BINARY_FIELD_NUMBER;
+    hash = (53 * hash) + getSomeBinary().hashCode();
+    hash = (29 * hash) + getUnknownFields().hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static com.markosindustries.parquito.schemas.ExampleChild parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.markosindustries.parquito.schemas.ExampleChild parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.markosindustries.parquito.schemas.ExampleChild parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.markosindustries.parquito.schemas.ExampleChild parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.markosindustries.parquito.schemas.ExampleChild parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static com.markosindustries.parquito.schemas.ExampleChild parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static com.markosindustries.parquito.schemas.ExampleChild parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.markosindustries.parquito.schemas.ExampleChild parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  public static com.markosindustries.parquito.schemas.ExampleChild parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+
+  public static com.markosindustries.parquito.schemas.ExampleChild parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static com.markosindustries.parquito.schemas.ExampleChild parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static com.markosindustries.parquito.schemas.ExampleChild parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(com.markosindustries.parquito.schemas.ExampleChild prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code parquito.ExampleChild}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:parquito.ExampleChild)
+      com.markosindustries.parquito.schemas.ExampleChildOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.markosindustries.parquito.schemas.Parquito.internal_static_parquito_ExampleChild_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.markosindustries.parquito.schemas.Parquito.internal_static_parquito_ExampleChild_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.markosindustries.parquito.schemas.ExampleChild.class, com.markosindustries.parquito.schemas.ExampleChild.Builder.class);
+    }
+
+    // Construct using com.markosindustries.parquito.schemas.ExampleChild.newBuilder()
+    private Builder() {
+
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      bitField0_ = 0;
+      someString_ = "";
+      someStrings_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      someInt32_ = 0;
+      someInt64_ = 0L;
+      someFloat_ = 0F;
+      someDouble_ = 0D;
+      someBinary_ = com.google.protobuf.ByteString.EMPTY;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return com.markosindustries.parquito.schemas.Parquito.internal_static_parquito_ExampleChild_descriptor;
+    }
+
+    @java.lang.Override
+    public com.markosindustries.parquito.schemas.ExampleChild getDefaultInstanceForType() {
+      return com.markosindustries.parquito.schemas.ExampleChild.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public com.markosindustries.parquito.schemas.ExampleChild build() {
+      com.markosindustries.parquito.schemas.ExampleChild result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public com.markosindustries.parquito.schemas.ExampleChild buildPartial() {
+      com.markosindustries.parquito.schemas.ExampleChild result = new com.markosindustries.parquito.schemas.ExampleChild(this);
+      if (bitField0_ != 0) { buildPartial0(result); }
+      onBuilt();
+      return result;
+    }
+
+    private void buildPartial0(com.markosindustries.parquito.schemas.ExampleChild result) {
+      int from_bitField0_ = bitField0_;
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.someString_ = someString_;
+      }
+      if (((from_bitField0_ & 0x00000002) != 0)) {
+        someStrings_.makeImmutable();
+        result.someStrings_ = someStrings_;
+      }
+      if (((from_bitField0_ & 0x00000004) != 0)) {
+        result.someInt32_ = someInt32_;
+      }
+      if (((from_bitField0_ & 0x00000008) != 0)) {
+        result.someInt64_ = someInt64_;
+      }
+      if (((from_bitField0_ & 0x00000010) != 0)) {
+        result.someFloat_ = someFloat_;
+      }
+      if (((from_bitField0_ & 0x00000020) != 0)) {
+        result.someDouble_ = someDouble_;
+      }
+      if (((from_bitField0_ & 0x00000040) != 0)) {
+        result.someBinary_ = someBinary_;
+      }
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof com.markosindustries.parquito.schemas.ExampleChild) {
+        return mergeFrom((com.markosindustries.parquito.schemas.ExampleChild)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(com.markosindustries.parquito.schemas.ExampleChild other) {
+      if (other == com.markosindustries.parquito.schemas.ExampleChild.getDefaultInstance()) return this;
+      if (!other.getSomeString().isEmpty()) {
+        someString_ = other.someString_;
+        bitField0_ |= 0x00000001;
+        onChanged();
+      }
+      if (!other.someStrings_.isEmpty()) {
+        if (someStrings_.isEmpty()) {
+          someStrings_ = other.someStrings_;
+          bitField0_ |= 0x00000002;
+        } else {
+          ensureSomeStringsIsMutable();
+          someStrings_.addAll(other.someStrings_);
+        }
+        onChanged();
+      }
+      if (other.getSomeInt32() != 0) {
+        setSomeInt32(other.getSomeInt32());
+      }
+      if (other.getSomeInt64() != 0L) {
+        setSomeInt64(other.getSomeInt64());
+      }
+      if (other.getSomeFloat() != 0F) {
+        setSomeFloat(other.getSomeFloat());
+      }
+      if (other.getSomeDouble() != 0D) {
+        setSomeDouble(other.getSomeDouble());
+      }
+      if (other.getSomeBinary() != com.google.protobuf.ByteString.EMPTY) {
+        setSomeBinary(other.getSomeBinary());
+      }
+      this.mergeUnknownFields(other.getUnknownFields());
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              someString_ = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              break;
+            } // case 10
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+              ensureSomeStringsIsMutable();
+              someStrings_.add(s);
+              break;
+            } // case 18
+            case 24: {
+              someInt32_ = input.readUInt32();
+              bitField0_ |= 0x00000004;
+              break;
+            } // case 24
+            case 32: {
+              someInt64_ = input.readUInt64();
+              bitField0_ |= 0x00000008;
+              break;
+            } // case 32
+            case 45: {
+              someFloat_ = input.readFloat();
+              bitField0_ |= 0x00000010;
+              break;
+            } // case 45
+            case 49: {
+              someDouble_ = input.readDouble();
+              bitField0_ |= 0x00000020;
+              break;
+            } // case 49
+            case 58: {
+              someBinary_ = input.readBytes();
+              bitField0_ |= 0x00000040;
+              break;
+            } // case 58
+            default: {
+              if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                done = true; // was an endgroup tag
+              }
+              break;
+            } // default:
+          } // switch (tag)
+        } // while (!done)
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.unwrapIOException();
+      } finally {
+        onChanged();
+      } // finally
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object someString_ = "";
+    /**
+     * <code>string some_string = 1;</code>
+     * @return The someString.
+     */
+    public java.lang.String getSomeString() {
+      java.lang.Object ref = someString_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        someString_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string some_string = 1;</code>
+     * @return The bytes for someString.
+     */
+    public com.google.protobuf.ByteString
+        getSomeStringBytes() {
+      java.lang.Object ref = someString_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        someString_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string some_string = 1;</code>
+     * @param value The someString to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSomeString(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      someString_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string some_string = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSomeString() {
+      someString_ = getDefaultInstance().getSomeString();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string some_string = 1;</code>
+     * @param value The bytes for someString to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSomeStringBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      someString_ = value;
+      bitField0_ |= 0x00000001;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.LazyStringArrayList someStrings_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    private void ensureSomeStringsIsMutable() {
+      if (!someStrings_.isModifiable()) {
+        someStrings_ = new com.google.protobuf.LazyStringArrayList(someStrings_);
+      }
+      bitField0_ |= 0x00000002;
+    }
+    /**
+     * <code>repeated string some_strings = 2;</code>
+     * @return A list containing the someStrings.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getSomeStringsList() {
+      someStrings_.makeImmutable();
+      return someStrings_;
+    }
+    /**
+     * <code>repeated string some_strings = 2;</code>
+     * @return The count of someStrings.
+     */
+    public int getSomeStringsCount() {
+      return someStrings_.size();
+    }
+    /**
+     * <code>repeated string some_strings = 2;</code>
+     * @param index The index of the element to return.
+     * @return The someStrings at the given index.
+     */
+    public java.lang.String getSomeStrings(int index) {
+      return someStrings_.get(index);
+    }
+    /**
+     * <code>repeated string some_strings = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the someStrings at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getSomeStringsBytes(int index) {
+      return someStrings_.getByteString(index);
+    }
+    /**
+     * <code>repeated string some_strings = 2;</code>
+     * @param index The index to set the value at.
+     * @param value The someStrings to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSomeStrings(
+        int index, java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      ensureSomeStringsIsMutable();
+      someStrings_.set(index, value);
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string some_strings = 2;</code>
+     * @param value The someStrings to add.
+     * @return This builder for chaining.
+     */
+    public Builder addSomeStrings(
+        java.lang.String value) {
+      if (value == null) { throw new NullPointerException(); }
+      ensureSomeStringsIsMutable();
+      someStrings_.add(value);
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string some_strings = 2;</code>
+     * @param values The someStrings to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllSomeStrings(
+        java.lang.Iterable<java.lang.String> values) {
+      ensureSomeStringsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, someStrings_);
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string some_strings = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSomeStrings() {
+      someStrings_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+      bitField0_ = (bitField0_ & ~0x00000002);;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string some_strings = 2;</code>
+     * @param value The bytes of the someStrings to add.
+     * @return This builder for chaining.
+     */
+    public Builder addSomeStringsBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      checkByteStringIsUtf8(value);
+      ensureSomeStringsIsMutable();
+      someStrings_.add(value);
+      bitField0_ |= 0x00000002;
+      onChanged();
+      return this;
+    }
+
+    private int someInt32_ ;
+    /**
+     * <code>uint32 some_int32 = 3;</code>
+     * @return The someInt32.
+     */
+    @java.lang.Override
+    public int getSomeInt32() {
+      return someInt32_;
+    }
+    /**
+     * <code>uint32 some_int32 = 3;</code>
+     * @param value The someInt32 to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSomeInt32(int value) {
+
+      someInt32_ = value;
+      bitField0_ |= 0x00000004;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint32 some_int32 = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSomeInt32() {
+      bitField0_ = (bitField0_ & ~0x00000004);
+      someInt32_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private long someInt64_ ;
+    /**
+     * <code>uint64 some_int64 = 4;</code>
+     * @return The someInt64.
+     */
+    @java.lang.Override
+    public long getSomeInt64() {
+      return someInt64_;
+    }
+    /**
+     * <code>uint64 some_int64 = 4;</code>
+     * @param value The someInt64 to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSomeInt64(long value) {
+
+      someInt64_ = value;
+      bitField0_ |= 0x00000008;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint64 some_int64 = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSomeInt64() {
+      bitField0_ = (bitField0_ & ~0x00000008);
+      someInt64_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private float someFloat_ ;
+    /**
+     * <code>float some_float = 5;</code>
+     * @return The someFloat.
+     */
+    @java.lang.Override
+    public float getSomeFloat() {
+      return someFloat_;
+    }
+    /**
+     * <code>float some_float = 5;</code>
+     * @param value The someFloat to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSomeFloat(float value) {
+
+      someFloat_ = value;
+      bitField0_ |= 0x00000010;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>float some_float = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSomeFloat() {
+      bitField0_ = (bitField0_ & ~0x00000010);
+      someFloat_ = 0F;
+      onChanged();
+      return this;
+    }
+
+    private double someDouble_ ;
+    /**
+     * <code>double some_double = 6;</code>
+     * @return The someDouble.
+     */
+    @java.lang.Override
+    public double getSomeDouble() {
+      return someDouble_;
+    }
+    /**
+     * <code>double some_double = 6;</code>
+     * @param value The someDouble to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSomeDouble(double value) {
+
+      someDouble_ = value;
+      bitField0_ |= 0x00000020;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>double some_double = 6;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSomeDouble() {
+      bitField0_ = (bitField0_ & ~0x00000020);
+      someDouble_ = 0D;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.ByteString someBinary_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>bytes some_binary = 7;</code>
+     * @return The someBinary.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getSomeBinary() {
+      return someBinary_;
+    }
+    /**
+     * <code>bytes some_binary = 7;</code>
+     * @param value The someBinary to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSomeBinary(com.google.protobuf.ByteString value) {
+      if (value == null) { throw new NullPointerException(); }
+      someBinary_ = value;
+      bitField0_ |= 0x00000040;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bytes some_binary = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSomeBinary() {
+      bitField0_ = (bitField0_ & ~0x00000040);
+      someBinary_ = getDefaultInstance().getSomeBinary();
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:parquito.ExampleChild)
+  }
+
+  // @@protoc_insertion_point(class_scope:parquito.ExampleChild)
+  private static final com.markosindustries.parquito.schemas.ExampleChild DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new com.markosindustries.parquito.schemas.ExampleChild();
+  }
+
+  public static com.markosindustries.parquito.schemas.ExampleChild getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ExampleChild>
+      PARSER = new com.google.protobuf.AbstractParser<ExampleChild>() {
+    @java.lang.Override
+    public ExampleChild parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      Builder builder = newBuilder();
+      try {
+        builder.mergeFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(builder.buildPartial());
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(e)
+            .setUnfinishedMessage(builder.buildPartial());
+      }
+      return builder.buildPartial();
+    }
+  };
+
+  public static com.google.protobuf.Parser<ExampleChild> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ExampleChild> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.markosindustries.parquito.schemas.ExampleChild getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
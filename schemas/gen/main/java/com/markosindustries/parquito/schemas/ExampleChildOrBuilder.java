@@ -0,0 +1,76 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: parquito.proto
+
+package com.markosindustries.parquito.schemas;
+
+public interface ExampleChildOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:parquito.ExampleChild)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string some_string = 1;</code>
+   * @return The someString.
+   */
+  java.lang.String getSomeString();
+  /**
+   * <code>string some_string = 1;</code>
+   * @return The bytes for someString.
+   */
+  com.google.protobuf.ByteString
+      getSomeStringBytes();
+
+  /**
+   * <code>repeated string some_strings = 2;</code>
+   * @return A list containing the someStrings.
+   */
+  java.util.List<java.lang.String>
+      getSomeStringsList();
+  /**
+   * <code>repeated string some_strings = 2;</code>
+   * @return The count of someStrings.
+   */
+  int getSomeStringsCount();
+  /**
+   * <code>repeated string some_strings = 2;</code>
+   * @param index The index of the element to return.
+   * @return The someStrings at the given index.
+   */
+  java.lang.String getSomeStrings(int index);
+  /**
+   * <code>repeated string some_strings = 2;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the someStrings at the given index.
+   */
+  com.google.protobuf.ByteString
+      getSomeStringsBytes(int index);
+
+  /**
+   * <code>uint32 some_int32 = 3;</code>
+   * @return The someInt32.
+   */
+  int getSomeInt32();
+
+  /**
+   * <code>uint64 some_int64 = 4;</code>
+   * @return The someInt64.
+   */
+  long getSomeInt64();
+
+  /**
+   * <code>float some_float = 5;</code>
+   * @return The someFloat.
+   */
+  float getSomeFloat();
+
+  /**
+   * <code>double some_double = 6;</code>
+   * @return The someDouble.
+   */
+  double getSomeDouble();
+
+  /**
+   * <code>bytes some_binary = 7;</code>
+   * @return The someBinary.
+   */
+  com.google.protobuf.ByteString getSomeBinary();
+}
@@ -0,0 +1,122 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: parquito.proto
+
+package com.markosindustries.parquito.schemas;
+
+/**
+ * Protobuf enum {@code parquito.ExampleEnum}
+ */
+public enum ExampleEnum
+    implements com.google.protobuf.ProtocolMessageEnum {
+  /**
+   * <code>EXAMPLE_ENUM_UNKNOWN = 0;</code>
+   */
+  EXAMPLE_ENUM_UNKNOWN(0),
+  /**
+   * <code>EXAMPLE_ENUM_ONE = 1;</code>
+   */
+  EXAMPLE_ENUM_ONE(1),
+  /**
+   * <code>EXAMPLE_ENUM_TWO = 2;</code>
+   */
+  EXAMPLE_ENUM_TWO(2),
+  UNRECOGNIZED(-1),
+  ;
+
+  /**
+   * <code>EXAMPLE_ENUM_UNKNOWN = 0;</code>
+   */
+  public static final int EXAMPLE_ENUM_UNKNOWN_VALUE = 0;
+  /**
+   * <code>EXAMPLE_ENUM_ONE = 1;</code>
+   */
+  public static final int EXAMPLE_ENUM_ONE_VALUE = 1;
+  /**
+   * <code>EXAMPLE_ENUM_TWO = 2;</code>
+   */
+  public static final int EXAMPLE_ENUM_TWO_VALUE = 2;
+
+
+  public final int getNumber() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalArgumentException(
+          "Can't get the number of an unknown enum value.");
+    }
+    return value;
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   * @deprecated Use {@link #forNumber(int)} instead.
+   */
+  @java.lang.Deprecated
+  public static ExampleEnum valueOf(int value) {
+    return forNumber(value);
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value.
+   */
+  public static ExampleEnum forNumber(int value) {
+    switch (value) {
+      case 0: return EXAMPLE_ENUM_UNKNOWN;
+      case 1: return EXAMPLE_ENUM_ONE;
+      case 2: return EXAMPLE_ENUM_TWO;
+      default: return null;
+    }
+  }
+
+  public static com.google.protobuf.Internal.EnumLiteMap<ExampleEnum>
+      internalGetValueMap() {
+    return internalValueMap;
+  }
+  private static final com.google.protobuf.Internal.EnumLiteMap<
+      ExampleEnum> internalValueMap =
+        new com.google.protobuf.Internal.EnumLiteMap<ExampleEnum>() {
+          public ExampleEnum findValueByNumber(int number) {
+            return ExampleEnum.forNumber(number);
+          }
+        };
+
+  public final com.google.protobuf.Descriptors.EnumValueDescriptor
+      getValueDescriptor() {
+    if (this == UNRECOGNIZED) {
+      throw new java.lang.IllegalStateException(
+          "Can't get the descriptor of an unrecognized enum value.");
+    }
+    return getDescriptor().getValues().get(ordinal());
+  }
+  public final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptorForType() {
+    return getDescriptor();
+  }
+  public static final com.google.protobuf.Descriptors.EnumDescriptor
+      getDescriptor() {
+    return com.markosindustries.parquito.schemas.Parquito.getDescriptor().getEnumTypes().get(0);
+  }
+
+  private static final ExampleEnum[] VALUES = values();
+
+  public static ExampleEnum valueOf(
+      com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    if (desc.getType() != getDescriptor()) {
+      throw new java.lang.IllegalArgumentException(
+        "EnumValueDescriptor is not for this type.");
+    }
+    if (desc.getIndex() == -1) {
+      return UNRECOGNIZED;
+    }
+    return VALUES[desc.getIndex()];
+  }
+
+  private final int value;
+
+  private ExampleEnum(int value) {
+    this.value = value;
+  }
+
+  // @@protoc_insertion_point(enum_scope:parquito.ExampleEnum)
+}
+
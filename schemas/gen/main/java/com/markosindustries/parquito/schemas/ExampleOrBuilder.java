@@ -0,0 +1,112 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: parquito.proto
+
+package com.markosindustries.parquito.schemas;
+
+public interface ExampleOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:parquito.Example)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string some_string = 1;</code>
+   * @return The someString.
+   */
+  java.lang.String getSomeString();
+  /**
+   * <code>string some_string = 1;</code>
+   * @return The bytes for someString.
+   */
+  com.google.protobuf.ByteString
+      getSomeStringBytes();
+
+  /**
+   * <code>.parquito.ExampleChild some_child = 2;</code>
+   * @return Whether the someChild field is set.
+   */
+  boolean hasSomeChild();
+  /**
+   * <code>.parquito.ExampleChild some_child = 2;</code>
+   * @return The someChild.
+   */
+  com.markosindustries.parquito.schemas.ExampleChild getSomeChild();
+  /**
+   * <code>.parquito.ExampleChild some_child = 2;</code>
+   */
+  com.markosindustries.parquito.schemas.ExampleChildOrBuilder getSomeChildOrBuilder();
+
+  /**
+   * <code>.parquito.ExampleEnum some_enum = 3;</code>
+   * @return Whether the someEnum field is set.
+   */
+  boolean hasSomeEnum();
+  /**
+   * <code>.parquito.ExampleEnum some_enum = 3;</code>
+   * @return The enum numeric value on the wire for someEnum.
+   */
+  int getSomeEnumValue();
+  /**
+   * <code>.parquito.ExampleEnum some_enum = 3;</code>
+   * @return The someEnum.
+   */
+  com.markosindustries.parquito.schemas.ExampleEnum getSomeEnum();
+
+  /**
+   * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+   */
+  java.util.List<com.markosindustries.parquito.schemas.Example.ExampleRepeated> 
+      getSomeRepeatedList();
+  /**
+   * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+   */
+  com.markosindustries.parquito.schemas.Example.ExampleRepeated getSomeRepeated(int index);
+  /**
+   * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+   */
+  int getSomeRepeatedCount();
+  /**
+   * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+   */
+  java.util.List<? extends com.markosindustries.parquito.schemas.Example.ExampleRepeatedOrBuilder> 
+      getSomeRepeatedOrBuilderList();
+  /**
+   * <code>repeated .parquito.Example.ExampleRepeated some_repeated = 4;</code>
+   */
+  com.markosindustries.parquito.schemas.Example.ExampleRepeatedOrBuilder getSomeRepeatedOrBuilder(
+      int index);
+
+  /**
+   * <code>map&lt;uint64, .parquito.ExampleChild&gt; some_map = 6;</code>
+   */
+  int getSomeMapCount();
+  /**
+   * <code>map&lt;uint64, .parquito.ExampleChild&gt; some_map = 6;</code>
+   */
+  boolean containsSomeMap(
+      long key);
+  /**
+   * Use {@link #getSomeMapMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild>
+  getSomeMap();
+  /**
+   * <code>map&lt;uint64, .parquito.ExampleChild&gt; some_map = 6;</code>
+   */
+  java.util.Map<java.lang.Long, com.markosindustries.parquito.schemas.ExampleChild>
+  getSomeMapMap();
+  /**
+   * <code>map&lt;uint64, .parquito.ExampleChild&gt; some_map = 6;</code>
+   */
+  /* nullable */
+com.markosindustries.parquito.schemas.ExampleChild getSomeMapOrDefault(
+      long key,
+      /* nullable */
+com.markosindustries.parquito.schemas.ExampleChild defaultValue);
+  /**
+   * <code>map&lt;uint64, .parquito.ExampleChild&gt; some_map = 6;</code>
+   */
+  com.markosindustries.parquito.schemas.ExampleChild getSomeMapOrThrow(
+      long key);
+
+  com.markosindustries.parquito.schemas.Example.ExampleOneofCase getExampleOneofCase();
+}
@@ -0,0 +1,97 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: parquito.proto
+
+package com.markosindustries.parquito.schemas;
+
+public final class Parquito {
+  private Parquito() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_parquito_Example_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_parquito_Example_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_parquito_Example_SomeMapEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_parquito_Example_SomeMapEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_parquito_Example_ExampleRepeated_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_parquito_Example_ExampleRepeated_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_parquito_ExampleChild_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_parquito_ExampleChild_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\016parquito.proto\022\010parquito\"\217\003\n\007Example\022\023" +
+      "\n\013some_string\030\001 \001(\t\022,\n\nsome_child\030\002 \001(\0132" +
+      "\026.parquito.ExampleChildH\000\022*\n\tsome_enum\030\003" +
+      " \001(\0162\025.parquito.ExampleEnumH\000\0228\n\rsome_re" +
+      "peated\030\004 \003(\0132!.parquito.Example.ExampleR" +
+      "epeated\0220\n\010some_map\030\006 \003(\0132\036.parquito.Exa" +
+      "mple.SomeMapEntry\032F\n\014SomeMapEntry\022\013\n\003key" +
+      "\030\001 \001(\004\022%\n\005value\030\002 \001(\0132\026.parquito.Example" +
+      "Child:\0028\001\032P\n\017ExampleRepeated\022\023\n\013some_str" +
+      "ing\030\001 \001(\t\022(\n\tsome_enum\030\002 \001(\0162\025.parquito." +
+      "ExampleEnumB\017\n\rexample_oneof\"\237\001\n\014Example" +
+      "Child\022\023\n\013some_string\030\001 \001(\t\022\024\n\014some_strin" +
+      "gs\030\002 \003(\t\022\022\n\nsome_int32\030\003 \001(\r\022\022\n\nsome_int" +
+      "64\030\004 \001(\004\022\022\n\nsome_float\030\005 \001(\002\022\023\n\013some_dou" +
+      "ble\030\006 \001(\001\022\023\n\013some_binary\030\007 \001(\014*S\n\013Exampl" +
+      "eEnum\022\030\n\024EXAMPLE_ENUM_UNKNOWN\020\000\022\024\n\020EXAMP" +
+      "LE_ENUM_ONE\020\001\022\024\n\020EXAMPLE_ENUM_TWO\020\002B)\n%c" +
+      "om.markosindustries.parquito.schemasP\001b\006" +
+      "proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_parquito_Example_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_parquito_Example_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_parquito_Example_descriptor,
+        new java.lang.String[] { "SomeString", "SomeChild", "SomeEnum", "SomeRepeated", "SomeMap", "ExampleOneof", });
+    internal_static_parquito_Example_SomeMapEntry_descriptor =
+      internal_static_parquito_Example_descriptor.getNestedTypes().get(0);
+    internal_static_parquito_Example_SomeMapEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_parquito_Example_SomeMapEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_parquito_Example_ExampleRepeated_descriptor =
+      internal_static_parquito_Example_descriptor.getNestedTypes().get(1);
+    internal_static_parquito_Example_ExampleRepeated_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_parquito_Example_ExampleRepeated_descriptor,
+        new java.lang.String[] { "SomeString", "SomeEnum", });
+    internal_static_parquito_ExampleChild_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_parquito_ExampleChild_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_parquito_ExampleChild_descriptor,
+        new java.lang.String[] { "SomeString", "SomeStrings", "SomeInt32", "SomeInt64", "SomeFloat", "SomeDouble", "SomeBinary", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
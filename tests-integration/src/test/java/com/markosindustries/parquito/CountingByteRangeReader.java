@@ -0,0 +1,53 @@
+package com.markosindustries.parquito;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reads through another {@link ByteRangeReader}, counting the bytes read and the size of the
+ * largest read. It has no identity, so nothing read through it is cached across readers - every
+ * read is counted.
+ */
+public class CountingByteRangeReader implements ByteRangeReader {
+  private final ByteRangeReader byteRangeReader;
+  private final AtomicLong bytesRead = new AtomicLong();
+  private final AtomicLong largestRead = new AtomicLong();
+
+  public CountingByteRangeReader(final ByteRangeReader byteRangeReader) {
+    this.byteRangeReader = byteRangeReader;
+  }
+
+  @Override
+  public long getTotalBytesAvailable() throws IOException {
+    return byteRangeReader.getTotalBytesAvailable();
+  }
+
+  @Override
+  public long readIntoBuffer(final long startByteOffset, final ByteBuffer buffer)
+      throws IOException {
+    largestRead.accumulateAndGet(buffer.remaining(), Math::max);
+    final var read = byteRangeReader.readIntoBuffer(startByteOffset, buffer);
+    bytesRead.addAndGet(Math.max(read, 0));
+    return read;
+  }
+
+  public long getBytesRead() {
+    return bytesRead.get();
+  }
+
+  public long getLargestRead() {
+    return largestRead.get();
+  }
+
+  /** Starts counting again from zero */
+  public void reset() {
+    bytesRead.set(0);
+    largestRead.set(0);
+  }
+
+  @Override
+  public void close() throws Exception {
+    byteRangeReader.close();
+  }
+}
@@ -0,0 +1,151 @@
+package com.markosindustries.parquito.vector;
+
+import com.markosindustries.parquito.kernels.Comparison;
+import com.markosindustries.parquito.kernels.ScalarKernels;
+import java.nio.ByteBuffer;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Kernels using the JDK's incubating Vector API, at the widest vectors the platform prefers. Found
+ * by {@link com.markosindustries.parquito.kernels.Kernels#get()} whenever this module is on the
+ * classpath - but only loadable if the JVM was started with {@code --add-modules
+ * jdk.incubator.vector}.
+ *
+ * <p>Anything the vectors don't help with (such as bit widths over 8, or the tails of arrays) is
+ * left to the scalar kernels.
+ */
+public class VectorKernels extends ScalarKernels {
+  private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+  /** Ints with as many lanes as {@link #LONGS}, for narrowing unpacked values into */
+  private static final VectorSpecies<Integer> INTS_PER_LONGS =
+      VectorSpecies.of(int.class, VectorShape.forBitSize(LONGS.length() * Integer.SIZE));
+
+  @Override
+  public void unpackGroups(
+      final ByteBuffer buffer,
+      final int position,
+      final int bitWidth,
+      final int[] values,
+      final int offset,
+      final int groups) {
+    final var lanes = LONGS.length();
+    if (bitWidth > 8 || lanes < 2) {
+      super.unpackGroups(buffer, position, bitWidth, values, offset, groups);
+      return;
+    }
+
+    // A group's 8 values all lie within its first word, so we broadcast the word to every lane and
+    // shift each lane by a different value's offset - taking as many values at once as there are
+    // lanes
+    final var shiftBits = new long[8];
+    for (int value = 0; value < 8; value++) {
+      shiftBits[value] = (long) value * bitWidth;
+    }
+    final var shifts = new LongVector[8 / lanes];
+    for (int part = 0; part < shifts.length; part++) {
+      shifts[part] = LongVector.fromArray(LONGS, shiftBits, part * lanes);
+    }
+    final var mask = -1L >>> (64 - bitWidth);
+
+    var groupStart = position;
+    for (int index = offset; index < offset + (groups << 3); index += 8) {
+      final var word = LongVector.broadcast(LONGS, buffer.getLong(groupStart));
+      for (int part = 0; part < shifts.length; part++) {
+        word.lanewise(VectorOperators.LSHR, shifts[part])
+            .and(mask)
+            .convertShape(VectorOperators.L2I, INTS_PER_LONGS, 0)
+            .reinterpretAsInts()
+            .intoArray(values, index + part * lanes);
+      }
+      groupStart += bitWidth;
+    }
+  }
+
+  @Override
+  public long prefixSum(
+      final long[] deltas,
+      final int count,
+      final long start,
+      final long[] values,
+      final int offset) {
+    final var lanes = LONGS.length();
+    final var vectorCount = LONGS.loopBound(count);
+    var value = start;
+    for (int delta = 0; delta < vectorCount; delta += lanes) {
+      // Sums within the vector in log(lanes) steps, by adding it to itself shifted up a lane, then
+      // two lanes, and so on - then carries the previous vector's last sum into every lane
+      var sums = LongVector.fromArray(LONGS, deltas, delta);
+      for (int shift = 1; shift < lanes; shift <<= 1) {
+        sums = sums.add(sums.unslice(shift));
+      }
+      sums = sums.add(value);
+      sums.intoArray(values, offset + delta);
+      value = sums.lane(lanes - 1);
+    }
+    for (int delta = vectorCount; delta < count; delta++) {
+      value += deltas[delta];
+      values[offset + delta] = value;
+    }
+    return value;
+  }
+
+  @Override
+  public void select(
+      final long[] values,
+      final int count,
+      final Comparison comparison,
+      final long constant,
+      final long[] selection) {
+    final var operator = operator(comparison);
+    final var lanes = LONGS.length();
+    final var vectorCount = LONGS.loopBound(count);
+    // There are never more than 64 lanes, and a power of two of them - so each vector's mask fits
+    // within a single word of the selection
+    for (int index = 0; index < vectorCount; index += lanes) {
+      final var matches = LongVector.fromArray(LONGS, values, index).compare(operator, constant);
+      selection[index >>> 6] |= matches.toLong() << index;
+    }
+    for (int index = vectorCount; index < count; index++) {
+      if (comparison.test(values[index], constant)) {
+        selection[index >>> 6] |= 1L << index;
+      }
+    }
+  }
+
+  @Override
+  public void select(
+      final int[] values,
+      final int count,
+      final Comparison comparison,
+      final int constant,
+      final long[] selection) {
+    final var operator = operator(comparison);
+    final var lanes = INTS.length();
+    final var vectorCount = INTS.loopBound(count);
+    for (int index = 0; index < vectorCount; index += lanes) {
+      final var matches = IntVector.fromArray(INTS, values, index).compare(operator, constant);
+      selection[index >>> 6] |= matches.toLong() << index;
+    }
+    for (int index = vectorCount; index < count; index++) {
+      if (comparison.test(values[index], constant)) {
+        selection[index >>> 6] |= 1L << index;
+      }
+    }
+  }
+
+  private static VectorOperators.Comparison operator(final Comparison comparison) {
+    return switch (comparison) {
+      case EQUAL -> VectorOperators.EQ;
+      case GREATER_THAN -> VectorOperators.GT;
+      case GREATER_THAN_OR_EQUAL -> VectorOperators.GE;
+      case LESS_THAN -> VectorOperators.LT;
+      case LESS_THAN_OR_EQUAL -> VectorOperators.LE;
+    };
+  }
+}